@@ -0,0 +1,62 @@
+package com.github.kaktushose.jda.commands.benchmark;
+
+import com.github.kaktushose.jda.commands.dependency.DependencyInjector;
+import com.github.kaktushose.jda.commands.dispatching.CommandContext;
+import com.github.kaktushose.jda.commands.dispatching.adapter.TypeAdapterRegistry;
+import com.github.kaktushose.jda.commands.dispatching.filter.FilterRegistry;
+import com.github.kaktushose.jda.commands.dispatching.validation.ValidatorRegistry;
+import com.github.kaktushose.jda.commands.reflect.ImplementationRegistry;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks {@link TypeAdapterRegistry#adapt(CommandContext)} for valid input and for input that fails to adapt.
+ *
+ * @author Kaktushose
+ * @version 2.3.0
+ * @since 2.3.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class AdaptingBenchmark {
+
+    private static final String[] VALID = {"foo", "42", "true"};
+    private static final String[] INVALID = {"foo", "bar", "true"};
+    private TypeAdapterRegistry adapterRegistry;
+    private CommandContext context;
+
+    @Setup
+    public void setup() {
+        adapterRegistry = new TypeAdapterRegistry();
+        ValidatorRegistry validatorRegistry = new ValidatorRegistry();
+        ImplementationRegistry registry = new ImplementationRegistry(new DependencyInjector(),
+                new FilterRegistry(),
+                adapterRegistry,
+                validatorRegistry
+        );
+        context = Fixtures.context(registry, "")
+                .setCommand(Fixtures.commands(1, adapterRegistry, validatorRegistry).get(0));
+    }
+
+    @Benchmark
+    public CommandContext valid() {
+        return adapt(VALID);
+    }
+
+    @Benchmark
+    public CommandContext invalid() {
+        return adapt(INVALID);
+    }
+
+    private CommandContext adapt(String[] input) {
+        context.setInput(input).setArguments(Collections.emptyList()).setCancelled(false);
+        adapterRegistry.adapt(context);
+        return context;
+    }
+}
@@ -0,0 +1,43 @@
+package com.github.kaktushose.jda.commands.benchmark;
+
+import com.github.kaktushose.jda.commands.annotations.Command;
+import com.github.kaktushose.jda.commands.annotations.CommandController;
+import com.github.kaktushose.jda.commands.annotations.Cooldown;
+import com.github.kaktushose.jda.commands.dispatching.CommandEvent;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Controller of the invocation and filtering benchmarks. The commands of the other benchmarks are declared by
+ * controllers of the {@link ControllerGenerator}, which share the signature of {@link #onCommand}.
+ *
+ * @author Kaktushose
+ * @version 2.3.0
+ * @since 2.3.0
+ */
+@CommandController
+public class BenchmarkController {
+
+    private long invocations;
+
+    @Command("placeholder")
+    public void onCommand(CommandEvent event, String text, int number, boolean flag) {
+        invocations += number;
+    }
+
+    // shorter than a millisecond, thus the cooldown is checked and renewed on every invocation
+    @Command("cooldown")
+    @Cooldown(value = 1, timeUnit = TimeUnit.NANOSECONDS)
+    public void onCooldown(CommandEvent event) {
+        invocations++;
+    }
+
+    /**
+     * Gets the sum of all numbers this controller was invoked with.
+     *
+     * @return the sum of all numbers
+     */
+    public long getInvocations() {
+        return invocations;
+    }
+}
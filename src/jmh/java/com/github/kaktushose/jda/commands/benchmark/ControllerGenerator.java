@@ -0,0 +1,121 @@
+package com.github.kaktushose.jda.commands.benchmark;
+
+import org.jetbrains.annotations.NotNull;
+
+import javax.tools.JavaCompiler;
+import javax.tools.ToolProvider;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Generates a {@link com.github.kaktushose.jda.commands.annotations.CommandController CommandController} per label,
+ * so that the synthetic commands of the benchmarks are built by
+ * {@link com.github.kaktushose.jda.commands.reflect.CommandDefinition#build CommandDefinition#build} like any other
+ * command. The controllers are compiled with the system Java compiler, thus the benchmarks must run on a JDK.
+ *
+ * @author Kaktushose
+ * @version 2.3.0
+ * @see Fixtures#commands(int, com.github.kaktushose.jda.commands.dispatching.adapter.TypeAdapterRegistry,
+ * com.github.kaktushose.jda.commands.dispatching.validation.ValidatorRegistry)
+ * @since 2.3.0
+ */
+public final class ControllerGenerator {
+
+    /**
+     * The name of the command method of each generated controller.
+     */
+    public static final String METHOD_NAME = "onCommand";
+    private static final String PACKAGE = "com.github.kaktushose.jda.commands.benchmark.generated";
+    private static final String TEMPLATE = "package " + PACKAGE + ";%n%n" +
+            "import com.github.kaktushose.jda.commands.annotations.Command;%n" +
+            "import com.github.kaktushose.jda.commands.annotations.CommandController;%n" +
+            "import com.github.kaktushose.jda.commands.dispatching.CommandEvent;%n%n" +
+            "@CommandController(\"%s\")%n" +
+            "public class %s {%n%n" +
+            "    @Command(\"%s\")%n" +
+            "    public void " + METHOD_NAME + "(CommandEvent event, String text, int number, boolean flag) {%n" +
+            "    }%n" +
+            "}%n";
+
+    private ControllerGenerator() {
+    }
+
+    /**
+     * Generates and loads a controller for each label. A label consisting of two words is split into the label of the
+     * controller and the label of the command, e.g. {@code group1 sub2}, thus it becomes a sub command.
+     *
+     * @param labels the labels to generate controllers for
+     * @return the controller classes in the order of the labels
+     */
+    @NotNull
+    public static List<Class<?>> generate(@NotNull List<String> labels) {
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        if (compiler == null) {
+            throw new IllegalStateException("The benchmarks need a JDK to generate the command controllers!");
+        }
+        Path directory = null;
+        try {
+            directory = Files.createTempDirectory("jda-commands-benchmark");
+            Path sources = Files.createDirectories(directory.resolve(PACKAGE.replace('.', '/')));
+            List<String> arguments = new ArrayList<>();
+            arguments.add("-classpath");
+            arguments.add(System.getProperty("java.class.path"));
+            arguments.add("-d");
+            arguments.add(directory.toString());
+            for (int i = 0; i < labels.size(); i++) {
+                String label = labels.get(i);
+                int split = label.indexOf(' ');
+                String controllerLabel = split < 0 ? "" : label.substring(0, split);
+                String commandLabel = label.substring(split + 1);
+                Path source = sources.resolve(className(i) + ".java");
+                Files.write(source, String.format(TEMPLATE, controllerLabel, className(i), commandLabel)
+                        .getBytes(StandardCharsets.UTF_8));
+                arguments.add(source.toString());
+            }
+
+            ByteArrayOutputStream errors = new ByteArrayOutputStream();
+            if (compiler.run(null, null, errors, arguments.toArray(new String[0])) != 0) {
+                throw new IllegalStateException("Failed to compile the command controllers!\n" + errors);
+            }
+
+            // the classes are loaded eagerly, thus the directory can be deleted afterwards
+            List<Class<?>> controllers = new ArrayList<>();
+            URLClassLoader classLoader = new URLClassLoader(new URL[]{directory.toUri().toURL()},
+                    ControllerGenerator.class.getClassLoader());
+            for (int i = 0; i < labels.size(); i++) {
+                controllers.add(Class.forName(PACKAGE + "." + className(i), true, classLoader));
+            }
+            return controllers;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } catch (ClassNotFoundException e) {
+            throw new IllegalStateException("Failed to load the command controllers!", e);
+        } finally {
+            delete(directory);
+        }
+    }
+
+    private static String className(int index) {
+        return "Controller" + index;
+    }
+
+    private static void delete(Path directory) {
+        if (directory == null) {
+            return;
+        }
+        try (Stream<Path> paths = Files.walk(directory)) {
+            paths.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+        } catch (IOException ignored) {
+        }
+    }
+}
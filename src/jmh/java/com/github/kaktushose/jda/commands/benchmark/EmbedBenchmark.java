@@ -0,0 +1,52 @@
+package com.github.kaktushose.jda.commands.benchmark;
+
+import com.github.kaktushose.jda.commands.embeds.EmbedDTO;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks the placeholder injection of {@link EmbedDTO EmbedDTOs}, which every error and help message goes through.
+ *
+ * @author Kaktushose
+ * @version 2.3.0
+ * @since 2.3.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class EmbedBenchmark {
+
+    private EmbedDTO template;
+
+    @Setup
+    public void setup() {
+        template = new EmbedDTO("Command Not Found",
+                "type {prefix}{helpLabel} to get a list of all available commands",
+                null,
+                "#ff9900",
+                null,
+                new EmbedDTO.Footer(null, "requested by {user}"),
+                null,
+                null,
+                new EmbedDTO.Author("{user}", null, null),
+                new EmbedDTO.Field[]{
+                        new EmbedDTO.Field("Similar Commands", "{commands}", false),
+                        new EmbedDTO.Field("Usage", "{prefix}{usage}", false)
+                }
+        );
+    }
+
+    @Benchmark
+    public EmbedDTO injectValue() {
+        return new EmbedDTO(template)
+                .injectValue("prefix", "!")
+                .injectValue("helpLabel", "help")
+                .injectValue("user", "Kaktushose")
+                .injectValue("commands", "`ban`, `kick`")
+                .injectValue("usage", "ban <member> [reason]");
+    }
+}
@@ -0,0 +1,88 @@
+package com.github.kaktushose.jda.commands.benchmark;
+
+import com.github.kaktushose.jda.commands.dispatching.CommandContext;
+import com.github.kaktushose.jda.commands.dispatching.adapter.TypeAdapterRegistry;
+import com.github.kaktushose.jda.commands.dispatching.filter.Filter;
+import com.github.kaktushose.jda.commands.dispatching.filter.FilterRegistry;
+import com.github.kaktushose.jda.commands.dispatching.filter.FilterRegistry.FilterPosition;
+import com.github.kaktushose.jda.commands.dispatching.filter.impl.CooldownFilter;
+import com.github.kaktushose.jda.commands.dispatching.filter.impl.RateLimitFilter;
+import com.github.kaktushose.jda.commands.dispatching.validation.ValidatorRegistry;
+import com.github.kaktushose.jda.commands.reflect.CommandDefinition;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks the lookup of {@link Filter Filters} via {@link FilterRegistry#getAll(FilterPosition)} and
+ * {@link FilterRegistry#getAll(FilterPosition, CommandDefinition)} and the
+ * {@link CooldownFilter} and {@link RateLimitFilter}, which are applied to every message.
+ *
+ * @author Kaktushose
+ * @version 2.3.0
+ * @since 2.3.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class FilteringBenchmark {
+
+    private FilterRegistry filterRegistry;
+    private CooldownFilter cooldownFilter;
+    private RateLimitFilter rateLimitFilter;
+    private CommandContext context;
+    private CommandDefinition command;
+
+    @Setup
+    public void setup() {
+        filterRegistry = new FilterRegistry();
+        cooldownFilter = new CooldownFilter();
+        // the bucket never runs dry, so every invocation takes the same path
+        rateLimitFilter = new RateLimitFilter().limit(RateLimitFilter.Scope.USER, 1, 1, TimeUnit.MILLISECONDS, Integer.MAX_VALUE);
+        context = Fixtures.context(Fixtures.implementationRegistry(), "");
+        command = CommandDefinition.build(Fixtures.getMethod(BenchmarkController.class, "onCooldown"),
+                new BenchmarkController(),
+                new TypeAdapterRegistry(),
+                new ValidatorRegistry()
+        ).orElseThrow(() -> new IllegalStateException("Failed to build benchmark command!"));
+    }
+
+    @TearDown
+    public void tearDown() {
+        cooldownFilter.getCooldownStore().close();
+        rateLimitFilter.getBucketStore().close();
+    }
+
+    @Benchmark
+    public List<Filter> getAllBeforeRouting() {
+        return filterRegistry.getAll(FilterPosition.BEFORE_ROUTING);
+    }
+
+    @Benchmark
+    public List<Filter> getAllBeforeAdapting() {
+        return filterRegistry.getAll(FilterPosition.BEFORE_ADAPTING);
+    }
+
+    @Benchmark
+    public List<Filter> getAllForCommand() {
+        return filterRegistry.getAll(FilterPosition.BEFORE_ADAPTING, command);
+    }
+
+    @Benchmark
+    public CommandContext cooldown() {
+        context.setCommand(command).setCancelled(false);
+        cooldownFilter.apply(context);
+        return context;
+    }
+
+    @Benchmark
+    public CommandContext rateLimit() {
+        context.setCommand(null).setCancelled(false);
+        rateLimitFilter.apply(context);
+        return context;
+    }
+}
@@ -0,0 +1,228 @@
+package com.github.kaktushose.jda.commands.benchmark;
+
+import com.github.kaktushose.jda.commands.dependency.DependencyInjector;
+import com.github.kaktushose.jda.commands.dispatching.CommandContext;
+import com.github.kaktushose.jda.commands.dispatching.adapter.TypeAdapterRegistry;
+import com.github.kaktushose.jda.commands.dispatching.filter.FilterRegistry;
+import com.github.kaktushose.jda.commands.dispatching.validation.ValidatorRegistry;
+import com.github.kaktushose.jda.commands.reflect.CommandDefinition;
+import com.github.kaktushose.jda.commands.reflect.CommandRegistry;
+import com.github.kaktushose.jda.commands.reflect.ImplementationRegistry;
+import net.dv8tion.jda.api.JDA;
+import net.dv8tion.jda.api.entities.Guild;
+import net.dv8tion.jda.api.entities.Member;
+import net.dv8tion.jda.api.entities.Message;
+import net.dv8tion.jda.api.entities.User;
+import net.dv8tion.jda.api.entities.channel.ChannelType;
+import net.dv8tion.jda.api.entities.channel.unions.MessageChannelUnion;
+import net.dv8tion.jda.api.events.message.MessageReceivedEvent;
+import org.jetbrains.annotations.NotNull;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Builds the synthetic fixtures of the benchmarks, i.e. stubbed JDA events, registries and generated command sets.
+ * Nothing of it needs a JDA instance or a network connection.
+ *
+ * @author Kaktushose
+ * @version 2.3.0
+ * @since 2.3.0
+ */
+public final class Fixtures {
+
+    /**
+     * The id of the stubbed user, channel and guild.
+     */
+    public static final long ID = 393843637437464588L;
+    private static final JDA JDA_STUB = Stubs.stub(JDA.class);
+    private static final User USER = Stubs.stub(User.class, "getIdLong", ID, "getId", String.valueOf(ID), "isBot", false);
+    private static final Guild GUILD = Stubs.stub(Guild.class, "getIdLong", ID, "getId", String.valueOf(ID));
+    private static final Member MEMBER = Stubs.stub(Member.class, "getIdLong", ID, "getUser", USER, "getGuild", GUILD);
+    private static final MessageChannelUnion CHANNEL = Stubs.stub(MessageChannelUnion.class,
+            "getIdLong", ID, "getId", String.valueOf(ID), "getType", ChannelType.TEXT);
+
+    private Fixtures() {
+    }
+
+    /**
+     * Creates a new {@link MessageReceivedEvent} received in a guild text channel.
+     *
+     * @param content the raw content of the message
+     * @return the {@link MessageReceivedEvent}
+     */
+    @NotNull
+    public static MessageReceivedEvent event(@NotNull String content) {
+        Message message = Stubs.stub(Message.class,
+                "getContentRaw", content,
+                "getContentDisplay", content,
+                "getAuthor", USER,
+                "getMember", MEMBER,
+                "getGuild", GUILD,
+                "getChannel", CHANNEL,
+                "getChannelType", ChannelType.TEXT,
+                "isFromGuild", true,
+                "getJDA", JDA_STUB
+        );
+        return new StubMessageReceivedEvent(message);
+    }
+
+    /**
+     * Creates a new {@link ImplementationRegistry} holding the default implementations.
+     *
+     * @return the {@link ImplementationRegistry}
+     */
+    @NotNull
+    public static ImplementationRegistry implementationRegistry() {
+        return new ImplementationRegistry(new DependencyInjector(),
+                new FilterRegistry(),
+                new TypeAdapterRegistry(),
+                new ValidatorRegistry()
+        );
+    }
+
+    /**
+     * Creates a new {@link CommandContext} from a message with the given content.
+     *
+     * @param registry the {@link ImplementationRegistry} to use
+     * @param content  the raw content of the message
+     * @return the {@link CommandContext}
+     */
+    @NotNull
+    public static CommandContext context(@NotNull ImplementationRegistry registry, @NotNull String content) {
+        MessageReceivedEvent event = event(content);
+        return new CommandContext(event, null, registry.getSettingsProvider().getSettings(event.getGuild()), registry);
+    }
+
+    /**
+     * Generates a set of commands, each declared by its own controller generated by the {@link ControllerGenerator}.
+     * Half of the commands have a single label ({@code commandN}), the other half are grouped sub commands
+     * ({@code groupN subM}) with ten sub commands per group.
+     *
+     * @param count             the amount of commands to generate
+     * @param adapterRegistry   the {@link TypeAdapterRegistry} to use
+     * @param validatorRegistry the {@link ValidatorRegistry} to use
+     * @return the generated commands in the order of their index
+     */
+    @NotNull
+    public static List<CommandDefinition> commands(int count,
+                                                   @NotNull TypeAdapterRegistry adapterRegistry,
+                                                   @NotNull ValidatorRegistry validatorRegistry) {
+        List<String> labels = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            labels.add(label(i));
+        }
+        List<CommandDefinition> commands = new ArrayList<>();
+        for (Class<?> controller : ControllerGenerator.generate(labels)) {
+            Object instance;
+            try {
+                instance = controller.getConstructor().newInstance();
+            } catch (ReflectiveOperationException e) {
+                throw new IllegalStateException("Failed to instantiate benchmark controller!", e);
+            }
+            Method method = getMethod(controller, ControllerGenerator.METHOD_NAME);
+            commands.add(CommandDefinition.build(method, instance, adapterRegistry, validatorRegistry)
+                    .orElseThrow(() -> new IllegalStateException("Failed to build benchmark command!")));
+        }
+        return commands;
+    }
+
+    /**
+     * Gets the label of the n-th generated command.
+     *
+     * @param index the index of the command
+     * @return the label
+     */
+    @NotNull
+    public static String label(int index) {
+        return index % 2 == 0 ? "command" + index : "group" + index / 20 + " sub" + index;
+    }
+
+    /**
+     * Creates a new {@link CommandRegistry} holding the given commands without scanning the classpath.
+     *
+     * @param commands the commands to register
+     * @return the {@link CommandRegistry}
+     */
+    @NotNull
+    public static CommandRegistry commandRegistry(@NotNull Collection<CommandDefinition> commands) {
+        return new StubCommandRegistry(commands);
+    }
+
+    /**
+     * Gets a declared method by its name.
+     *
+     * @param type the declaring class
+     * @param name the name of the method
+     * @return the {@link Method}
+     */
+    @NotNull
+    public static Method getMethod(@NotNull Class<?> type, @NotNull String name) {
+        return Arrays.stream(type.getDeclaredMethods())
+                .filter(method -> method.getName().equals(name))
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException("Unknown method " + name));
+    }
+
+    /**
+     * {@link MessageReceivedEvent} that reads everything from the stubbed {@link Message} instead of the JDA cache.
+     */
+    private static class StubMessageReceivedEvent extends MessageReceivedEvent {
+
+        private final Message message;
+
+        private StubMessageReceivedEvent(Message message) {
+            super(JDA_STUB, 0, message);
+            this.message = message;
+        }
+
+        @NotNull
+        @Override
+        public JDA getJDA() {
+            return JDA_STUB;
+        }
+
+        @NotNull
+        @Override
+        public Message getMessage() {
+            return message;
+        }
+
+        @NotNull
+        @Override
+        public User getAuthor() {
+            return USER;
+        }
+
+        @Override
+        public Member getMember() {
+            return MEMBER;
+        }
+
+        @NotNull
+        @Override
+        public MessageChannelUnion getChannel() {
+            return CHANNEL;
+        }
+
+        @NotNull
+        @Override
+        public ChannelType getChannelType() {
+            return ChannelType.TEXT;
+        }
+
+        @Override
+        public boolean isFromGuild() {
+            return true;
+        }
+
+        @NotNull
+        @Override
+        public Guild getGuild() {
+            return GUILD;
+        }
+    }
+}
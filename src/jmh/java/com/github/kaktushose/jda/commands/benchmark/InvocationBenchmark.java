@@ -0,0 +1,49 @@
+package com.github.kaktushose.jda.commands.benchmark;
+
+import com.github.kaktushose.jda.commands.reflect.MethodInvoker;
+import org.openjdk.jmh.annotations.*;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the invocation of a command method via {@link Method#invoke(Object, Object...)} with the invocation via a
+ * precompiled {@link MethodInvoker}.
+ *
+ * @author Kaktushose
+ * @version 2.3.0
+ * @since 2.3.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class InvocationBenchmark {
+
+    private BenchmarkController instance;
+    private Method method;
+    private MethodInvoker invoker;
+    private Object[] arguments;
+
+    @Setup
+    public void setup() throws IllegalAccessException {
+        instance = new BenchmarkController();
+        method = Fixtures.getMethod(BenchmarkController.class, "onCommand");
+        method.setAccessible(true);
+        invoker = MethodInvoker.build(method, instance);
+        arguments = new Object[]{null, "foo", 42, true};
+    }
+
+    @Benchmark
+    public Object reflection() throws InvocationTargetException, IllegalAccessException {
+        return method.invoke(instance, arguments);
+    }
+
+    @Benchmark
+    public Object methodHandle() throws InvocationTargetException {
+        return invoker.invoke(arguments);
+    }
+}
@@ -0,0 +1,81 @@
+package com.github.kaktushose.jda.commands.benchmark;
+
+import com.github.kaktushose.jda.commands.dispatching.CommandContext;
+import com.github.kaktushose.jda.commands.dispatching.parser.PrefixGate;
+import com.github.kaktushose.jda.commands.dispatching.parser.impl.DefaultMessageParser;
+import com.github.kaktushose.jda.commands.reflect.ImplementationRegistry;
+import com.github.kaktushose.jda.commands.settings.SettingsProvider;
+import net.dv8tion.jda.api.events.message.MessageReceivedEvent;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks {@link DefaultMessageParser#parse(MessageReceivedEvent, ImplementationRegistry,
+ * com.github.kaktushose.jda.commands.JDACommands)} for plain commands, quoted arguments, help requests and messages
+ * that aren't commands at all, as well as the {@link PrefixGate} that discards the latter before parsing.
+ *
+ * @author Kaktushose
+ * @version 2.3.0
+ * @since 2.3.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ParsingBenchmark {
+
+    private DefaultMessageParser parser;
+    private PrefixGate prefixGate;
+    private SettingsProvider settingsProvider;
+    private ImplementationRegistry registry;
+    private MessageReceivedEvent command;
+    private MessageReceivedEvent quoted;
+    private MessageReceivedEvent help;
+    private MessageReceivedEvent noCommand;
+
+    @Setup
+    public void setup() {
+        registry = Fixtures.implementationRegistry();
+        String prefix = registry.getSettingsProvider().getSettings(null).getPrefix();
+        parser = new DefaultMessageParser();
+        prefixGate = new PrefixGate();
+        settingsProvider = registry.getSettingsProvider();
+        command = Fixtures.event(prefix + "group2 sub41  foo 1 true");
+        quoted = Fixtures.event(prefix + "command42 \"foo bar baz\" 1 true");
+        help = Fixtures.event(prefix + "help command42");
+        noCommand = Fixtures.event("just a regular chat message that doesn't start with the prefix");
+    }
+
+    @Benchmark
+    public CommandContext command() {
+        return parser.parse(command, registry, null);
+    }
+
+    @Benchmark
+    public CommandContext quoted() {
+        return parser.parse(quoted, registry, null);
+    }
+
+    @Benchmark
+    public CommandContext help() {
+        return parser.parse(help, registry, null);
+    }
+
+    @Benchmark
+    public CommandContext noCommand() {
+        return parser.parse(noCommand, registry, null);
+    }
+
+    @Benchmark
+    public boolean prefixGateAccepted() {
+        return prefixGate.test(command, settingsProvider);
+    }
+
+    @Benchmark
+    public boolean prefixGateRejected() {
+        return prefixGate.test(noCommand, settingsProvider);
+    }
+}
@@ -0,0 +1,90 @@
+package com.github.kaktushose.jda.commands.benchmark;
+
+import com.github.kaktushose.jda.commands.dispatching.CommandContext;
+import com.github.kaktushose.jda.commands.dispatching.adapter.TypeAdapterRegistry;
+import com.github.kaktushose.jda.commands.dispatching.router.impl.CommandRouter;
+import com.github.kaktushose.jda.commands.dispatching.validation.ValidatorRegistry;
+import com.github.kaktushose.jda.commands.reflect.CommandDefinition;
+import com.github.kaktushose.jda.commands.reflect.CommandRegistry;
+import com.github.kaktushose.jda.commands.reflect.ImplementationRegistry;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks {@link CommandRouter#findCommands(CommandContext, CommandRegistry)} for exact matches, abbreviations,
+ * typos and unknown commands.
+ *
+ * @author Kaktushose
+ * @version 2.3.0
+ * @since 2.3.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RoutingBenchmark {
+
+    @Param({"10", "100", "1000"})
+    private int commandCount;
+    private CommandRouter router;
+    private CommandRegistry commandRegistry;
+    private CommandContext context;
+    private String[] exact;
+    private String[] subCommand;
+    private String[] ambiguousPrefix;
+    private String[] typo;
+    private String[] unknown;
+
+    @Setup
+    public void setup() {
+        ImplementationRegistry registry = Fixtures.implementationRegistry();
+        List<CommandDefinition> commands = Fixtures.commands(commandCount, new TypeAdapterRegistry(), new ValidatorRegistry());
+        router = new CommandRouter();
+        commandRegistry = Fixtures.commandRegistry(commands);
+        context = Fixtures.context(registry, "");
+
+        String last = Fixtures.label(commandCount - 2);
+        exact = (last + " foo 1 true").split(" ");
+        subCommand = (Fixtures.label(commandCount - 1) + " foo 1 true").split(" ");
+        // prefix of every single label command
+        ambiguousPrefix = "command foo 1 true".split(" ");
+        typo = ("comand" + last.substring("command".length()) + " foo 1 true").split(" ");
+        unknown = "unknown foo 1 true".split(" ");
+    }
+
+    @Benchmark
+    public CommandContext exact() {
+        return route(exact);
+    }
+
+    @Benchmark
+    public CommandContext subCommand() {
+        return route(subCommand);
+    }
+
+    @Benchmark
+    public CommandContext ambiguousPrefix() {
+        return route(ambiguousPrefix);
+    }
+
+    @Benchmark
+    public CommandContext typo() {
+        return route(typo);
+    }
+
+    @Benchmark
+    public CommandContext unknown() {
+        return route(unknown);
+    }
+
+    private CommandContext route(String[] input) {
+        context.setInput(input).setCommand(null).setPossibleCommands(Collections.emptyList()).setCancelled(false);
+        router.findCommands(context, commandRegistry);
+        return context;
+    }
+}
@@ -0,0 +1,57 @@
+package com.github.kaktushose.jda.commands.benchmark;
+
+import com.github.kaktushose.jda.commands.dependency.DependencyInjector;
+import com.github.kaktushose.jda.commands.dispatching.adapter.TypeAdapterRegistry;
+import com.github.kaktushose.jda.commands.dispatching.router.CommandTrie;
+import com.github.kaktushose.jda.commands.dispatching.router.FuzzyLabelIndex;
+import com.github.kaktushose.jda.commands.dispatching.validation.ValidatorRegistry;
+import com.github.kaktushose.jda.commands.reflect.CommandDefinition;
+import com.github.kaktushose.jda.commands.reflect.CommandRegistry;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+/**
+ * {@link CommandRegistry} holding a fixed set of commands instead of scanning the classpath, since the generated
+ * controllers aren't part of it.
+ *
+ * @author Kaktushose
+ * @version 2.3.0
+ * @since 2.3.0
+ */
+public class StubCommandRegistry extends CommandRegistry {
+
+    private final Set<CommandDefinition> commands;
+    private final CommandTrie commandTrie;
+    private final FuzzyLabelIndex fuzzyLabelIndex;
+
+    /**
+     * Constructs a new StubCommandRegistry.
+     *
+     * @param commands the commands to hold
+     */
+    public StubCommandRegistry(@NotNull Collection<CommandDefinition> commands) {
+        super(new TypeAdapterRegistry(), new ValidatorRegistry(), new DependencyInjector(), null);
+        this.commands = Collections.unmodifiableSet(new LinkedHashSet<>(commands));
+        commandTrie = CommandTrie.build(this.commands);
+        fuzzyLabelIndex = FuzzyLabelIndex.build(this.commands);
+    }
+
+    @Override
+    public Set<CommandDefinition> getCommands() {
+        return commands;
+    }
+
+    @Override
+    public CommandTrie getCommandTrie() {
+        return commandTrie;
+    }
+
+    @Override
+    public FuzzyLabelIndex getFuzzyLabelIndex() {
+        return fuzzyLabelIndex;
+    }
+}
@@ -0,0 +1,83 @@
+package com.github.kaktushose.jda.commands.benchmark;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.lang.reflect.Proxy;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Creates stubs of JDA interfaces using dynamic proxies. A stub returns the configured value of a method by its name,
+ * the default value for primitives and {@code null} otherwise. This way no network connection is needed.
+ *
+ * @author Kaktushose
+ * @version 2.3.0
+ * @since 2.3.0
+ */
+public final class Stubs {
+
+    private Stubs() {
+    }
+
+    /**
+     * Creates a new stub.
+     *
+     * @param type   the interface to stub
+     * @param values pairs of method names and return values
+     * @param <T>    the type of the interface
+     * @return the stub
+     */
+    @NotNull
+    @SuppressWarnings("unchecked")
+    public static <T> T stub(@NotNull Class<T> type, Object... values) {
+        if (values.length % 2 != 0) {
+            throw new IllegalArgumentException("Values must be pairs of method names and return values!");
+        }
+        Map<String, Object> returnValues = new HashMap<>();
+        for (int i = 0; i < values.length; i += 2) {
+            returnValues.put((String) values[i], values[i + 1]);
+        }
+        return (T) Proxy.newProxyInstance(type.getClassLoader(), new Class[]{type}, (proxy, method, args) -> {
+            switch (method.getName()) {
+                case "equals":
+                    return proxy == args[0];
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                case "toString":
+                    return type.getSimpleName() + "Stub" + returnValues;
+            }
+            if (returnValues.containsKey(method.getName())) {
+                return returnValues.get(method.getName());
+            }
+            return defaultValue(method.getReturnType());
+        });
+    }
+
+    private static Object defaultValue(Class<?> type) {
+        if (!type.isPrimitive() || type == void.class) {
+            return null;
+        }
+        if (type == boolean.class) {
+            return false;
+        }
+        if (type == char.class) {
+            return '\0';
+        }
+        if (type == long.class) {
+            return 0L;
+        }
+        if (type == float.class) {
+            return 0F;
+        }
+        if (type == double.class) {
+            return 0D;
+        }
+        if (type == byte.class) {
+            return (byte) 0;
+        }
+        if (type == short.class) {
+            return (short) 0;
+        }
+        return 0;
+    }
+}
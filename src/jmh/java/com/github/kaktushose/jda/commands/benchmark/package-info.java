@@ -0,0 +1,7 @@
+/**
+ * JMH benchmarks of the dispatch hot paths. They are built by the standalone {@code src/jmh/pom.xml} against the
+ * installed framework, run them with {@code mvn install -DskipTests && mvn -f src/jmh/pom.xml package} and
+ * {@code java -jar src/jmh/target/benchmarks.jar}. The benchmarks must run on a JDK, because the command controllers
+ * are generated at runtime.
+ */
+package com.github.kaktushose.jda.commands.benchmark;
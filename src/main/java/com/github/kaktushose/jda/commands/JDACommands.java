@@ -1,23 +1,35 @@
 package com.github.kaktushose.jda.commands;
 
+import com.github.kaktushose.jda.commands.data.JsonLogRepository;
+import com.github.kaktushose.jda.commands.data.JsonRepository;
+import com.github.kaktushose.jda.commands.data.Repository;
 import com.github.kaktushose.jda.commands.dependency.DependencyInjector;
 import com.github.kaktushose.jda.commands.dispatching.CommandDispatcher;
+import com.github.kaktushose.jda.commands.dispatching.DispatchExecutor;
 import com.github.kaktushose.jda.commands.dispatching.adapter.TypeAdapterRegistry;
 import com.github.kaktushose.jda.commands.dispatching.filter.FilterRegistry;
 import com.github.kaktushose.jda.commands.dispatching.parser.ParserSupervisor;
 import com.github.kaktushose.jda.commands.dispatching.validation.ValidatorRegistry;
 import com.github.kaktushose.jda.commands.interactions.commands.CommandRegistrationPolicy;
 import com.github.kaktushose.jda.commands.interactions.commands.SlashConfiguration;
+import com.github.kaktushose.jda.commands.metrics.MetricsCollector;
 import com.github.kaktushose.jda.commands.reflect.CommandDefinition;
 import com.github.kaktushose.jda.commands.reflect.CommandRegistry;
 import com.github.kaktushose.jda.commands.reflect.ImplementationRegistry;
+import com.github.kaktushose.jda.commands.settings.CachingSettingsProvider;
+import com.github.kaktushose.jda.commands.settings.GuildSettings;
+import com.github.kaktushose.jda.commands.settings.SettingsProvider;
 import net.dv8tion.jda.api.JDA;
 import net.dv8tion.jda.api.sharding.ShardManager;
 import org.jetbrains.annotations.NotNull;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.io.Closeable;
+import java.io.IOException;
 import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.Optional;
 import java.util.Set;
 
 /**
@@ -25,16 +37,18 @@ import java.util.Set;
  * an abstraction of the {@link CommandDispatcher}.
  *
  * @author Kaktushose
- * @version 2.0.0
+ * @version 2.3.0
  * @since 1.0.0
  */
 public class JDACommands {
 
     private static final Logger log = LoggerFactory.getLogger(JDACommands.class);
     private final CommandDispatcher commandDispatcher;
+    private final Set<Closeable> repositories;
 
     protected JDACommands() {
         commandDispatcher = null;
+        repositories = new LinkedHashSet<>();
     }
 
     private JDACommands(Object jda, Class<?> clazz, String... packages) {
@@ -44,6 +58,14 @@ public class JDACommands {
     JDACommands(Object jda, Class<?> clazz, SlashConfiguration configuration, String... packages) {
         log.info("Starting JDA-Commands...");
         this.commandDispatcher = new CommandDispatcher(new JDAContext(jda), this, clazz, configuration, packages);
+        repositories = new LinkedHashSet<>();
+        SettingsProvider settingsProvider = commandDispatcher.getImplementationRegistry().getSettingsProvider();
+        if (settingsProvider instanceof CachingSettingsProvider) {
+            Optional<Repository<GuildSettings>> repository = ((CachingSettingsProvider) settingsProvider).getRepository();
+            if (repository.isPresent() && repository.get() instanceof Closeable) {
+                registerRepository((Closeable) repository.get());
+            }
+        }
         log.info("Finished loading!");
     }
 
@@ -97,13 +119,41 @@ public class JDACommands {
 
     /**
      * Shuts down this JDACommands instance making it unable to receive any events from Discord.
-     * This will <b>not</b> unregister any slash commands.
+     * This will <b>not</b> unregister any slash commands. All repositories registered with
+     * {@link #registerRepository(Closeable)} get closed.
      */
     public void shutdown() {
         commandDispatcher.shutdown();
+        Closeable[] closeables;
+        synchronized (repositories) {
+            closeables = repositories.toArray(new Closeable[0]);
+            repositories.clear();
+        }
+        for (Closeable repository : closeables) {
+            try {
+                repository.close();
+            } catch (IOException | RuntimeException e) {
+                log.error("Unable to close repository {}", repository, e);
+            }
+        }
         log.info("Finished shutdown!");
     }
 
+    /**
+     * Registers a repository that gets closed on {@link #shutdown()}, e.g. a {@link JsonRepository} that uses
+     * write-behind or a {@link JsonLogRepository}. Only register repositories that aren't used by other JDACommands
+     * instances. The {@link Repository} of a {@link CachingSettingsProvider} gets registered automatically.
+     *
+     * @param repository the repository to close on shutdown
+     * @return this instance for fluent interface
+     */
+    public JDACommands registerRepository(@NotNull Closeable repository) {
+        synchronized (repositories) {
+            repositories.add(repository);
+        }
+        return this;
+    }
+
     /**
      * Gets the {@link ImplementationRegistry}.
      *
@@ -113,6 +163,24 @@ public class JDACommands {
         return commandDispatcher.getImplementationRegistry();
     }
 
+    /**
+     * Gets the {@link DispatchExecutor}.
+     *
+     * @return the {@link DispatchExecutor}
+     */
+    public DispatchExecutor getDispatchExecutor() {
+        return commandDispatcher.getDispatchExecutor();
+    }
+
+    /**
+     * Gets the {@link MetricsCollector} of the {@link ImplementationRegistry}.
+     *
+     * @return the {@link MetricsCollector}
+     */
+    public MetricsCollector getMetricsCollector() {
+        return commandDispatcher.getImplementationRegistry().getMetricsCollector();
+    }
+
     /**
      * Gets the {@link ParserSupervisor}.
      *
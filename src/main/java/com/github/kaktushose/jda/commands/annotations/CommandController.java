@@ -1,5 +1,7 @@
 package com.github.kaktushose.jda.commands.annotations;
 
+import com.github.kaktushose.jda.commands.dispatching.DispatchExecutor.ExecutionMode;
+
 import java.lang.annotation.ElementType;
 import java.lang.annotation.Retention;
 import java.lang.annotation.RetentionPolicy;
@@ -67,4 +69,13 @@ public @interface CommandController {
      */
     boolean acknowledge() default true;
 
+    /**
+     * Returns the {@link ExecutionMode} the commands of this controller should be executed with.
+     * {@link ExecutionMode#DEFAULT} will use the mode configured for the
+     * {@link com.github.kaktushose.jda.commands.dispatching.DispatchExecutor DispatchExecutor}.
+     *
+     * @return the {@link ExecutionMode}
+     */
+    ExecutionMode execution() default ExecutionMode.DEFAULT;
+
 }
@@ -7,10 +7,11 @@ import java.lang.annotation.Target;
 import java.util.concurrent.TimeUnit;
 
 /**
- * Commands annotated with Cooldown will have a per-user cooldown.
+ * Commands annotated with Cooldown will have a cooldown. By default the cooldown applies per user, see {@link Scope}
+ * for other options.
  *
  * @author Kaktushose
- * @version 2.0.0
+ * @version 2.3.0
  * @see com.github.kaktushose.jda.commands.dispatching.filter.impl.CooldownFilter CooldownFilter
  * @since 1.0.0
  */
@@ -32,4 +33,32 @@ public @interface Cooldown {
      */
     TimeUnit timeUnit();
 
+    /**
+     * Returns the {@link Scope} of the cooldown.
+     *
+     * @return the {@link Scope} of the cooldown
+     */
+    Scope scope() default Scope.USER;
+
+    /**
+     * Enum describing who shares a cooldown.
+     */
+    enum Scope {
+        /**
+         * Each user has their own cooldown.
+         */
+        USER,
+        /**
+         * All users of a guild share the cooldown. Falls back to {@link #USER} for direct messages.
+         */
+        GUILD,
+        /**
+         * All users of a channel share the cooldown.
+         */
+        CHANNEL,
+        /**
+         * All users share the cooldown.
+         */
+        GLOBAL
+    }
 }
@@ -0,0 +1,555 @@
+package com.github.kaktushose.jda.commands.data;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.locks.StampedLock;
+import java.util.function.LongFunction;
+
+/**
+ * Thread safe map with primitive {@code long} keys, e.g. Discord snowflakes. Unlike a {@code Map<Long, V>} a lookup
+ * doesn't box the key, thus it doesn't allocate. The map is split into independently locked stripes, each of them an
+ * open addressing hash table of parallel arrays. Lookups are optimistic and only take the lock of a stripe if it was
+ * modified concurrently.
+ *
+ * @param <V> the type of the values
+ * @author Kaktushose
+ * @version 2.3.0
+ * @see CooldownStore
+ * @since 2.3.0
+ */
+public class ConcurrentLongMap<V> {
+
+    private static final int STRIPES = 16;
+    private final Stripe<V>[] stripes;
+    private final MapView view = new MapView();
+
+    /**
+     * Constructs a new empty ConcurrentLongMap.
+     */
+    @SuppressWarnings("unchecked")
+    public ConcurrentLongMap() {
+        stripes = new Stripe[STRIPES];
+        for (int i = 0; i < STRIPES; i++) {
+            stripes[i] = new Stripe<>();
+        }
+    }
+
+    /**
+     * Gets the value of a key.
+     *
+     * @param key the key
+     * @return the value or {@code null} if the key isn't present
+     */
+    @Nullable
+    public V get(long key) {
+        int hash = hash(key);
+        Stripe<V> stripe = stripeOf(hash);
+        StampedLock lock = stripe.lock;
+        long stamp = lock.tryOptimisticRead();
+        if (stamp != 0) {
+            Object value = stripe.find(key, hash);
+            if (lock.validate(stamp)) {
+                return stripe.cast(value);
+            }
+        }
+        stamp = lock.readLock();
+        try {
+            return stripe.cast(stripe.find(key, hash));
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    /**
+     * Whether the key is present.
+     *
+     * @param key the key
+     * @return {@code true} if the key is present
+     */
+    public boolean containsKey(long key) {
+        return get(key) != null;
+    }
+
+    /**
+     * Associates a value with a key.
+     *
+     * @param key   the key
+     * @param value the value, must not be {@code null}
+     * @return the previous value or {@code null} if the key wasn't present
+     */
+    @Nullable
+    public V put(long key, @NotNull V value) {
+        Objects.requireNonNull(value);
+        int hash = hash(key);
+        Stripe<V> stripe = stripeOf(hash);
+        long stamp = stripe.lock.writeLock();
+        try {
+            int index = stripe.indexOf(key, hash);
+            if (index >= 0) {
+                V previous = stripe.valueAt(index);
+                stripe.values[index] = value;
+                return previous;
+            }
+            stripe.insert(key, hash, value);
+            return null;
+        } finally {
+            stripe.lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * Associates a value with a key if the key isn't present yet.
+     *
+     * @param key   the key
+     * @param value the value, must not be {@code null}
+     * @return the present value or {@code null} if the value was associated
+     */
+    @Nullable
+    public V putIfAbsent(long key, @NotNull V value) {
+        Objects.requireNonNull(value);
+        int hash = hash(key);
+        Stripe<V> stripe = stripeOf(hash);
+        long stamp = stripe.lock.writeLock();
+        try {
+            int index = stripe.indexOf(key, hash);
+            if (index >= 0) {
+                return stripe.valueAt(index);
+            }
+            stripe.insert(key, hash, value);
+            return null;
+        } finally {
+            stripe.lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * Gets the value of a key or computes and associates a new value if the key isn't present. The function is called
+     * while holding the lock of the stripe and thus must not access this map.
+     *
+     * @param key      the key
+     * @param function the function to compute the value with, may return {@code null} to not associate a value
+     * @return the present or computed value
+     */
+    @Nullable
+    public V computeIfAbsent(long key, @NotNull LongFunction<? extends V> function) {
+        int hash = hash(key);
+        Stripe<V> stripe = stripeOf(hash);
+        long stamp = stripe.lock.writeLock();
+        try {
+            int index = stripe.indexOf(key, hash);
+            if (index >= 0) {
+                return stripe.valueAt(index);
+            }
+            V value = function.apply(key);
+            if (value != null) {
+                stripe.insert(key, hash, value);
+            }
+            return value;
+        } finally {
+            stripe.lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * Replaces the value of a key only if it is currently associated with the expected instance.
+     *
+     * @param key      the key
+     * @param expected the expected value
+     * @param value    the new value, must not be {@code null}
+     * @return {@code true} if the value was replaced
+     */
+    public boolean replace(long key, @NotNull V expected, @NotNull V value) {
+        Objects.requireNonNull(value);
+        int hash = hash(key);
+        Stripe<V> stripe = stripeOf(hash);
+        long stamp = stripe.lock.writeLock();
+        try {
+            int index = stripe.indexOf(key, hash);
+            if (index < 0 || stripe.values[index] != expected) {
+                return false;
+            }
+            stripe.values[index] = value;
+            return true;
+        } finally {
+            stripe.lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * Removes a key.
+     *
+     * @param key the key
+     * @return the removed value or {@code null} if the key wasn't present
+     */
+    @Nullable
+    public V remove(long key) {
+        int hash = hash(key);
+        Stripe<V> stripe = stripeOf(hash);
+        long stamp = stripe.lock.writeLock();
+        try {
+            int index = stripe.indexOf(key, hash);
+            if (index < 0) {
+                return null;
+            }
+            V previous = stripe.valueAt(index);
+            stripe.delete(index);
+            return previous;
+        } finally {
+            stripe.lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * Removes a key only if it is currently associated with the expected instance.
+     *
+     * @param key      the key
+     * @param expected the expected value
+     * @return {@code true} if the key was removed
+     */
+    public boolean remove(long key, @NotNull V expected) {
+        int hash = hash(key);
+        Stripe<V> stripe = stripeOf(hash);
+        long stamp = stripe.lock.writeLock();
+        try {
+            int index = stripe.indexOf(key, hash);
+            if (index < 0 || stripe.values[index] != expected) {
+                return false;
+            }
+            stripe.delete(index);
+            return true;
+        } finally {
+            stripe.lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * Removes all keys.
+     */
+    public void clear() {
+        for (Stripe<V> stripe : stripes) {
+            long stamp = stripe.lock.writeLock();
+            try {
+                stripe.allocate(16);
+                stripe.size = 0;
+            } finally {
+                stripe.lock.unlockWrite(stamp);
+            }
+        }
+    }
+
+    /**
+     * Gets the amount of keys.
+     *
+     * @return the amount of keys
+     */
+    public int size() {
+        int size = 0;
+        for (Stripe<V> stripe : stripes) {
+            size += stripe.size;
+        }
+        return size;
+    }
+
+    /**
+     * Whether this map holds no keys.
+     *
+     * @return {@code true} if this map holds no keys
+     */
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    /**
+     * Performs an action for each entry. Each stripe is copied before the action is performed, thus the action may
+     * access this map. The iteration is weakly consistent, entries that are added or removed concurrently may or may
+     * not be visited.
+     *
+     * @param action the action to perform
+     */
+    public void forEach(@NotNull EntryConsumer<? super V> action) {
+        for (Stripe<V> stripe : stripes) {
+            long[] keys;
+            Object[] values;
+            long stamp = stripe.lock.readLock();
+            try {
+                keys = stripe.keys.clone();
+                values = stripe.values.clone();
+            } finally {
+                stripe.lock.unlockRead(stamp);
+            }
+            for (int i = 0; i < values.length; i++) {
+                if (values[i] != null) {
+                    action.accept(keys[i], stripe.cast(values[i]));
+                }
+            }
+        }
+    }
+
+    /**
+     * Gets a snapshot of all values.
+     *
+     * @return a new list holding all values
+     */
+    @NotNull
+    public List<V> values() {
+        List<V> result = new ArrayList<>();
+        forEach((key, value) -> result.add(value));
+        return result;
+    }
+
+    /**
+     * Gets a {@link Map} view of this map. Changes to the view are written through to this map and vice versa. Keys
+     * get boxed on each access, thus the view should only be used where a {@link Map} is required. Iterating the view
+     * is weakly consistent like {@link #forEach(EntryConsumer)} and the view doesn't support {@code null} keys or
+     * values.
+     *
+     * @return a {@link Map} view of this map
+     */
+    @NotNull
+    public Map<Long, V> asMap() {
+        return view;
+    }
+
+    private Stripe<V> stripeOf(int hash) {
+        return stripes[(hash >>> 28) & (STRIPES - 1)];
+    }
+
+    private static int hash(long key) {
+        long h = key * 0x9E3779B97F4A7C15L;
+        h ^= h >>> 32;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 29;
+        return (int) h;
+    }
+
+    /**
+     * Consumer of a primitive {@code long} key and its value.
+     *
+     * @param <V> the type of the values
+     */
+    @FunctionalInterface
+    public interface EntryConsumer<V> {
+
+        /**
+         * Performs the action.
+         *
+         * @param key   the key
+         * @param value the value
+         */
+        void accept(long key, V value);
+    }
+
+    private class MapView extends AbstractMap<Long, V> {
+
+        @Override
+        public V get(Object key) {
+            return key instanceof Long ? ConcurrentLongMap.this.get((Long) key) : null;
+        }
+
+        @Override
+        public boolean containsKey(Object key) {
+            return key instanceof Long && ConcurrentLongMap.this.containsKey((Long) key);
+        }
+
+        @Override
+        public V put(Long key, V value) {
+            return ConcurrentLongMap.this.put(key, value);
+        }
+
+        @Override
+        public V remove(Object key) {
+            return key instanceof Long ? ConcurrentLongMap.this.remove((Long) key) : null;
+        }
+
+        @Override
+        public void clear() {
+            ConcurrentLongMap.this.clear();
+        }
+
+        @Override
+        public int size() {
+            return ConcurrentLongMap.this.size();
+        }
+
+        @Override
+        public boolean isEmpty() {
+            return ConcurrentLongMap.this.isEmpty();
+        }
+
+        @NotNull
+        @Override
+        public Set<Entry<Long, V>> entrySet() {
+            return new AbstractSet<Entry<Long, V>>() {
+                @NotNull
+                @Override
+                public Iterator<Entry<Long, V>> iterator() {
+                    List<Entry<Long, V>> entries = new ArrayList<>();
+                    ConcurrentLongMap.this.forEach((key, value) -> entries.add(new ViewEntry(key, value)));
+                    Iterator<Entry<Long, V>> iterator = entries.iterator();
+                    return new Iterator<Entry<Long, V>>() {
+                        private Entry<Long, V> current;
+
+                        @Override
+                        public boolean hasNext() {
+                            return iterator.hasNext();
+                        }
+
+                        @Override
+                        public Entry<Long, V> next() {
+                            current = iterator.next();
+                            return current;
+                        }
+
+                        @Override
+                        public void remove() {
+                            if (current == null) {
+                                throw new IllegalStateException();
+                            }
+                            ConcurrentLongMap.this.remove(current.getKey());
+                            current = null;
+                        }
+                    };
+                }
+
+                @Override
+                public int size() {
+                    return ConcurrentLongMap.this.size();
+                }
+            };
+        }
+    }
+
+    private class ViewEntry extends AbstractMap.SimpleEntry<Long, V> {
+
+        private ViewEntry(long key, V value) {
+            super(key, value);
+        }
+
+        @Override
+        public V setValue(V value) {
+            ConcurrentLongMap.this.put(getKey(), value);
+            return super.setValue(value);
+        }
+    }
+
+    // a slot is used if its value isn't null
+    private static class Stripe<V> {
+
+        private final StampedLock lock = new StampedLock();
+        private long[] keys;
+        private Object[] values;
+        // volatile, so that the size can be read without locking
+        private volatile int size;
+
+        private Stripe() {
+            allocate(16);
+        }
+
+        private void allocate(int length) {
+            keys = new long[length];
+            values = new Object[length];
+        }
+
+        @SuppressWarnings("unchecked")
+        private V cast(Object value) {
+            return (V) value;
+        }
+
+        private V valueAt(int index) {
+            return cast(values[index]);
+        }
+
+        // may run without holding the lock, thus it must neither fail nor loop forever on an inconsistent state
+        private Object find(long key, int hash) {
+            long[] keys = this.keys;
+            Object[] values = this.values;
+            if (keys.length != values.length) {
+                return null;
+            }
+            int mask = values.length - 1;
+            int index = hash & mask;
+            for (int probes = 0; probes < values.length; probes++) {
+                Object value = values[index];
+                if (value == null) {
+                    return null;
+                }
+                if (keys[index] == key) {
+                    return value;
+                }
+                index = (index + 1) & mask;
+            }
+            return null;
+        }
+
+        private int indexOf(long key, int hash) {
+            int mask = values.length - 1;
+            int index = hash & mask;
+            while (values[index] != null) {
+                if (keys[index] == key) {
+                    return index;
+                }
+                index = (index + 1) & mask;
+            }
+            return -1;
+        }
+
+        private void insert(long key, int hash, Object value) {
+            // keep the load factor below 0.75
+            if ((size + 1) * 4 > values.length * 3) {
+                resize(values.length * 2);
+            }
+            put(key, hash, value);
+        }
+
+        private void put(long key, int hash, Object value) {
+            int mask = values.length - 1;
+            int index = hash & mask;
+            while (values[index] != null) {
+                index = (index + 1) & mask;
+            }
+            keys[index] = key;
+            values[index] = value;
+            size++;
+        }
+
+        private void resize(int length) {
+            long[] oldKeys = keys;
+            Object[] oldValues = values;
+            allocate(length);
+            size = 0;
+            for (int i = 0; i < oldValues.length; i++) {
+                if (oldValues[i] != null) {
+                    put(oldKeys[i], hash(oldKeys[i]), oldValues[i]);
+                }
+            }
+        }
+
+        private void delete(int index) {
+            // backward shift deletion, keeps probe sequences intact without tombstones
+            int mask = values.length - 1;
+            int gap = index;
+            int next = (gap + 1) & mask;
+            while (values[next] != null) {
+                int home = hash(keys[next]) & mask;
+                boolean movable = gap <= next ? (home <= gap || home > next) : (home <= gap && home > next);
+                if (movable) {
+                    keys[gap] = keys[next];
+                    values[gap] = values[next];
+                    gap = next;
+                }
+                next = (next + 1) & mask;
+            }
+            values[gap] = null;
+            size--;
+        }
+    }
+}
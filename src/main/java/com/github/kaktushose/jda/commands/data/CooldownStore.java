@@ -0,0 +1,313 @@
+package com.github.kaktushose.jda.commands.data;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Bounded store for active cooldowns and token buckets. Entries are keyed by a scope id, e.g. a user or guild id, and
+ * a command or bucket key, both stored as primitives. The store is split into independently locked stripes, each of
+ * them an open addressing hash table of parallel arrays, so that lookups neither allocate nor contend on a global lock.
+ *
+ * <p>Expired entries are treated as absent right away and are removed proactively by a periodic sweep, thus users who
+ * never invoke the command again don't occupy memory. If a stripe is full, expired entries are removed first and if
+ * that doesn't free any space, the entry closest to its expiry gets evicted.
+ *
+ * @author Kaktushose
+ * @version 2.3.0
+ * @see com.github.kaktushose.jda.commands.dispatching.filter.impl.CooldownFilter CooldownFilter
+ * @see com.github.kaktushose.jda.commands.dispatching.filter.impl.RateLimitFilter RateLimitFilter
+ * @since 2.3.0
+ */
+public class CooldownStore {
+
+    private static final ScheduledExecutorService SWEEPER = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "jda-commands-cooldown-sweeper");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final Stripe[] stripes;
+    private final int maxEntries;
+    private final ScheduledFuture<?> sweepTask;
+
+    /**
+     * Constructs a new CooldownStore that holds at most 1,000,000 entries and is swept every 30 seconds.
+     */
+    public CooldownStore() {
+        this(1_000_000, 30, TimeUnit.SECONDS);
+    }
+
+    /**
+     * Constructs a new CooldownStore.
+     *
+     * @param maxEntries    the maximum amount of entries to hold
+     * @param sweepInterval the interval in which expired entries get removed
+     * @param unit          the {@link TimeUnit} of the sweep interval
+     */
+    public CooldownStore(int maxEntries, long sweepInterval, @NotNull TimeUnit unit) {
+        if (maxEntries < 1) {
+            throw new IllegalArgumentException("Max entries must be at least 1!");
+        }
+        int stripeCount = Math.min(64, Integer.highestOneBit(Math.max(1, maxEntries / 64)));
+        stripes = new Stripe[stripeCount];
+        int perStripe = Math.max(1, (maxEntries + stripeCount - 1) / stripeCount);
+        for (int i = 0; i < stripeCount; i++) {
+            stripes[i] = new Stripe(perStripe);
+        }
+        this.maxEntries = maxEntries;
+        sweepTask = SWEEPER.scheduleWithFixedDelay(this::sweep, sweepInterval, sweepInterval, unit);
+    }
+
+    /**
+     * Checks for an active cooldown and starts a new one if there is none.
+     *
+     * @param scope    the scope id, e.g. the user id
+     * @param command  the command key
+     * @param duration the duration of the cooldown to start in milliseconds
+     * @return the remaining milliseconds of the active cooldown or {@code 0} if a new cooldown was started
+     */
+    public long acquire(long scope, int command, long duration) {
+        return acquire(scope, command, duration, 1);
+    }
+
+    /**
+     * Acquires a permit of a token bucket, implemented as generic cell rate algorithm. Instead of the amount of tokens
+     * only the theoretical arrival time of the next request is stored, which is the deadline of the entry. A burst of
+     * {@code 1} equals a plain cooldown.
+     *
+     * @param scope    the scope id, e.g. the user id
+     * @param key      the bucket key
+     * @param interval the interval in milliseconds in which one permit gets refilled
+     * @param burst    the maximum amount of permits that can be acquired at once
+     * @return the milliseconds until a permit is available or {@code 0} if a permit was acquired
+     */
+    public long acquire(long scope, int key, long interval, int burst) {
+        long now = System.currentTimeMillis();
+        int hash = hash(scope, key);
+        Stripe stripe = stripes[(hash >>> 24) & (stripes.length - 1)];
+        synchronized (stripe) {
+            int index = stripe.indexOf(scope, key, hash);
+            long arrival = index >= 0 ? Math.max(stripe.deadlines[index], now) : now;
+            long next = arrival + interval;
+            long allowedAt = next - interval * burst;
+            if (allowedAt > now) {
+                return allowedAt - now;
+            }
+            if (index >= 0) {
+                stripe.deadlines[index] = next;
+            } else {
+                stripe.insert(scope, key, hash, next, now);
+            }
+            return 0;
+        }
+    }
+
+    /**
+     * Gives back a permit that was acquired by {@link #acquire(long, int, long, int)}, e.g. because the request got
+     * rejected by another bucket. Does nothing if the bucket is absent.
+     *
+     * @param scope    the scope id, e.g. the user id
+     * @param key      the bucket key
+     * @param interval the interval that was used to acquire the permit
+     */
+    public void release(long scope, int key, long interval) {
+        int hash = hash(scope, key);
+        Stripe stripe = stripes[(hash >>> 24) & (stripes.length - 1)];
+        synchronized (stripe) {
+            int index = stripe.indexOf(scope, key, hash);
+            if (index >= 0) {
+                stripe.deadlines[index] -= interval;
+            }
+        }
+    }
+
+    /**
+     * Removes an active cooldown.
+     *
+     * @param scope   the scope id, e.g. the user id
+     * @param command the command key
+     */
+    public void reset(long scope, int command) {
+        int hash = hash(scope, command);
+        Stripe stripe = stripes[(hash >>> 24) & (stripes.length - 1)];
+        synchronized (stripe) {
+            int index = stripe.indexOf(scope, command, hash);
+            if (index >= 0) {
+                stripe.delete(index);
+            }
+        }
+    }
+
+    /**
+     * Removes all expired entries.
+     */
+    public void sweep() {
+        long now = System.currentTimeMillis();
+        for (Stripe stripe : stripes) {
+            synchronized (stripe) {
+                stripe.removeExpired(now);
+            }
+        }
+    }
+
+    /**
+     * Gets the amount of entries, including expired entries that haven't been swept yet.
+     *
+     * @return the amount of entries
+     */
+    public int size() {
+        int size = 0;
+        for (Stripe stripe : stripes) {
+            synchronized (stripe) {
+                size += stripe.size;
+            }
+        }
+        return size;
+    }
+
+    /**
+     * Gets the maximum amount of entries this store holds.
+     *
+     * @return the maximum amount of entries
+     */
+    public int getMaxEntries() {
+        return maxEntries;
+    }
+
+    /**
+     * Stops the periodic sweep of this store.
+     */
+    public void close() {
+        sweepTask.cancel(false);
+    }
+
+    private static int hash(long scope, int command) {
+        long h = scope * 0x9E3779B97F4A7C15L + command;
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        return (int) h;
+    }
+
+    private static class Stripe {
+
+        private final int capacity;
+        private long[] scopes;
+        private int[] commands;
+        private long[] deadlines;
+        private boolean[] used;
+        private int size;
+
+        private Stripe(int capacity) {
+            this.capacity = capacity;
+            allocate(16);
+        }
+
+        private void allocate(int length) {
+            scopes = new long[length];
+            commands = new int[length];
+            deadlines = new long[length];
+            used = new boolean[length];
+        }
+
+        private int indexOf(long scope, int command, int hash) {
+            int mask = used.length - 1;
+            int index = hash & mask;
+            while (used[index]) {
+                if (scopes[index] == scope && commands[index] == command) {
+                    return index;
+                }
+                index = (index + 1) & mask;
+            }
+            return -1;
+        }
+
+        private void insert(long scope, int command, int hash, long deadline, long now) {
+            if (size >= capacity) {
+                removeExpired(now);
+                if (size >= capacity) {
+                    evictEarliest();
+                }
+            }
+            // keep the load factor below 0.75
+            if ((size + 1) * 4 > used.length * 3) {
+                resize(used.length * 2);
+            }
+            put(scope, command, hash, deadline);
+        }
+
+        private void put(long scope, int command, int hash, long deadline) {
+            int mask = used.length - 1;
+            int index = hash & mask;
+            while (used[index]) {
+                index = (index + 1) & mask;
+            }
+            used[index] = true;
+            scopes[index] = scope;
+            commands[index] = command;
+            deadlines[index] = deadline;
+            size++;
+        }
+
+        private void resize(int length) {
+            long[] oldScopes = scopes;
+            int[] oldCommands = commands;
+            long[] oldDeadlines = deadlines;
+            boolean[] oldUsed = used;
+            allocate(length);
+            size = 0;
+            for (int i = 0; i < oldUsed.length; i++) {
+                if (oldUsed[i]) {
+                    put(oldScopes[i], oldCommands[i], hash(oldScopes[i], oldCommands[i]), oldDeadlines[i]);
+                }
+            }
+        }
+
+        private void removeExpired(long now) {
+            int i = 0;
+            while (i < used.length) {
+                // deletion shifts following entries back, so the same slot must be checked again
+                if (used[i] && deadlines[i] <= now) {
+                    delete(i);
+                } else {
+                    i++;
+                }
+            }
+        }
+
+        private void evictEarliest() {
+            int earliest = -1;
+            for (int i = 0; i < used.length; i++) {
+                if (used[i] && (earliest < 0 || deadlines[i] < deadlines[earliest])) {
+                    earliest = i;
+                }
+            }
+            if (earliest >= 0) {
+                delete(earliest);
+            }
+        }
+
+        private void delete(int index) {
+            // backward shift deletion, keeps probe sequences intact without tombstones
+            int mask = used.length - 1;
+            int gap = index;
+            int next = (gap + 1) & mask;
+            while (used[next]) {
+                int home = hash(scopes[next], commands[next]) & mask;
+                boolean movable = gap <= next ? (home <= gap || home > next) : (home <= gap && home > next);
+                if (movable) {
+                    scopes[gap] = scopes[next];
+                    commands[gap] = commands[next];
+                    deadlines[gap] = deadlines[next];
+                    gap = next;
+                }
+                next = (next + 1) & mask;
+            }
+            used[gap] = false;
+            size--;
+        }
+    }
+}
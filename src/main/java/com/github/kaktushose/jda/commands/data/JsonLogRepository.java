@@ -0,0 +1,400 @@
+package com.github.kaktushose.jda.commands.data;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParseException;
+import com.google.gson.JsonParser;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.reflect.Type;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * An implementation of the {@link Repository} interface that stores data as an append-only log of json lines. Unlike
+ * the {@link JsonRepository}, which rewrites the whole file on every change, each change only appends a single line,
+ * thus saving an entity costs the same regardless of the amount of stored entities. {@link #saveAll(Map)} and
+ * {@link #deleteAll(Collection)} append all changes with a single write.
+ *
+ * <p>Every line is either {@code {"id":1,"value":{...}}} or {@code {"id":1,"deleted":true}}. Once the log holds
+ * considerably more lines than there are entities, it gets compacted by writing the current state to a temporary file
+ * which then replaces the log, atomically if the file system supports it. If a compaction fails, the next attempt is
+ * postponed until the log has doubled in size. Writes are forced to the disk in batches after a configurable interval,
+ * call {@link #flush()} or {@link #close()} to force them immediately. Register the repository with
+ * {@link com.github.kaktushose.jda.commands.JDACommands#registerRepository(Closeable)
+ * JDACommands#registerRepository(Closeable)} to close it on shutdown.
+ *
+ * <p>If the application crashed while appending a line, the incomplete line is discarded when the log is loaded
+ * again. Files written by a {@link JsonRepository} can be loaded as well and get converted on the first compaction.
+ *
+ * @param <T> the type the repository manages
+ * @author Kaktushose
+ * @version 2.3.0
+ * @see JsonRepository
+ * @since 2.3.0
+ */
+public class JsonLogRepository<T> implements Repository<T>, Closeable {
+
+    private static final Logger log = LoggerFactory.getLogger(JsonLogRepository.class);
+    private static final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "JDA-Commands Log Sync");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final Gson gson;
+    private final Path path;
+    private final Type type;
+    private final ConcurrentLongMap<T> map;
+    private FileChannel channel;
+    private ScheduledFuture<?> syncTask;
+    private long syncInterval;
+    private int minCompactionSize;
+    private int records;
+    private int retryCompactionAt;
+    private boolean dirty;
+
+    /**
+     * Constructs a new JsonLogRepository.
+     *
+     * @param path the path of the file to save the log in
+     * @param type the {@link Type} of the entities the repository manages
+     */
+    public JsonLogRepository(@NotNull String path, @NotNull Type type) {
+        this(new File(path), type);
+    }
+
+    /**
+     * Constructs a new JsonLogRepository. Writes are forced to the disk every second and the log gets compacted once
+     * it holds more than 1000 lines and twice as many lines as entities.
+     *
+     * @param file the file to save the log in
+     * @param type the {@link Type} of the entities the repository manages
+     */
+    public JsonLogRepository(@NotNull File file, @NotNull Type type) {
+        this.path = file.toPath();
+        this.type = type;
+        gson = new Gson();
+        map = new ConcurrentLongMap<>();
+        minCompactionSize = 1000;
+        try {
+            recover();
+            channel = open();
+        } catch (IOException e) {
+            log.error("Unable to open the log file!", e);
+            throw new UncheckedIOException(e);
+        }
+        setSyncInterval(1, TimeUnit.SECONDS);
+    }
+
+    private FileChannel open() throws IOException {
+        return FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+    }
+
+    private void recover() throws IOException {
+        if (!Files.exists(path)) {
+            log.debug("File didn't exist yet. Creating a new one.");
+            return;
+        }
+        byte[] bytes = Files.readAllBytes(path);
+        int start = 0;
+        boolean terminated = true;
+        while (start < bytes.length) {
+            int end = start;
+            while (end < bytes.length && bytes[end] != '\n') {
+                end++;
+            }
+            String line = new String(bytes, start, end - start, StandardCharsets.UTF_8).trim();
+            boolean last = end + 1 >= bytes.length;
+            // a malformed last line is the remainder of an interrupted write
+            if (!line.isEmpty() && !apply(line) && last) {
+                break;
+            }
+            terminated = end < bytes.length;
+            start = Math.min(end + 1, bytes.length);
+        }
+        if (start < bytes.length) {
+            log.warn("Discarding {} bytes of an incomplete write at the end of {}", bytes.length - start, path);
+            try (FileChannel truncate = FileChannel.open(path, StandardOpenOption.WRITE)) {
+                truncate.truncate(start);
+                truncate.force(true);
+            }
+        } else if (!terminated) {
+            // a complete last line without line break, e.g. a file written by a JsonRepository
+            Files.write(path, new byte[]{'\n'}, StandardOpenOption.APPEND);
+        }
+        log.debug("Loaded {} entities from {} lines", map.size(), records);
+    }
+
+    private boolean apply(String line) {
+        try {
+            JsonObject object = JsonParser.parseString(line).getAsJsonObject();
+            if (!object.has("id")) {
+                // the map of a JsonRepository file
+                for (Map.Entry<String, JsonElement> entry : object.entrySet()) {
+                    put(Long.parseLong(entry.getKey()), gson.fromJson(entry.getValue(), type));
+                }
+            } else if (object.has("deleted")) {
+                map.remove(object.get("id").getAsLong());
+            } else {
+                put(object.get("id").getAsLong(), gson.fromJson(object.get("value"), type));
+            }
+        } catch (JsonParseException | IllegalStateException | NumberFormatException e) {
+            log.warn("Skipping malformed line in {}", path);
+            return false;
+        }
+        records++;
+        return true;
+    }
+
+    private void put(long id, T entity) {
+        if (entity == null) {
+            map.remove(id);
+        } else {
+            map.put(id, entity);
+        }
+    }
+
+    private String saveRecord(long id, T entity) {
+        if (entity == null) {
+            return deleteRecord(id);
+        }
+        JsonObject object = new JsonObject();
+        object.addProperty("id", id);
+        object.add("value", gson.toJsonTree(entity, type));
+        return gson.toJson(object);
+    }
+
+    private String deleteRecord(long id) {
+        JsonObject object = new JsonObject();
+        object.addProperty("id", id);
+        object.addProperty("deleted", true);
+        return gson.toJson(object);
+    }
+
+    private synchronized void append(StringBuilder lines, int count) {
+        if (count == 0) {
+            return;
+        }
+        try {
+            ByteBuffer buffer = ByteBuffer.wrap(lines.toString().getBytes(StandardCharsets.UTF_8));
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            records += count;
+            if (syncInterval == 0) {
+                channel.force(false);
+            } else {
+                dirty = true;
+            }
+        } catch (IOException e) {
+            log.error("An error has occurred while appending values!", e);
+            throw new UncheckedIOException(e);
+        }
+        if (records > minCompactionSize && records > map.size() * 2 && records > retryCompactionAt) {
+            compact();
+        }
+    }
+
+    /**
+     * Rewrites the log so that it only contains the current state of each entity. The log is written to a temporary
+     * file first, which then replaces the log, atomically if the file system supports it.
+     */
+    public synchronized void compact() {
+        Path temp = path.resolveSibling(path.getFileName() + ".tmp");
+        try {
+            StringBuilder lines = new StringBuilder();
+            int[] count = {0};
+            map.forEach((id, entity) -> {
+                lines.append(saveRecord(id, entity)).append('\n');
+                count[0]++;
+            });
+            try (FileChannel out = FileChannel.open(temp, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                    StandardOpenOption.TRUNCATE_EXISTING)) {
+                ByteBuffer buffer = ByteBuffer.wrap(lines.toString().getBytes(StandardCharsets.UTF_8));
+                while (buffer.hasRemaining()) {
+                    out.write(buffer);
+                }
+                out.force(true);
+            }
+            channel.close();
+            try {
+                Files.move(temp, path, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING);
+            }
+            channel = open();
+            log.debug("Compacted log from {} to {} lines", records, count[0]);
+            records = count[0];
+            retryCompactionAt = 0;
+            dirty = false;
+        } catch (IOException e) {
+            log.error("An error has occurred while compacting the log!", e);
+            // don't rewrite the whole log on every append if compacting keeps failing
+            retryCompactionAt = records * 2;
+            try {
+                if (!channel.isOpen()) {
+                    channel = open();
+                }
+            } catch (IOException reopen) {
+                throw new UncheckedIOException(reopen);
+            }
+        }
+    }
+
+    /**
+     * Forces all appended changes to the disk.
+     */
+    public synchronized void flush() {
+        if (!dirty || !channel.isOpen()) {
+            return;
+        }
+        try {
+            channel.force(false);
+            dirty = false;
+        } catch (IOException e) {
+            log.error("An error has occurred while flushing values!", e);
+        }
+    }
+
+    /**
+     * Sets the interval in which appended changes are forced to the disk. A value of {@code 0} forces every change
+     * immediately. Default value is one second.
+     *
+     * @param interval the interval
+     * @param unit     the {@link TimeUnit} of the interval
+     * @return this instance
+     */
+    public synchronized JsonLogRepository<T> setSyncInterval(long interval, @NotNull TimeUnit unit) {
+        if (syncTask != null) {
+            syncTask.cancel(false);
+            syncTask = null;
+        }
+        syncInterval = unit.toMillis(interval);
+        if (syncInterval > 0) {
+            syncTask = scheduler.scheduleWithFixedDelay(this::flush, syncInterval, syncInterval, TimeUnit.MILLISECONDS);
+        } else {
+            flush();
+        }
+        return this;
+    }
+
+    /**
+     * Sets the minimum amount of lines the log must hold before it gets compacted. Default value is 1000.
+     *
+     * @param minCompactionSize the minimum amount of lines
+     * @return this instance
+     */
+    public synchronized JsonLogRepository<T> setMinCompactionSize(int minCompactionSize) {
+        this.minCompactionSize = minCompactionSize;
+        return this;
+    }
+
+    /**
+     * Forces all appended changes to the disk and closes the log. This repository must not be modified afterwards.
+     */
+    @Override
+    public synchronized void close() {
+        if (syncTask != null) {
+            syncTask.cancel(false);
+            syncTask = null;
+        }
+        flush();
+        try {
+            channel.close();
+        } catch (IOException e) {
+            log.error("An error has occurred while closing the log!", e);
+        }
+    }
+
+    @Override
+    public long count() {
+        return map.size();
+    }
+
+    @Override
+    public void delete(long id) {
+        synchronized (this) {
+            map.remove(id);
+            append(new StringBuilder(deleteRecord(id)).append('\n'), 1);
+        }
+    }
+
+    @Override
+    public void deleteAll(@NotNull Collection<Long> ids) {
+        StringBuilder lines = new StringBuilder();
+        synchronized (this) {
+            for (long id : ids) {
+                map.remove(id);
+                lines.append(deleteRecord(id)).append('\n');
+            }
+            append(lines, ids.size());
+        }
+    }
+
+    @Override
+    public boolean existsById(long id) {
+        return map.containsKey(id);
+    }
+
+    @Override
+    public Collection<T> findAll() {
+        return map.values();
+    }
+
+    @Override
+    public Optional<T> findById(long id) {
+        return Optional.ofNullable(map.get(id));
+    }
+
+    /**
+     * Saves a given entity. Saving {@code null} deletes the entity.
+     *
+     * @param id     the id of the entity to save
+     * @param entity the entity to save
+     */
+    @Override
+    public void save(long id, @Nullable T entity) {
+        synchronized (this) {
+            put(id, entity);
+            append(new StringBuilder(saveRecord(id, entity)).append('\n'), 1);
+        }
+    }
+
+    @Override
+    public void saveAll(@NotNull Map<@Nullable Long, @Nullable T> entities) {
+        StringBuilder lines = new StringBuilder();
+        int count = 0;
+        synchronized (this) {
+            for (Map.Entry<Long, T> entry : entities.entrySet()) {
+                if (entry.getKey() == null) {
+                    continue;
+                }
+                put(entry.getKey(), entry.getValue());
+                lines.append(saveRecord(entry.getKey(), entry.getValue())).append('\n');
+                count++;
+            }
+            append(lines, count);
+        }
+    }
+}
@@ -7,30 +7,68 @@ import org.jetbrains.annotations.Nullable;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.io.Closeable;
 import java.io.File;
 import java.io.FileReader;
-import java.io.FileWriter;
 import java.io.IOException;
+import java.io.Writer;
 import java.lang.reflect.Type;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.UnaryOperator;
 
 /**
- * An implementation of the {@link Repository} interface that stores data as json.
+ * An implementation of the {@link Repository} interface that stores data as json. The file is always rewritten as a
+ * whole by writing to a temporary file first, which then replaces the file. The replacement is atomic if the file
+ * system supports it.
+ *
+ * <p>By default, every change is written immediately on the calling thread. If write-behind is enabled via
+ * {@link #setWriteBehind(long, TimeUnit)}, changes are only applied in memory and the file is written on a background
+ * thread after the given interval or once the amount of changes exceeds a threshold. Multiple changes in between get
+ * coalesced into a single write. Call {@link #flush()} to write pending changes immediately or {@link #close()} to
+ * write them and disable write-behind. Register the repository with
+ * {@link com.github.kaktushose.jda.commands.JDACommands#registerRepository(Closeable)
+ * JDACommands#registerRepository(Closeable)} to close it on shutdown.
+ *
+ * <p>The entities are held in a {@link ConcurrentLongMap}, thus the repository can be read and modified from multiple
+ * threads. Subclasses access it through the {@link Map} view {@link #map}. Use {@link #update(long, UnaryOperator)}
+ * to modify an entity based on its current state without losing concurrent changes.
  *
  * @param <T> the type the repository manages
  * @author Kaktushose
- * @version 2.0.0
+ * @version 2.3.0
  * @since 2.0.0
  */
-public abstract class JsonRepository<T> implements Repository<T> {
+public abstract class JsonRepository<T> implements Repository<T>, Closeable {
 
     private static final Logger log = LoggerFactory.getLogger(JsonRepository.class);
+    private static final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "JDA-Commands Write Behind");
+        thread.setDaemon(true);
+        return thread;
+    });
     private final Gson gson;
     private final File file;
     private final Type mapType;
-    protected Map<Long, T> map;
+    private final Object writeLock;
+    private final ConcurrentLongMap<T> entities;
+    protected final Map<Long, T> map;
+    private ScheduledFuture<?> flushTask;
+    private long writeBehindInterval;
+    private int flushThreshold;
+    private int dirtyCount;
+    private boolean flushQueued;
 
     /**
      * Constructs a new JsonRepository.
@@ -52,7 +90,10 @@ public abstract class JsonRepository<T> implements Repository<T> {
         this.file = file;
         this.mapType = mapType;
         gson = new Gson();
-        map = new HashMap<>();
+        writeLock = new Object();
+        entities = new ConcurrentLongMap<>();
+        map = entities.asMap();
+        flushThreshold = 100;
         if (!file.exists()) {
             try {
                 file.createNewFile();
@@ -68,7 +109,11 @@ public abstract class JsonRepository<T> implements Repository<T> {
 
     protected void load() {
         try (JsonReader reader = new JsonReader(new FileReader(file))) {
-            map = gson.fromJson(reader, mapType);
+            Map<Long, T> values = gson.fromJson(reader, mapType);
+            entities.clear();
+            if (values != null) {
+                values.forEach(this::put);
+            }
             log.debug("Loaded values from file");
         } catch (IOException e) {
             e.printStackTrace();
@@ -76,45 +121,204 @@ public abstract class JsonRepository<T> implements Repository<T> {
         }
     }
 
+    /**
+     * Marks the repository as modified. Writes the file immediately or, if write-behind is enabled, schedules the write.
+     */
     protected void save() {
-        try (FileWriter writer = new FileWriter(file)) {
-            gson.toJson(map, writer);
-            log.debug("Saved values to file");
-        } catch (IOException e) {
-            e.printStackTrace();
-            log.error("An error has occurred while saving values!", e);
+        synchronized (this) {
+            if (writeBehindInterval > 0) {
+                dirtyCount++;
+                if (dirtyCount >= flushThreshold) {
+                    if (!flushQueued) {
+                        flushQueued = true;
+                        scheduler.execute(this::flush);
+                    }
+                } else if (flushTask == null || flushTask.isDone()) {
+                    flushTask = scheduler.schedule(this::flush, writeBehindInterval, TimeUnit.MILLISECONDS);
+                }
+                return;
+            }
+        }
+        write();
+    }
+
+    /**
+     * Writes all pending changes to the file. Does nothing if there are no pending changes.
+     */
+    public void flush() {
+        synchronized (this) {
+            if (dirtyCount == 0) {
+                return;
+            }
+        }
+        write();
+    }
+
+    private void write() {
+        synchronized (writeLock) {
+            Map<Long, T> snapshot;
+            synchronized (this) {
+                dirtyCount = 0;
+                flushQueued = false;
+            }
+            // changes made after resetting the counter are rescheduled once this write is done
+            snapshot = new HashMap<>();
+            entities.forEach(snapshot::put);
+            Path target = file.toPath();
+            Path temp = target.resolveSibling(target.getFileName() + ".tmp");
+            try {
+                try (Writer writer = Files.newBufferedWriter(temp, StandardCharsets.UTF_8)) {
+                    gson.toJson(snapshot, mapType, writer);
+                }
+                try {
+                    Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+                } catch (AtomicMoveNotSupportedException e) {
+                    Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING);
+                }
+                log.debug("Saved values to file");
+            } catch (IOException e) {
+                log.error("An error has occurred while saving values!", e);
+                synchronized (this) {
+                    dirtyCount++;
+                }
+            }
+            synchronized (this) {
+                if (dirtyCount > 0 && writeBehindInterval > 0) {
+                    // a pending flush task may already be running this write, thus always schedule a new one
+                    if (flushTask != null) {
+                        flushTask.cancel(false);
+                    }
+                    flushTask = scheduler.schedule(this::flush, writeBehindInterval, TimeUnit.MILLISECONDS);
+                }
+            }
+        }
+    }
+
+    /**
+     * Enables write-behind. Changes will be written to the file on a background thread after the given interval. A
+     * value of {@code 0} disables write-behind and writes every change immediately, which is the default.
+     *
+     * @param interval the interval after which changes are written
+     * @param unit     the {@link TimeUnit} of the interval
+     * @return this instance
+     */
+    public JsonRepository<T> setWriteBehind(long interval, @NotNull TimeUnit unit) {
+        synchronized (this) {
+            writeBehindInterval = unit.toMillis(interval);
+        }
+        if (writeBehindInterval == 0) {
+            flush();
+        }
+        return this;
+    }
+
+    /**
+     * Writes all pending changes and disables write-behind, thus later changes are written immediately.
+     */
+    @Override
+    public void close() {
+        synchronized (this) {
+            if (flushTask != null) {
+                flushTask.cancel(false);
+                flushTask = null;
+            }
+        }
+        setWriteBehind(0, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Sets the amount of changes after which the file is written regardless of the write-behind interval. Default
+     * value is 100.
+     *
+     * @param flushThreshold the amount of changes
+     * @return this instance
+     */
+    public synchronized JsonRepository<T> setFlushThreshold(int flushThreshold) {
+        this.flushThreshold = flushThreshold;
+        return this;
+    }
+
+    /**
+     * Atomically updates an entity. The function gets the current entity or {@code null} if none exists and returns
+     * the new entity or {@code null} to delete it. If the entity was modified concurrently, the function is called
+     * again with the new entity, thus it must not modify the given entity but return a new one. Entities are compared
+     * by identity, returning the modified current entity would overwrite concurrent changes. For
+     * {@link com.github.kaktushose.jda.commands.settings.GuildSettings GuildSettings} use
+     * {@link com.github.kaktushose.jda.commands.settings.GuildSettings#copy() GuildSettings#copy()}, e.g.
+     * {@code update(id, settings -> settings.copy().setPrefix("?"))}.
+     *
+     * @param id       the id of the entity to update
+     * @param function the function to compute the new entity with
+     * @return the new entity or an empty Optional if it was deleted
+     */
+    public Optional<T> update(long id, @NotNull UnaryOperator<T> function) {
+        while (true) {
+            T current = entities.get(id);
+            T updated = function.apply(current);
+            boolean success;
+            if (current == null) {
+                success = updated == null || entities.putIfAbsent(id, updated) == null;
+            } else if (updated == null) {
+                success = entities.remove(id, current);
+            } else {
+                success = entities.replace(id, current, updated);
+            }
+            if (success) {
+                save();
+                return Optional.ofNullable(updated);
+            }
         }
     }
 
     @Override
     public long count() {
-        return map.size();
+        return entities.size();
     }
 
     @Override
     public void delete(long id) {
-        map.remove(id);
+        entities.remove(id);
         save();
     }
 
     @Override
     public void deleteAll(@NotNull Collection<Long> ids) {
-        ids.forEach(this::delete);
+        ids.forEach(entities::remove);
+        save();
     }
 
     @Override
     public boolean existsById(long id) {
-        return map.containsKey(id);
+        return entities.containsKey(id);
     }
 
+    /**
+     * Saves a given entity. Saving {@code null} deletes the entity.
+     *
+     * @param id     the id of the entity to save
+     * @param entity the entity to save
+     */
     @Override
     public void save(long id, @Nullable T entity) {
-        map.put(id, entity);
+        put(id, entity);
         save();
     }
 
     @Override
     public void saveAll(@NotNull Map<@Nullable Long, @Nullable T> entities) {
-        entities.forEach(this::save);
+        entities.forEach((id, entity) -> {
+            if (id != null) {
+                put(id, entity);
+            }
+        });
+        save();
+    }
+
+    private void put(long id, T entity) {
+        if (entity == null) {
+            entities.remove(id);
+        } else {
+            entities.put(id, entity);
+        }
     }
 }
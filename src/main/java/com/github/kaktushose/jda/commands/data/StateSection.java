@@ -1,39 +1,86 @@
 package com.github.kaktushose.jda.commands.data;
 
+import com.github.kaktushose.jda.commands.data.TimingWheel.Timeout;
+import com.github.kaktushose.jda.commands.data.impl.HeapStateStore;
 import com.github.kaktushose.jda.commands.dispatching.GenericEvent;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
 import java.util.concurrent.Executors;
-import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
 
 /**
  * Simple key value store for state management.
  *
+ * <p>If a time to live is set, every value and every section expires after the time to live has passed since it was
+ * last put. Putting a value again resets its time to live. The expiration is handled by the shared
+ * {@link TimingWheel}, thus StateSections don't create any threads unless their {@link StateStore} is
+ * {@link StateStore#isBlocking() blocking}. Call {@link #close()} if a StateSection is no longer needed to cancel the
+ * pending expirations of its values and sections.
+ *
+ * <p>A StateSection can also be bounded by {@link #setMaximumSize(long)} or {@link #setMaximumWeight(long, Weigher)}.
+ * Values and sections count towards the same bound. Once the bound is exceeded, entries are evicted according to the
+ * {@link EvictionPolicy} until the section is at 90% of the bound. Each eviction sorts all entries of the section
+ * while holding its lock, i.e. it costs {@code O(n log n)} for {@code n} entries, which the batching spreads over the
+ * following puts. Thus bounded sections are meant to hold hundreds or a few thousand entries, not millions. Registered
+ * {@link EvictionListener EvictionListeners} get notified about every expired or evicted entry.
+ *
+ * <p>The values are stored in a {@link StateStore}, which keeps them on-heap by default. Nested sections use the
+ * {@link StateStore} of their parent and their path, e.g. {@code 1234/menu}, to identify their values. If the
+ * {@link StateStore} is persistent, a section restores its values when it gets created with the same path again.
+ * Closing a section keeps its values in the {@link StateStore}, call {@link #clear()} and {@link #clearSections()}
+ * beforehand to delete them.
+ *
  * @author Kaktushose
  * @version 2.3.0
  * @since 2.3.0
  */
-public class StateSection {
+public class StateSection implements AutoCloseable {
 
-    private final Map<String, StateSection> sections;
-    private final Map<String, Object> values;
-    private final long amount;
-    private final TimeUnit unit;
-    private final ScheduledExecutorService executorService;
+    private static final Weigher DEFAULT_WEIGHER = (key, value) -> 1;
+    // serializes the changes of a key, so that the store is always consistent with the entry without doing the I/O of
+    // the store inside the compute functions of the map
+    private static final Object[] LOCKS = new Object[64];
+    private final Map<String, Entry<StateSection>> sections;
+    private final Map<String, Entry<Object>> values;
+    private final long timeToLive;
+    private final String path;
+    private final StateStore store;
+    private final StateStore.Partition partition;
+    private final TimingWheel timingWheel;
+    private final List<EvictionListener> listeners;
+    private final AtomicLong weight;
+    private final LongAdder hits;
+    private final LongAdder misses;
+    private final LongAdder evictions;
+    private volatile long maximumWeight;
+    private volatile Weigher weigher;
+    private volatile EvictionPolicy evictionPolicy;
+    private volatile FrequencySketch sketch;
+
+    static {
+        for (int i = 0; i < LOCKS.length; i++) {
+            LOCKS[i] = new Object();
+        }
+    }
 
     /**
      * Constructs a new StateSection.
      */
     public StateSection() {
-        this.sections = new ConcurrentHashMap<>();
-        this.values = new ConcurrentHashMap<>();
-        amount = 0;
-        unit = TimeUnit.MINUTES;
-        executorService = Executors.newScheduledThreadPool(10);
+        this(0, TimeUnit.MINUTES);
     }
 
     /**
@@ -43,11 +90,51 @@ public class StateSection {
      * @param unit   the time unit of the delay parameter
      */
     public StateSection(long amount, @NotNull TimeUnit unit) {
+        this(amount, unit, new HeapStateStore());
+    }
+
+    /**
+     * Constructs a new StateSection that stores its values in the given {@link StateStore}.
+     *
+     * @param store the {@link StateStore} to use
+     */
+    public StateSection(@NotNull StateStore store) {
+        this(0, TimeUnit.MINUTES, store);
+    }
+
+    /**
+     * Constructs a new StateSection with a specified time to live for all values that stores its values in the given
+     * {@link StateStore}.
+     *
+     * @param amount the amount of time of the TTL
+     * @param unit   the time unit of the delay parameter
+     * @param store  the {@link StateStore} to use
+     */
+    public StateSection(long amount, @NotNull TimeUnit unit, @NotNull StateStore store) {
+        this("", amount, unit, store);
+    }
+
+    private StateSection(String path, long amount, TimeUnit unit, StateStore store) {
         this.sections = new ConcurrentHashMap<>();
         this.values = new ConcurrentHashMap<>();
-        this.amount = amount;
-        this.unit = unit;
-        executorService = Executors.newScheduledThreadPool(10);
+        timeToLive = unit.toNanos(amount);
+        this.path = path;
+        this.store = store;
+        partition = store.partition(path);
+        timingWheel = TimingWheel.getShared();
+        listeners = new CopyOnWriteArrayList<>();
+        weight = new AtomicLong();
+        hits = new LongAdder();
+        misses = new LongAdder();
+        evictions = new LongAdder();
+        weigher = DEFAULT_WEIGHER;
+        evictionPolicy = EvictionPolicy.LRU;
+        for (String key : partition.keys()) {
+            Entry<Object> entry = new Entry<>(null, 1, System.nanoTime() + timeToLive, false);
+            values.put(key, entry);
+            schedule(key, entry);
+            weight.incrementAndGet();
+        }
     }
 
     /**
@@ -81,15 +168,7 @@ public class StateSection {
      * @return a StateSection
      */
     public StateSection section(String key) {
-        if (sections.containsKey(key)) {
-            return sections.get(key);
-        }
-        StateSection section = new StateSection();
-        sections.put(key, section);
-        if (amount > 0) {
-            executorService.schedule(() -> sections.remove(key), amount, unit);
-        }
-        return section;
+        return section(key, () -> new StateSection(childPath(key), 0, TimeUnit.MINUTES, store));
     }
 
     /**
@@ -102,15 +181,33 @@ public class StateSection {
      * @return a StateSection
      */
     public StateSection section(String key, long amount, @NotNull TimeUnit unit) {
-        if (sections.containsKey(key)) {
-            return sections.get(key);
+        return section(key, () -> new StateSection(childPath(key), amount, unit, store));
+    }
+
+    private StateSection section(String key, Supplier<StateSection> factory) {
+        Entry<StateSection> entry = sections.get(key);
+        if (entry != null && !isExpired(entry)) {
+            recordHit(key, entry);
+            return entry.value;
         }
-        StateSection section = new StateSection(amount, unit);
-        sections.put(key, section);
-        if (amount > 0) {
-            executorService.schedule(() -> sections.remove(key), amount, unit);
+        misses.increment();
+        List<Entry<StateSection>> replaced = new ArrayList<>(1);
+        entry = sections.compute(key, (k, current) -> {
+            if (current != null && !isExpired(current)) {
+                return current;
+            }
+            replaced.add(current);
+            Entry<StateSection> created = new Entry<>(factory.get(), 1, System.nanoTime() + timeToLive, true);
+            return schedule(key, created);
+        });
+        if (!replaced.isEmpty()) {
+            Entry<StateSection> expired = replaced.get(0);
+            if (expired != null) {
+                release(key, expired, expired.value, RemovalCause.EXPIRED);
+            }
+            added(key, entry);
         }
-        return section;
+        return entry.value;
     }
 
     /**
@@ -122,7 +219,14 @@ public class StateSection {
      * @return an {@link Optional} holding the value
      */
     public <T> Optional<T> get(String key, @NotNull Class<? extends T> clazz) {
-        return Optional.ofNullable(values.get(key)).filter(it -> it.getClass().isAssignableFrom(clazz)).map(clazz::cast);
+        Entry<Object> entry = values.get(key);
+        Object value = entry == null || isExpired(entry) ? null : partition.get(key);
+        if (value == null) {
+            misses.increment();
+            return Optional.empty();
+        }
+        recordHit(key, entry);
+        return Optional.of(value).filter(it -> it.getClass().isAssignableFrom(clazz)).map(clazz::cast);
     }
 
     /**
@@ -133,10 +237,19 @@ public class StateSection {
      * @return this instance for fluent interface
      */
     public StateSection put(String key, Object value) {
-        values.put(key, value);
-        if (amount > 0) {
-            executorService.schedule(() -> values.remove(key), amount, unit);
+        Objects.requireNonNull(value);
+        int entryWeight = maximumWeight > 0 ? weigher.weigh(key, value) : 1;
+        Entry<Object> entry = new Entry<>(null, entryWeight, System.nanoTime() + timeToLive, false);
+        Entry<Object> replaced;
+        synchronized (lockOf(key)) {
+            partition.put(key, value);
+            replaced = values.put(key, entry);
         }
+        if (replaced != null) {
+            release(key, replaced, null, RemovalCause.REMOVED);
+        }
+        schedule(key, entry);
+        added(key, entry);
         return this;
     }
 
@@ -147,7 +260,8 @@ public class StateSection {
      * @return {@code true} if this StateSection has a value mapped to the key
      */
     public boolean contains(String key) {
-        return values.containsKey(key);
+        Entry<Object> entry = values.get(key);
+        return entry != null && !isExpired(entry);
     }
 
     /**
@@ -157,7 +271,8 @@ public class StateSection {
      * @return {@code true} if this StateSection has a value mapped to the key
      */
     public boolean containsSection(String key) {
-        return sections.containsKey(key);
+        Entry<StateSection> entry = sections.get(key);
+        return entry != null && !isExpired(entry);
     }
 
     /**
@@ -167,7 +282,7 @@ public class StateSection {
      * @return this instance for fluent interface
      */
     public StateSection remove(String key) {
-        values.remove(key);
+        removeValue(key, null, RemovalCause.REMOVED);
         return this;
     }
 
@@ -178,7 +293,10 @@ public class StateSection {
      * @return this instance for fluent interface
      */
     public StateSection removeSection(String key) {
-        sections.remove(key);
+        Entry<StateSection> entry = sections.remove(key);
+        if (entry != null) {
+            release(key, entry, entry.value, RemovalCause.REMOVED);
+        }
         return this;
     }
 
@@ -188,7 +306,7 @@ public class StateSection {
      * @return this instance for fluent interface
      */
     public StateSection clear() {
-        values.clear();
+        values.keySet().forEach(this::remove);
         return this;
     }
 
@@ -198,8 +316,445 @@ public class StateSection {
      * @return this instance for fluent interface
      */
     public StateSection clearSections() {
-        sections.clear();
+        sections.keySet().forEach(this::removeSection);
+        return this;
+    }
+
+    /**
+     * Cancels the pending expirations of all values and sections and detaches them from this StateSection. Nested
+     * sections get closed as well. The values are kept in the {@link StateStore}, thus a persistent
+     * {@link StateStore} restores them once a section with the same path gets created again. Call {@link #clear()}
+     * and {@link #clearSections()} beforehand to delete the values instead.
+     */
+    @Override
+    public void close() {
+        values.keySet().forEach(key -> {
+            Entry<Object> entry = values.remove(key);
+            if (entry != null) {
+                weight.addAndGet(-entry.weight);
+                cancel(entry);
+            }
+        });
+        sections.keySet().forEach(key -> {
+            Entry<StateSection> entry = sections.remove(key);
+            if (entry != null) {
+                weight.addAndGet(-entry.weight);
+                cancel(entry);
+                entry.value.close();
+            }
+        });
+    }
+
+    /**
+     * Bounds this StateSection to a maximum amount of values and sections. A value of {@code 0} removes the bound,
+     * which is the default.
+     *
+     * @param maximumSize the maximum amount of values and sections
+     * @return this instance for fluent interface
+     */
+    public StateSection setMaximumSize(long maximumSize) {
+        return setMaximumWeight(maximumSize, DEFAULT_WEIGHER);
+    }
+
+    /**
+     * Bounds this StateSection to a maximum total weight of values and sections, e.g. their estimated size in bytes.
+     * Sections always have a weight of one. A value of {@code 0} removes the bound, which is the default. The weight
+     * of values that are already present isn't recalculated.
+     *
+     * @param maximumWeight the maximum total weight
+     * @param weigher       the {@link Weigher} to calculate the weight of values with
+     * @return this instance for fluent interface
+     */
+    public StateSection setMaximumWeight(long maximumWeight, @NotNull Weigher weigher) {
+        if (maximumWeight < 0) {
+            throw new IllegalArgumentException("Maximum weight must not be negative!");
+        }
+        this.weigher = weigher;
+        this.maximumWeight = maximumWeight;
+        updateSketch();
+        evictIfNecessary();
+        return this;
+    }
+
+    /**
+     * Sets the {@link EvictionPolicy} that decides which entries get evicted once the bound is exceeded. Default value
+     * is {@link EvictionPolicy#LRU}.
+     *
+     * @param evictionPolicy the {@link EvictionPolicy}
+     * @return this instance for fluent interface
+     */
+    public StateSection setEvictionPolicy(@NotNull EvictionPolicy evictionPolicy) {
+        this.evictionPolicy = evictionPolicy;
+        updateSketch();
+        return this;
+    }
+
+    /**
+     * Adds an {@link EvictionListener} that gets notified if a value or section expired or got evicted.
+     *
+     * @param listener the {@link EvictionListener} to add
+     * @return this instance for fluent interface
+     */
+    public StateSection addEvictionListener(@NotNull EvictionListener listener) {
+        listeners.add(listener);
+        return this;
+    }
+
+    /**
+     * Removes an {@link EvictionListener}.
+     *
+     * @param listener the {@link EvictionListener} to remove
+     * @return this instance for fluent interface
+     */
+    public StateSection removeEvictionListener(@NotNull EvictionListener listener) {
+        listeners.remove(listener);
         return this;
     }
 
+    /**
+     * Gets the amount of values and sections.
+     *
+     * @return the amount of values and sections
+     */
+    public int size() {
+        return values.size() + sections.size();
+    }
+
+    /**
+     * Gets the total weight of values and sections. Equals {@link #size()} unless a {@link Weigher} is used.
+     *
+     * @return the total weight
+     */
+    public long getWeight() {
+        return weight.get();
+    }
+
+    /**
+     * Gets the amount of lookups that found a value or section.
+     *
+     * @return the amount of hits
+     */
+    public long getHitCount() {
+        return hits.sum();
+    }
+
+    /**
+     * Gets the amount of lookups that didn't find a value or section.
+     *
+     * @return the amount of misses
+     */
+    public long getMissCount() {
+        return misses.sum();
+    }
+
+    /**
+     * Gets the ratio of hits to all lookups.
+     *
+     * @return the hit rate between {@code 0} and {@code 1}
+     */
+    public double getHitRate() {
+        long hits = getHitCount();
+        long total = hits + getMissCount();
+        return total == 0 ? 0 : (double) hits / total;
+    }
+
+    /**
+     * Gets the amount of values and sections that were evicted because the bound was exceeded.
+     *
+     * @return the amount of evictions
+     */
+    public long getEvictionCount() {
+        return evictions.sum();
+    }
+
+    private boolean isExpired(Entry<?> entry) {
+        return timeToLive > 0 && System.nanoTime() - entry.expiresAt >= 0;
+    }
+
+    private String childPath(String key) {
+        return path.isEmpty() ? key : path + "/" + key;
+    }
+
+    private <T> Entry<T> schedule(String key, Entry<T> entry) {
+        if (timeToLive > 0) {
+            // only removes this entry, not an entry that was put afterwards
+            Runnable expiration = () -> remove(key, entry, RemovalCause.EXPIRED);
+            if (store.isBlocking()) {
+                // the thread of the timing wheel must not block
+                Runnable task = expiration;
+                expiration = () -> ExpirationExecutor.executor.execute(task);
+            }
+            entry.timeout = timingWheel.schedule(expiration, timeToLive, TimeUnit.NANOSECONDS);
+        }
+        return entry;
+    }
+
+    private Object lockOf(String key) {
+        int hash = System.identityHashCode(this) * 31 + key.hashCode();
+        return LOCKS[(hash ^ (hash >>> 16)) & (LOCKS.length - 1)];
+    }
+
+    @SuppressWarnings("unchecked")
+    private boolean remove(String key, Entry<?> entry, RemovalCause cause) {
+        if (!entry.section) {
+            return removeValue(key, (Entry<Object>) entry, cause);
+        }
+        if (sections.remove(key, entry)) {
+            release(key, entry, entry.value, cause);
+            return true;
+        }
+        return false;
+    }
+
+    // removes the value if it is still associated with the expected entry or, if no entry is expected, any value
+    private boolean removeValue(String key, @Nullable Entry<Object> expected, RemovalCause cause) {
+        Entry<Object> removed;
+        Object value = null;
+        synchronized (lockOf(key)) {
+            removed = values.get(key);
+            if (removed == null || (expected != null && removed != expected)) {
+                return false;
+            }
+            if (cause != RemovalCause.REMOVED && !listeners.isEmpty()) {
+                value = partition.get(key);
+            }
+            values.remove(key, removed);
+            partition.remove(key);
+        }
+        release(key, removed, value, cause);
+        return true;
+    }
+
+    private void recordHit(String key, Entry<?> entry) {
+        hits.increment();
+        if (maximumWeight > 0) {
+            entry.lastAccess = System.nanoTime();
+            FrequencySketch sketch = this.sketch;
+            if (sketch != null) {
+                sketch.increment(key.hashCode());
+            }
+        }
+    }
+
+    private void added(String key, Entry<?> entry) {
+        weight.addAndGet(entry.weight);
+        FrequencySketch sketch = this.sketch;
+        if (sketch != null) {
+            sketch.increment(key.hashCode());
+        }
+        evictIfNecessary();
+    }
+
+    private void release(String key, Entry<?> entry, @Nullable Object value, RemovalCause cause) {
+        weight.addAndGet(-entry.weight);
+        cancel(entry);
+        if (entry.section) {
+            StateSection section = (StateSection) entry.value;
+            section.clear();
+            section.clearSections();
+            section.close();
+            store.drop(section.path);
+        }
+        if (value != null && (cause == RemovalCause.EXPIRED || cause == RemovalCause.SIZE)) {
+            for (EvictionListener listener : listeners) {
+                listener.onEviction(key, value, cause == RemovalCause.SIZE);
+            }
+        }
+    }
+
+    private void cancel(Entry<?> entry) {
+        Timeout timeout = entry.timeout;
+        if (timeout != null) {
+            timeout.cancel();
+        }
+    }
+
+    private void updateSketch() {
+        if (maximumWeight > 0 && evictionPolicy == EvictionPolicy.LFU) {
+            if (sketch == null) {
+                sketch = new FrequencySketch(maximumWeight);
+            }
+        } else {
+            sketch = null;
+        }
+    }
+
+    private void evictIfNecessary() {
+        long maximum = maximumWeight;
+        if (maximum > 0 && weight.get() > maximum) {
+            evict(maximum);
+        }
+    }
+
+    private synchronized void evict(long maximum) {
+        long target = maximum - maximum / 10;
+        if (weight.get() <= maximum) {
+            return;
+        }
+        List<Candidate> candidates = new ArrayList<>(size());
+        FrequencySketch sketch = this.sketch;
+        values.forEach((key, entry) -> candidates.add(new Candidate(key, entry, sketch)));
+        sections.forEach((key, entry) -> candidates.add(new Candidate(key, entry, sketch)));
+        // least frequently used first, if the frequency is unknown or equal least recently used first
+        candidates.sort(Comparator.comparingInt((Candidate candidate) -> candidate.frequency)
+                .thenComparingLong(candidate -> candidate.entry.lastAccess));
+        for (Candidate candidate : candidates) {
+            if (weight.get() <= target) {
+                break;
+            }
+            if (remove(candidate.key, candidate.entry, RemovalCause.SIZE)) {
+                evictions.increment();
+            }
+        }
+    }
+
+    /**
+     * The policy that decides which entries get evicted once a bounded {@link StateSection} exceeds its bound.
+     */
+    public enum EvictionPolicy {
+        /**
+         * Evicts the least recently used entries first.
+         */
+        LRU,
+        /**
+         * Evicts the least frequently used entries first, which keeps frequently used entries even if they haven't
+         * been used for some time. The frequencies are estimated by a small sketch that halves all frequencies
+         * periodically, so that entries that were only used frequently in the past get evicted eventually. Entries
+         * with the same frequency are evicted in least recently used order.
+         *
+         * <p>This is plain sketch-based LFU. Unlike W-TinyLFU there is neither an admission window nor an admission
+         * filter, thus new entries compete with established ones only by their frequency.
+         */
+        LFU
+    }
+
+    /**
+     * Calculates the weight of a value, e.g. its estimated size in bytes.
+     */
+    @FunctionalInterface
+    public interface Weigher {
+
+        /**
+         * Calculates the weight of a value.
+         *
+         * @param key   the key of the value
+         * @param value the value
+         * @return the weight of the value, must not be negative
+         */
+        int weigh(@NotNull String key, @NotNull Object value);
+    }
+
+    /**
+     * Listener that gets notified if a value or a section of a {@link StateSection} expired or got evicted. It is
+     * called on the thread that caused the eviction. For expirations this is the thread of the shared
+     * {@link TimingWheel} or, if the {@link StateStore} is {@link StateStore#isBlocking() blocking}, a separate
+     * expiration thread, thus it must not block.
+     */
+    @FunctionalInterface
+    public interface EvictionListener {
+
+        /**
+         * Called if a value or section expired or got evicted.
+         *
+         * @param key     the key of the value or section
+         * @param value   the value or the {@link StateSection}
+         * @param evicted {@code true} if the bound was exceeded, {@code false} if the time to live has passed
+         */
+        void onEviction(@NotNull String key, @NotNull Object value, boolean evicted);
+    }
+
+    private enum RemovalCause {
+        REMOVED, EXPIRED, SIZE
+    }
+
+    // lazily started, only used for the expirations of values in blocking stores
+    private static class ExpirationExecutor {
+        private static final Executor executor = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "JDA-Commands State Expiration");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    private static class Entry<T> {
+        private final T value;
+        private final int weight;
+        private final long expiresAt;
+        private final boolean section;
+        // not volatile on purpose, a slightly outdated access time only makes the eviction less precise
+        private long lastAccess;
+        private volatile Timeout timeout;
+
+        private Entry(T value, int weight, long expiresAt, boolean section) {
+            this.value = value;
+            this.weight = weight;
+            this.expiresAt = expiresAt;
+            this.section = section;
+            lastAccess = System.nanoTime();
+        }
+    }
+
+    private static class Candidate {
+        private final String key;
+        private final Entry<?> entry;
+        private final int frequency;
+
+        private Candidate(String key, Entry<?> entry, FrequencySketch sketch) {
+            this.key = key;
+            this.entry = entry;
+            this.frequency = sketch == null ? 0 : sketch.frequency(key.hashCode());
+        }
+    }
+
+    // count-min sketch of 4-bit counters, all counters get halved periodically to age out old frequencies
+    private static class FrequencySketch {
+
+        private final long[] table;
+        private final int sampleSize;
+        private int increments;
+
+        private FrequencySketch(long maximumSize) {
+            int length = Integer.highestOneBit((int) Math.min(Math.max(maximumSize, 16), 1 << 24) - 1) << 1;
+            table = new long[length];
+            sampleSize = length * 10;
+        }
+
+        private synchronized void increment(int hash) {
+            boolean added = false;
+            for (int i = 0; i < 4; i++) {
+                int index = index(hash, i);
+                int shift = offset(hash, i);
+                if (((table[index] >>> shift) & 0xF) < 15) {
+                    table[index] += 1L << shift;
+                    added = true;
+                }
+            }
+            if (added && ++increments >= sampleSize) {
+                for (int i = 0; i < table.length; i++) {
+                    table[i] = (table[i] >>> 1) & 0x7777777777777777L;
+                }
+                increments /= 2;
+            }
+        }
+
+        private synchronized int frequency(int hash) {
+            int frequency = 15;
+            for (int i = 0; i < 4; i++) {
+                frequency = Math.min(frequency, (int) ((table[index(hash, i)] >>> offset(hash, i)) & 0xF));
+            }
+            return frequency;
+        }
+
+        private int index(int hash, int i) {
+            int h = (hash + i) * 0x9E3779B9;
+            h ^= h >>> 16;
+            return h & (table.length - 1);
+        }
+
+        private int offset(int hash, int i) {
+            // each of the four hash functions uses its own quarter of the 16 counters of a long
+            int h = hash * 0x85EBCA6B;
+            return ((i << 2) + ((h >>> 28) & 3)) << 2;
+        }
+    }
 }
@@ -0,0 +1,98 @@
+package com.github.kaktushose.jda.commands.data;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Collection;
+
+/**
+ * Backend that stores the values of {@link StateSection StateSections}. Each StateSection uses its own
+ * {@link Partition}, which is identified by the path of the section, e.g. {@code 1234/menu} for the section
+ * {@code menu} nested in the section {@code 1234} of the root section. Nested sections of a root section share the
+ * StateStore of the root section.
+ *
+ * <p>The time to live, the bound and the statistics of a StateSection are always kept on-heap, only the values
+ * themselves are stored in the StateStore. Implementations must be thread safe.
+ *
+ * @author Kaktushose
+ * @version 2.3.0
+ * @see com.github.kaktushose.jda.commands.data.impl.HeapStateStore HeapStateStore
+ * @see com.github.kaktushose.jda.commands.data.impl.OffHeapStateStore OffHeapStateStore
+ * @see com.github.kaktushose.jda.commands.data.impl.FileStateStore FileStateStore
+ * @since 2.3.0
+ */
+public interface StateStore extends AutoCloseable {
+
+    /**
+     * Gets or creates the {@link Partition} of a section path.
+     *
+     * @param path the path of the section, the root section has an empty path
+     * @return the {@link Partition}
+     */
+    @NotNull
+    Partition partition(@NotNull String path);
+
+    /**
+     * Removes the {@link Partition} of a section path and all of its values. Called if a section gets removed or
+     * expires.
+     *
+     * @param path the path of the section
+     */
+    void drop(@NotNull String path);
+
+    /**
+     * Whether the operations of this StateStore may block, e.g. because they cause I/O. Values of a blocking
+     * StateStore expire on a separate thread instead of the thread of the shared {@link TimingWheel}. Default value is
+     * {@code false}.
+     *
+     * @return {@code true} if the operations of this StateStore may block
+     */
+    default boolean isBlocking() {
+        return false;
+    }
+
+    /**
+     * Releases all resources of this StateStore. Does nothing by default.
+     */
+    @Override
+    default void close() {
+    }
+
+    /**
+     * The values of a single {@link StateSection}.
+     */
+    interface Partition {
+
+        /**
+         * Gets a value.
+         *
+         * @param key the key
+         * @return the value or {@code null} if the key isn't present
+         */
+        @Nullable
+        Object get(@NotNull String key);
+
+        /**
+         * Associates a value with a key.
+         *
+         * @param key   the key
+         * @param value the value
+         */
+        void put(@NotNull String key, @NotNull Object value);
+
+        /**
+         * Removes a key.
+         *
+         * @param key the key
+         */
+        void remove(@NotNull String key);
+
+        /**
+         * Gets all keys, used to restore the state of a section from a persistent StateStore.
+         *
+         * @return all keys
+         */
+        @NotNull
+        Collection<String> keys();
+    }
+}
@@ -0,0 +1,200 @@
+package com.github.kaktushose.jda.commands.data;
+
+import org.jetbrains.annotations.NotNull;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayDeque;
+import java.util.Iterator;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Hashed timing wheel for a large amount of short and imprecise timeouts, such as the expiration of state. Scheduling
+ * and cancelling a timeout is O(1) and all timeouts are executed by a single daemon thread, which gets started on the
+ * first timeout. A timeout is executed within one tick after its deadline, thus the tasks must be short and must not
+ * block. A TimingWheel that isn't the {@link #getShared() shared} one should be {@link #stop() stopped} once it is no
+ * longer needed.
+ *
+ * @author Kaktushose
+ * @version 2.3.0
+ * @see StateSection
+ * @since 2.3.0
+ */
+public class TimingWheel {
+
+    private static final Logger log = LoggerFactory.getLogger(TimingWheel.class);
+    private static final TimingWheel shared = new TimingWheel(100, TimeUnit.MILLISECONDS, 512);
+    private final long tickDuration;
+    private final ArrayDeque<Timeout>[] buckets;
+    private final int mask;
+    private final Queue<Timeout> pending;
+    private final AtomicBoolean started;
+    private final long startTime;
+    private volatile Thread worker;
+    private volatile boolean stopped;
+    private long tick;
+
+    /**
+     * Constructs a new TimingWheel.
+     *
+     * @param tickDuration  the duration of a tick, which is the precision of the timeouts
+     * @param unit          the {@link TimeUnit} of the tick duration
+     * @param ticksPerWheel the amount of buckets, will be rounded up to the next power of two
+     */
+    @SuppressWarnings("unchecked")
+    public TimingWheel(long tickDuration, @NotNull TimeUnit unit, int ticksPerWheel) {
+        if (tickDuration <= 0 || ticksPerWheel <= 0) {
+            throw new IllegalArgumentException("Tick duration and ticks per wheel must be positive!");
+        }
+        this.tickDuration = unit.toNanos(tickDuration);
+        int length = Integer.highestOneBit(Math.max(ticksPerWheel - 1, 1)) << 1;
+        buckets = new ArrayDeque[length];
+        for (int i = 0; i < length; i++) {
+            buckets[i] = new ArrayDeque<>();
+        }
+        mask = length - 1;
+        pending = new ConcurrentLinkedQueue<>();
+        started = new AtomicBoolean();
+        startTime = System.nanoTime();
+    }
+
+    /**
+     * Gets the TimingWheel that is shared by all {@link StateSection StateSections}. It has a tick duration of 100
+     * milliseconds.
+     *
+     * @return the shared TimingWheel
+     */
+    @NotNull
+    public static TimingWheel getShared() {
+        return shared;
+    }
+
+    /**
+     * Schedules a task to be executed after the given delay.
+     *
+     * @param task  the task to execute
+     * @param delay the delay
+     * @param unit  the {@link TimeUnit} of the delay
+     * @return a {@link Timeout} that can be used to cancel the task
+     */
+    @NotNull
+    public Timeout schedule(@NotNull Runnable task, long delay, @NotNull TimeUnit unit) {
+        if (stopped) {
+            throw new IllegalStateException("TimingWheel has been stopped!");
+        }
+        start();
+        Timeout timeout = new Timeout(task, System.nanoTime() - startTime + unit.toNanos(delay));
+        pending.add(timeout);
+        return timeout;
+    }
+
+    private void start() {
+        if (started.get() || !started.compareAndSet(false, true)) {
+            return;
+        }
+        Thread worker = new Thread(this::run, "JDA-Commands Timing Wheel");
+        worker.setDaemon(true);
+        this.worker = worker;
+        worker.start();
+    }
+
+    /**
+     * Stops this TimingWheel. Pending timeouts won't be executed anymore and scheduling a new timeout will throw an
+     * {@link IllegalStateException}. The {@link #getShared() shared} TimingWheel cannot be stopped.
+     */
+    public void stop() {
+        if (this == shared) {
+            throw new IllegalStateException("The shared TimingWheel cannot be stopped!");
+        }
+        stopped = true;
+        Thread worker = this.worker;
+        if (worker != null) {
+            LockSupport.unpark(worker);
+        }
+    }
+
+    private void run() {
+        tick = (System.nanoTime() - startTime) / tickDuration;
+        while (!stopped) {
+            long deadline = (tick + 1) * tickDuration;
+            long now;
+            while ((now = System.nanoTime() - startTime) < deadline && !stopped) {
+                LockSupport.parkNanos(this, deadline - now);
+            }
+            if (stopped) {
+                break;
+            }
+            transferPending();
+            expire(buckets[(int) (tick & mask)], now);
+            tick++;
+        }
+    }
+
+    private void transferPending() {
+        Timeout timeout;
+        while ((timeout = pending.poll()) != null) {
+            if (timeout.cancelled) {
+                continue;
+            }
+            long ticks = timeout.deadline / tickDuration;
+            timeout.rounds = (ticks - tick) / buckets.length;
+            // timeouts that are already due go into the current bucket
+            buckets[(int) (Math.max(ticks, tick) & mask)].add(timeout);
+        }
+    }
+
+    private void expire(ArrayDeque<Timeout> bucket, long now) {
+        Iterator<Timeout> iterator = bucket.iterator();
+        while (iterator.hasNext()) {
+            Timeout timeout = iterator.next();
+            if (timeout.cancelled) {
+                iterator.remove();
+            } else if (timeout.rounds <= 0 && timeout.deadline <= now) {
+                iterator.remove();
+                try {
+                    timeout.task.run();
+                } catch (Throwable throwable) {
+                    log.error("An error has occurred while executing a timeout!", throwable);
+                }
+            } else {
+                timeout.rounds--;
+            }
+        }
+    }
+
+    /**
+     * A task scheduled by a {@link TimingWheel}.
+     */
+    public static class Timeout {
+
+        private final Runnable task;
+        private final long deadline;
+        private long rounds;
+        private volatile boolean cancelled;
+
+        private Timeout(Runnable task, long deadline) {
+            this.task = task;
+            this.deadline = deadline;
+        }
+
+        /**
+         * Cancels the task. Does nothing if the task has already been executed.
+         */
+        public void cancel() {
+            cancelled = true;
+        }
+
+        /**
+         * Whether the task has been cancelled.
+         *
+         * @return {@code true} if the task has been cancelled
+         */
+        public boolean isCancelled() {
+            return cancelled;
+        }
+    }
+}
@@ -0,0 +1,380 @@
+package com.github.kaktushose.jda.commands.data.impl;
+
+import com.github.kaktushose.jda.commands.data.StateStore;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Implementation of {@link StateStore} that persists the values in a file, so that state survives a restart. Values
+ * must be {@link java.io.Serializable Serializable} and are copied, thus modifying a value after it was put doesn't
+ * modify the stored value. The serialized values are kept in memory as well, thus reading a value doesn't cause any
+ * I/O.
+ *
+ * <p>Changes are appended to the file and forced to the disk in batches after a configurable interval, call
+ * {@link #flush()} or {@link #close()} to force them immediately. Once the file holds considerably more records than
+ * there are values, it gets compacted in the background by writing the current state to a temporary file which then
+ * replaces the file, atomically if the file system supports it. The temporary file is written without holding the
+ * lock of the store, changes made in the meantime are buffered and appended to it before it replaces the file. An
+ * incomplete record at the end of the file, e.g. caused by a crash, is discarded on startup.
+ *
+ * <p>A {@link com.github.kaktushose.jda.commands.data.StateSection StateSection} restores its values when it is
+ * created with the same path again. Closing a StateSection keeps its values in this StateStore, only removing or
+ * clearing values and sections deletes them.
+ *
+ * @author Kaktushose
+ * @version 2.3.0
+ * @see StateStore
+ * @since 2.3.0
+ */
+public class FileStateStore implements StateStore {
+
+    private static final Logger log = LoggerFactory.getLogger(FileStateStore.class);
+    private static final byte PUT = 1;
+    private static final byte REMOVE = 2;
+    private static final byte DROP = 3;
+    private static final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "JDA-Commands State Sync");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final Path path;
+    private final Map<String, FilePartition> partitions;
+    private FileOutputStream file;
+    private DataOutputStream out;
+    private ByteArrayOutputStream tail;
+    private DataOutputStream tailOut;
+    private int tailRecords;
+    private ScheduledFuture<?> syncTask;
+    private int records;
+    private int size;
+    private boolean dirty;
+    private boolean compactionQueued;
+    private boolean compacting;
+    private boolean closed;
+
+    /**
+     * Constructs a new FileStateStore. Changes are forced to the disk every second.
+     *
+     * @param file the file to save the state in
+     */
+    public FileStateStore(@NotNull File file) {
+        path = file.toPath();
+        partitions = new ConcurrentHashMap<>();
+        try {
+            recover();
+            open();
+        } catch (IOException e) {
+            log.error("Unable to open the state file!", e);
+            throw new UncheckedIOException(e);
+        }
+        setSyncInterval(1, TimeUnit.SECONDS);
+    }
+
+    private void open() throws IOException {
+        file = new FileOutputStream(path.toFile(), true);
+        out = new DataOutputStream(new BufferedOutputStream(file));
+    }
+
+    private void recover() throws IOException {
+        if (!Files.exists(path)) {
+            return;
+        }
+        byte[] bytes = Files.readAllBytes(path);
+        DataInputStream in = new DataInputStream(new ByteArrayInputStream(bytes));
+        int valid = 0;
+        try {
+            while (valid < bytes.length) {
+                byte operation = in.readByte();
+                String partition = in.readUTF();
+                if (operation == DROP) {
+                    partitions.remove(partition);
+                } else if (operation == PUT || operation == REMOVE) {
+                    String key = in.readUTF();
+                    if (operation == PUT) {
+                        byte[] value = new byte[in.readInt()];
+                        in.readFully(value);
+                        getPartition(partition).values.put(key, value);
+                    } else {
+                        getPartition(partition).values.remove(key);
+                    }
+                } else {
+                    throw new IOException("Unknown operation " + operation);
+                }
+                records++;
+                valid = bytes.length - in.available();
+            }
+        } catch (IOException e) {
+            log.warn("Discarding {} bytes of an incomplete record at the end of {}", bytes.length - valid, path);
+            try (FileChannel channel = FileChannel.open(path, StandardOpenOption.WRITE)) {
+                channel.truncate(valid);
+                channel.force(true);
+            }
+        }
+        for (FilePartition partition : partitions.values()) {
+            size += partition.values.size();
+        }
+        log.debug("Restored {} values from {} records", size, records);
+    }
+
+    private FilePartition getPartition(String path) {
+        return partitions.computeIfAbsent(path, key -> new FilePartition(path));
+    }
+
+    @NotNull
+    @Override
+    public Partition partition(@NotNull String path) {
+        return getPartition(path);
+    }
+
+    @Override
+    public boolean isBlocking() {
+        return true;
+    }
+
+    @Override
+    public synchronized void drop(@NotNull String path) {
+        FilePartition partition = partitions.remove(path);
+        if (partition == null) {
+            return;
+        }
+        size -= partition.values.size();
+        append(DROP, path, null, null);
+    }
+
+    private synchronized void append(byte operation, String partition, String key, byte[] value) {
+        try {
+            write(out, operation, partition, key, value);
+            records++;
+            dirty = true;
+            if (compacting) {
+                // replayed on top of the snapshot the compaction is writing
+                write(tailOut, operation, partition, key, value);
+                tailRecords++;
+            }
+        } catch (IOException e) {
+            log.error("An error has occurred while writing state!", e);
+            throw new UncheckedIOException(e);
+        }
+        if (records > 1000 && records > size * 2 && !compactionQueued && !compacting) {
+            // compacting rewrites the whole file, thus it is done on the sync thread instead of the calling thread
+            compactionQueued = true;
+            scheduler.execute(this::compact);
+        }
+    }
+
+    private static void write(DataOutputStream out, byte operation, String partition, String key, byte[] value)
+            throws IOException {
+        out.writeByte(operation);
+        out.writeUTF(partition);
+        if (key != null) {
+            out.writeUTF(key);
+        }
+        if (value != null) {
+            out.writeInt(value.length);
+            out.write(value);
+        }
+    }
+
+    /**
+     * Rewrites the file so that it only contains the current values. The file is written to a temporary file first,
+     * which then replaces the file. Only taking the snapshot and replacing the file block other threads.
+     */
+    public void compact() {
+        List<Record> snapshot = new ArrayList<>();
+        synchronized (this) {
+            compactionQueued = false;
+            if (closed || compacting) {
+                return;
+            }
+            for (FilePartition partition : partitions.values()) {
+                for (Map.Entry<String, byte[]> entry : partition.values.entrySet()) {
+                    snapshot.add(new Record(partition.path, entry.getKey(), entry.getValue()));
+                }
+            }
+            compacting = true;
+            tail = new ByteArrayOutputStream();
+            tailOut = new DataOutputStream(tail);
+            tailRecords = 0;
+        }
+
+        Path temp = path.resolveSibling(path.getFileName() + ".tmp");
+        try (FileOutputStream tempFile = new FileOutputStream(temp.toFile());
+             DataOutputStream tempOut = new DataOutputStream(new BufferedOutputStream(tempFile))) {
+            for (Record record : snapshot) {
+                write(tempOut, PUT, record.partition, record.key, record.value);
+            }
+            tempOut.flush();
+            synchronized (this) {
+                if (closed) {
+                    return;
+                }
+                tempOut.write(tail.toByteArray());
+                tempOut.flush();
+                tempFile.getFD().sync();
+                replace(temp, snapshot.size() + tailRecords);
+            }
+        } catch (IOException e) {
+            log.error("An error has occurred while compacting state!", e);
+        } finally {
+            synchronized (this) {
+                compacting = false;
+                tail = null;
+                tailOut = null;
+            }
+        }
+    }
+
+    // must hold the lock, the temporary file must be complete
+    private void replace(Path temp, int count) throws IOException {
+        out.close();
+        try {
+            try {
+                Files.move(temp, path, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING);
+            }
+            log.debug("Compacted state from {} to {} records", records, count);
+            records = count;
+            dirty = false;
+        } finally {
+            open();
+        }
+    }
+
+    /**
+     * Forces all changes to the disk.
+     */
+    public synchronized void flush() {
+        if (!dirty) {
+            return;
+        }
+        try {
+            out.flush();
+            file.getFD().sync();
+            dirty = false;
+        } catch (IOException e) {
+            log.error("An error has occurred while flushing state!", e);
+        }
+    }
+
+    /**
+     * Sets the interval in which changes are forced to the disk. A value of {@code 0} only forces changes on
+     * {@link #flush()} and {@link #close()}. Default value is one second.
+     *
+     * @param interval the interval
+     * @param unit     the {@link TimeUnit} of the interval
+     * @return this instance
+     */
+    public synchronized FileStateStore setSyncInterval(long interval, @NotNull TimeUnit unit) {
+        if (syncTask != null) {
+            syncTask.cancel(false);
+            syncTask = null;
+        }
+        if (interval > 0) {
+            syncTask = scheduler.scheduleWithFixedDelay(this::flush, interval, interval, unit);
+        }
+        return this;
+    }
+
+    /**
+     * Forces all changes to the disk and closes the file. This StateStore must not be used afterwards.
+     */
+    @Override
+    public synchronized void close() {
+        closed = true;
+        if (syncTask != null) {
+            syncTask.cancel(false);
+            syncTask = null;
+        }
+        flush();
+        try {
+            out.close();
+        } catch (IOException e) {
+            log.error("An error has occurred while closing the state file!", e);
+        }
+    }
+
+    private class FilePartition implements Partition {
+
+        private final String path;
+        private final Map<String, byte[]> values = new ConcurrentHashMap<>();
+
+        private FilePartition(String path) {
+            this.path = path;
+        }
+
+        @Nullable
+        @Override
+        public Object get(@NotNull String key) {
+            byte[] bytes = values.get(key);
+            return bytes == null ? null : Serialization.deserialize(bytes);
+        }
+
+        @Override
+        public void put(@NotNull String key, @NotNull Object value) {
+            byte[] bytes = Serialization.serialize(value);
+            synchronized (FileStateStore.this) {
+                if (values.put(key, bytes) == null) {
+                    size++;
+                }
+                append(PUT, path, key, bytes);
+            }
+        }
+
+        @Override
+        public void remove(@NotNull String key) {
+            synchronized (FileStateStore.this) {
+                if (values.remove(key) != null) {
+                    size--;
+                    append(REMOVE, path, key, null);
+                }
+            }
+        }
+
+        @NotNull
+        @Override
+        public Collection<String> keys() {
+            return new ArrayList<>(values.keySet());
+        }
+    }
+
+    private static class Record {
+
+        private final String partition;
+        private final String key;
+        private final byte[] value;
+
+        private Record(String partition, String key, byte[] value) {
+            this.partition = partition;
+            this.key = key;
+            this.value = value;
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package com.github.kaktushose.jda.commands.data.impl;
+
+import com.github.kaktushose.jda.commands.data.JsonLogRepository;
+import com.github.kaktushose.jda.commands.settings.GuildSettings;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.File;
+
+/**
+ * An implementation of the {@link JsonLogRepository} to store {@link GuildSettings} as an append-only json log.
+ *
+ * @author Kaktushose
+ * @version 2.3.0
+ * @since 2.3.0
+ */
+public class GuildSettingsJsonLogRepository extends JsonLogRepository<GuildSettings> {
+
+    /**
+     * Constructs a new GuildSettingsJsonLogRepository.
+     *
+     * @param path the path of the file to save the log in
+     */
+    public GuildSettingsJsonLogRepository(@NotNull String path) {
+        super(path, GuildSettings.class);
+    }
+
+    /**
+     * Constructs a new GuildSettingsJsonLogRepository.
+     *
+     * @param file the file to save the log in
+     */
+    public GuildSettingsJsonLogRepository(@NotNull File file) {
+        super(file, GuildSettings.class);
+    }
+}
@@ -7,6 +7,7 @@ import org.jetbrains.annotations.NotNull;
 
 import java.io.File;
 import java.lang.reflect.Type;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Map;
 import java.util.Optional;
@@ -15,7 +16,7 @@ import java.util.Optional;
  * An implementation of the {@link JsonRepository} interface to store {@link GuildSettings} in json format.
  *
  * @author Kaktushose
- * @version 2.0.0
+ * @version 2.3.0
  * @since 2.0.0
  */
 public class GuildSettingsJsonRepository extends JsonRepository<GuildSettings> {
@@ -41,9 +42,14 @@ public class GuildSettingsJsonRepository extends JsonRepository<GuildSettings> {
         super(file, mapType);
     }
 
+    /**
+     * Returns a snapshot of all entities inside the repository.
+     *
+     * @return all entities inside the repository
+     */
     @Override
     public Collection<GuildSettings> findAll() {
-        return map.values();
+        return new ArrayList<>(map.values());
     }
 
     @Override
@@ -0,0 +1,69 @@
+package com.github.kaktushose.jda.commands.data.impl;
+
+import com.github.kaktushose.jda.commands.data.StateStore;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Default implementation of {@link StateStore} that keeps the values as they are on-heap. Unlike the other
+ * implementations, values aren't copied, thus modifying a value that was put before also modifies the stored value.
+ *
+ * @author Kaktushose
+ * @version 2.3.0
+ * @see StateStore
+ * @since 2.3.0
+ */
+public class HeapStateStore implements StateStore {
+
+    private final Map<String, HeapPartition> partitions;
+
+    /**
+     * Constructs a new HeapStateStore.
+     */
+    public HeapStateStore() {
+        partitions = new ConcurrentHashMap<>();
+    }
+
+    @NotNull
+    @Override
+    public Partition partition(@NotNull String path) {
+        return partitions.computeIfAbsent(path, key -> new HeapPartition());
+    }
+
+    @Override
+    public void drop(@NotNull String path) {
+        partitions.remove(path);
+    }
+
+    private static class HeapPartition implements Partition {
+
+        private final Map<String, Object> values = new ConcurrentHashMap<>();
+
+        @Nullable
+        @Override
+        public Object get(@NotNull String key) {
+            return values.get(key);
+        }
+
+        @Override
+        public void put(@NotNull String key, @NotNull Object value) {
+            values.put(key, value);
+        }
+
+        @Override
+        public void remove(@NotNull String key) {
+            values.remove(key);
+        }
+
+        @NotNull
+        @Override
+        public Collection<String> keys() {
+            return new ArrayList<>(values.keySet());
+        }
+    }
+}
@@ -0,0 +1,270 @@
+package com.github.kaktushose.jda.commands.data.impl;
+
+import com.github.kaktushose.jda.commands.data.StateStore;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Implementation of {@link StateStore} that keeps the values serialized in direct memory, so that large state doesn't
+ * put pressure on the garbage collector. Values must be {@link java.io.Serializable Serializable} and are copied, thus
+ * modifying a value after it was put doesn't modify the stored value.
+ *
+ * <p>Direct memory is allocated in chunks of one MiB, which are split into blocks of power of two sizes. Freed blocks
+ * are merged with their free buddy blocks into larger blocks, thus the memory of values that changed their size class
+ * can be reused by any other size class once the neighbouring blocks are freed as well. Values that are larger than a
+ * chunk get a buffer of their own. Chunks are never returned to the operating system before the StateStore is closed,
+ * but completely freed chunks are reused before a new chunk gets allocated.
+ *
+ * @author Kaktushose
+ * @version 2.3.0
+ * @see StateStore
+ * @since 2.3.0
+ */
+public class OffHeapStateStore implements StateStore {
+
+    private static final int CHUNK_SHIFT = 20;
+    private static final int CHUNK_SIZE = 1 << CHUNK_SHIFT;
+    private static final int MIN_BLOCK_SHIFT = 6;
+    private static final int SIZE_CLASSES = CHUNK_SHIFT - MIN_BLOCK_SHIFT + 1;
+    private final Map<String, OffHeapPartition> partitions;
+    private final List<ByteBuffer> chunks;
+    private final Set<Long>[] freeBlocks;
+    private final ReentrantReadWriteLock lock;
+    private long usedBytes;
+
+    /**
+     * Constructs a new OffHeapStateStore.
+     */
+    @SuppressWarnings("unchecked")
+    public OffHeapStateStore() {
+        partitions = new ConcurrentHashMap<>();
+        chunks = new ArrayList<>();
+        freeBlocks = new Set[SIZE_CLASSES];
+        for (int i = 0; i < SIZE_CLASSES; i++) {
+            freeBlocks[i] = new LinkedHashSet<>();
+        }
+        lock = new ReentrantReadWriteLock();
+    }
+
+    @NotNull
+    @Override
+    public Partition partition(@NotNull String path) {
+        return partitions.computeIfAbsent(path, key -> new OffHeapPartition());
+    }
+
+    @Override
+    public void drop(@NotNull String path) {
+        OffHeapPartition partition = partitions.remove(path);
+        if (partition != null) {
+            partition.slots.keySet().forEach(partition::remove);
+        }
+    }
+
+    /**
+     * Releases all direct memory. This StateStore must not be used afterwards.
+     */
+    @Override
+    public void close() {
+        lock.writeLock().lock();
+        try {
+            partitions.clear();
+            chunks.clear();
+            for (Set<Long> blocks : freeBlocks) {
+                blocks.clear();
+            }
+            usedBytes = 0;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Gets the amount of direct memory that has been allocated in chunks.
+     *
+     * @return the amount of allocated bytes
+     */
+    public long getAllocatedBytes() {
+        lock.readLock().lock();
+        try {
+            return (long) chunks.size() * CHUNK_SIZE;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Gets the amount of direct memory that is occupied by values, including the unused space of their blocks.
+     *
+     * @return the amount of used bytes
+     */
+    public long getUsedBytes() {
+        lock.readLock().lock();
+        try {
+            return usedBytes;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private static int sizeClass(int length) {
+        int shift = 32 - Integer.numberOfLeadingZeros(Math.max(length, 1 << MIN_BLOCK_SHIFT) - 1);
+        return shift - MIN_BLOCK_SHIFT;
+    }
+
+    // must hold the write lock
+    private Slot allocate(int length) {
+        if (length > CHUNK_SIZE) {
+            return new Slot(-1, length, ByteBuffer.allocateDirect(length));
+        }
+        int sizeClass = sizeClass(length);
+        Long block = poll(freeBlocks[sizeClass]);
+        if (block == null) {
+            block = split(sizeClass);
+        }
+        usedBytes += 1 << (sizeClass + MIN_BLOCK_SHIFT);
+        return new Slot(block, length, null);
+    }
+
+    // takes a block of a larger size class or a new chunk and splits it into halves until it has the requested size
+    private long split(int sizeClass) {
+        int larger = sizeClass + 1;
+        while (larger < SIZE_CLASSES && freeBlocks[larger].isEmpty()) {
+            larger++;
+        }
+        long block;
+        if (larger == SIZE_CLASSES) {
+            chunks.add(ByteBuffer.allocateDirect(CHUNK_SIZE));
+            block = (long) (chunks.size() - 1) << 32;
+            larger = SIZE_CLASSES - 1;
+        } else {
+            block = poll(freeBlocks[larger]);
+        }
+        while (larger > sizeClass) {
+            larger--;
+            freeBlocks[larger].add(block + (1 << (larger + MIN_BLOCK_SHIFT)));
+        }
+        return block;
+    }
+
+    private static Long poll(Set<Long> blocks) {
+        Iterator<Long> iterator = blocks.iterator();
+        if (!iterator.hasNext()) {
+            return null;
+        }
+        Long block = iterator.next();
+        iterator.remove();
+        return block;
+    }
+
+    // must hold the write lock
+    private void free(Slot slot) {
+        if (slot.buffer != null) {
+            return;
+        }
+        int sizeClass = sizeClass(slot.length);
+        usedBytes -= 1 << (sizeClass + MIN_BLOCK_SHIFT);
+        // blocks are aligned to their size, thus the buddy only differs in the bit of the size
+        long block = slot.block;
+        while (sizeClass < SIZE_CLASSES - 1) {
+            long buddy = block ^ (1L << (sizeClass + MIN_BLOCK_SHIFT));
+            if (!freeBlocks[sizeClass].remove(buddy)) {
+                break;
+            }
+            block = Math.min(block, buddy);
+            sizeClass++;
+        }
+        freeBlocks[sizeClass].add(block);
+    }
+
+    private ByteBuffer view(Slot slot) {
+        if (slot.buffer != null) {
+            return slot.buffer.duplicate();
+        }
+        ByteBuffer buffer = chunks.get((int) (slot.block >>> 32)).duplicate();
+        int offset = (int) slot.block;
+        buffer.limit(offset + slot.length).position(offset);
+        return buffer;
+    }
+
+    private static class Slot {
+        private final long block;
+        private final int length;
+        private final ByteBuffer buffer;
+
+        private Slot(long block, int length, ByteBuffer buffer) {
+            this.block = block;
+            this.length = length;
+            this.buffer = buffer;
+        }
+    }
+
+    private class OffHeapPartition implements Partition {
+
+        private final Map<String, Slot> slots = new ConcurrentHashMap<>();
+
+        @Nullable
+        @Override
+        public Object get(@NotNull String key) {
+            byte[] bytes;
+            // the slot must be looked up while holding the lock, else it could be freed and reused in between
+            lock.readLock().lock();
+            try {
+                Slot slot = slots.get(key);
+                if (slot == null) {
+                    return null;
+                }
+                bytes = new byte[slot.length];
+                view(slot).get(bytes);
+            } finally {
+                lock.readLock().unlock();
+            }
+            return Serialization.deserialize(bytes);
+        }
+
+        @Override
+        public void put(@NotNull String key, @NotNull Object value) {
+            byte[] bytes = Serialization.serialize(value);
+            lock.writeLock().lock();
+            try {
+                Slot slot = allocate(bytes.length);
+                view(slot).put(bytes);
+                Slot previous = slots.put(key, slot);
+                if (previous != null) {
+                    free(previous);
+                }
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+
+        @Override
+        public void remove(@NotNull String key) {
+            lock.writeLock().lock();
+            try {
+                Slot previous = slots.remove(key);
+                if (previous != null) {
+                    free(previous);
+                }
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+
+        @NotNull
+        @Override
+        public Collection<String> keys() {
+            return new ArrayList<>(slots.keySet());
+        }
+    }
+}
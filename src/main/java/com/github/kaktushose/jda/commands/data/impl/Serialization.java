@@ -0,0 +1,49 @@
+package com.github.kaktushose.jda.commands.data.impl;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.NotSerializableException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.io.UncheckedIOException;
+
+/**
+ * Java serialization of the values of the {@link com.github.kaktushose.jda.commands.data.StateStore StateStores}
+ * that don't keep values on-heap.
+ *
+ * @author Kaktushose
+ * @version 2.3.0
+ * @since 2.3.0
+ */
+final class Serialization {
+
+    private Serialization() {
+    }
+
+    static byte[] serialize(Object value) {
+        if (!(value instanceof Serializable)) {
+            throw new IllegalArgumentException("Value of type " + value.getClass().getName() + " isn't serializable!");
+        }
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(256);
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(value);
+        } catch (NotSerializableException e) {
+            throw new IllegalArgumentException("Value contains a field that isn't serializable!", e);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return bytes.toByteArray();
+    }
+
+    static Object deserialize(byte[] bytes) {
+        try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes))) {
+            return in.readObject();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } catch (ClassNotFoundException e) {
+            throw new IllegalStateException("Unable to deserialize value!", e);
+        }
+    }
+}
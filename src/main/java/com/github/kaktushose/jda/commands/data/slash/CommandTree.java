@@ -5,6 +5,7 @@ import net.dv8tion.jda.api.interactions.commands.build.SlashCommandData;
 
 import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 
 /**
  * A tree data structure representing Commands sorted into Subcommands and SubcommandGroups. Each {@link TreeNode} can
@@ -95,6 +96,18 @@ public class CommandTree {
         return root.getNames();
     }
 
+    /**
+     * Gets the {@link CommandDefinition CommandDefinitions} of all {@link SlashCommandData} returned by
+     * {@link #getCommands()} mapped to the full sanitized name, e.g. {@code moderation ban}. The full name is equal to
+     * the full command name Discord sends for the respective slash command, thus it can be used to look up the
+     * {@link CommandDefinition} of a slash command without routing it.
+     *
+     * @return a {@link Map} of full command names and {@link CommandDefinition CommandDefinitions}
+     */
+    public Map<String, CommandDefinition> getCommandMap() {
+        return root.getCommandMap();
+    }
+
     @Override
     public String toString() {
         return root.toString();
@@ -139,6 +139,27 @@ public class TreeNode implements Iterable<TreeNode> {
         return result;
     }
 
+    /**
+     * Gets the {@link CommandDefinition CommandDefinitions} of all leaf nodes mapped to their full name, i.e. the names
+     * of the nodes on the path to the leaf node separated by a space.
+     *
+     * @return a {@link Map} of all leaf nodes' full names and {@link CommandDefinition CommandDefinitions}
+     */
+    public Map<String, CommandDefinition> getCommandMap() {
+        Map<String, CommandDefinition> result = new HashMap<>();
+        toCommandMap(result, "");
+        return result;
+    }
+
+    private void toCommandMap(Map<String, CommandDefinition> commands, String root) {
+        String fullName = (root + " " + name).trim();
+        if (hasChildren()) {
+            children.forEach(child -> child.toCommandMap(commands, fullName));
+        } else if (command != null) {
+            commands.put(fullName, command);
+        }
+    }
+
     private void toLabel(List<String> labels, String root) {
         if (hasChildren()) {
             children.forEach(child -> child.toLabel(labels, (root + " " + name).trim()));
@@ -21,6 +21,7 @@ import org.jetbrains.annotations.NotNull;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 /**
  * This class is a subclass of {@link GenericEvent}.
@@ -40,6 +41,7 @@ public class ButtonEvent extends GenericEvent implements ReplyAction, EditAction
     private final JDACommands jdaCommands;
     private final Collection<ActionRow> actionRows;
     private final ButtonInteractionEvent event;
+    private final String payload;
     private ReplyCallback replyCallback;
     private EditCallback editCallback;
 
@@ -48,6 +50,8 @@ public class ButtonEvent extends GenericEvent implements ReplyAction, EditAction
         this.event = event;
         this.button = button;
         this.jdaCommands = jdaCommands;
+        String componentId = event.getComponentId();
+        payload = componentId.length() > button.getId().length() ? componentId.substring(button.getId().length() + 1) : null;
         actionRows = new ArrayList<>();
         replyCallback = new InteractionReplyCallback(event, actionRows);
         editCallback = new InteractionEditCallback(event, actionRows);
@@ -67,7 +71,7 @@ public class ButtonEvent extends GenericEvent implements ReplyAction, EditAction
                         .stream()
                         .filter(it -> it.getId().equals(id))
                         .findFirst()
-                        .map(it -> it.toButton().withDisabled(!container.isEnabled()))
+                        .map(it -> it.toButton(container.getPayload()).withDisabled(!container.isEnabled()))
                         .ifPresent(items::add);
             });
         }
@@ -93,7 +97,7 @@ public class ButtonEvent extends GenericEvent implements ReplyAction, EditAction
                         .stream()
                         .filter(it -> it.getId().equals(id))
                         .findFirst()
-                        .map(it -> it.toButton().withDisabled(!container.isEnabled()))
+                        .map(it -> it.toButton(container.getPayload()).withDisabled(!container.isEnabled()))
                         .ifPresent(items::add);
             });
         }
@@ -147,6 +151,16 @@ public class ButtonEvent extends GenericEvent implements ReplyAction, EditAction
         return button;
     }
 
+    /**
+     * Gets the payload that was attached to the clicked button via
+     * {@link Buttons#withPayload(String, String) Buttons#withPayload(String, String)}.
+     *
+     * @return an {@link Optional} holding the payload
+     */
+    public Optional<String> getPayload() {
+        return Optional.ofNullable(payload);
+    }
+
     /**
      * Get the {@link JDACommands} object.
      *
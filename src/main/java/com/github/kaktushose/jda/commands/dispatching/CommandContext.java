@@ -16,6 +16,7 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 
 /**
  * This class models a command execution. The
@@ -92,16 +93,45 @@ public class CommandContext {
     /**
      * Gets the raw user input. Will be empty in phase
      * {@link com.github.kaktushose.jda.commands.dispatching.filter.FilterRegistry.FilterPosition#BEFORE_ROUTING
-     * FilterPosition.BEFORE_ROUTING} if {@link #isSlash} returns {@code true}.
+     * FilterPosition.BEFORE_ROUTING} if {@link #isSlash} returns {@code true}. Once a slash command has been found, the
+     * input is built from the {@link OptionMapping OptionMappings} on first access, e.g. by a filter or an error
+     * message.
      *
      * @return the raw user input
      * @see #getOptions()
      */
     @NotNull
     public String[] getInput() {
+        if (input == null) {
+            input = renderOptions();
+        }
         return input;
     }
 
+    /**
+     * Builds the input from the {@link OptionMapping OptionMappings} on first access of {@link #getInput()} instead of
+     * converting them eagerly, since slash command arguments are bound from the options directly.
+     *
+     * @return the current CommandContext instance
+     */
+    @NotNull
+    CommandContext deferInput() {
+        input = null;
+        return this;
+    }
+
+    private String[] renderOptions() {
+        if (command == null) {
+            return options.stream().map(OptionMapping::getAsString).toArray(String[]::new);
+        }
+        Map<String, OptionMapping> mappings = getOptionsAsMap();
+        return command.getActualParameters().stream()
+                .map(parameter -> mappings.get(parameter.getOptionName()))
+                .filter(Objects::nonNull)
+                .map(OptionMapping::getAsString)
+                .toArray(String[]::new);
+    }
+
     /**
      * Set the user input.
      *
@@ -3,6 +3,8 @@ package com.github.kaktushose.jda.commands.dispatching;
 import com.github.kaktushose.jda.commands.JDACommands;
 import com.github.kaktushose.jda.commands.JDAContext;
 import com.github.kaktushose.jda.commands.dependency.DependencyInjector;
+import com.github.kaktushose.jda.commands.dispatching.DispatchExecutor.ExecutionMode;
+import com.github.kaktushose.jda.commands.dispatching.adapter.SlashArgumentBinder;
 import com.github.kaktushose.jda.commands.dispatching.adapter.TypeAdapterRegistry;
 import com.github.kaktushose.jda.commands.dispatching.filter.Filter;
 import com.github.kaktushose.jda.commands.dispatching.filter.FilterRegistry;
@@ -15,27 +17,32 @@ import com.github.kaktushose.jda.commands.dispatching.validation.ValidatorRegist
 import com.github.kaktushose.jda.commands.embeds.help.HelpMessageFactory;
 import com.github.kaktushose.jda.commands.interactions.commands.SlashCommandUpdater;
 import com.github.kaktushose.jda.commands.interactions.commands.SlashConfiguration;
+import com.github.kaktushose.jda.commands.metrics.MetricsCollector;
+import com.github.kaktushose.jda.commands.metrics.MetricsCollector.Phase;
 import com.github.kaktushose.jda.commands.reflect.CommandDefinition;
 import com.github.kaktushose.jda.commands.reflect.CommandRegistry;
 import com.github.kaktushose.jda.commands.reflect.ImplementationRegistry;
+import com.github.kaktushose.jda.commands.settings.CachingSettingsProvider;
 import net.dv8tion.jda.api.JDA;
-import net.dv8tion.jda.api.interactions.commands.OptionMapping;
 import net.dv8tion.jda.api.sharding.ShardManager;
 import org.jetbrains.annotations.NotNull;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.lang.reflect.InvocationTargetException;
-import java.util.ArrayList;
-import java.util.List;
-import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
 
 /**
- * Dispatches commands by taking a {@link CommandContext} and passing it through the execution chain.
+ * Dispatches commands by taking a {@link CommandContext} and passing it through the execution chain. Slash commands
+ * are looked up by their full command name in the index of the {@link SlashCommandUpdater}, only text commands and
+ * unknown slash commands are passed to the {@link Router}.
  *
  * @author Kaktushose
- * @version 2.0.0
+ * @version 2.3.0
  * @since 2.0.0
  */
 public class CommandDispatcher {
@@ -47,6 +54,7 @@ public class CommandDispatcher {
     private final ParserSupervisor parserSupervisor;
     private final FilterRegistry filterRegistry;
     private final TypeAdapterRegistry adapterRegistry;
+    private final SlashArgumentBinder argumentBinder;
     private final ValidatorRegistry validatorRegistry;
     private final CommandRegistry commandRegistry;
     private final DependencyInjector dependencyInjector;
@@ -54,6 +62,7 @@ public class CommandDispatcher {
     private final SlashConfiguration configuration;
     private final SlashCommandUpdater updater;
     private final ButtonInteractionDispatcher buttonListener;
+    private final DispatchExecutor dispatchExecutor;
 
     /**
      * Constructs a new CommandDispatcher.
@@ -78,22 +87,31 @@ public class CommandDispatcher {
             throw new IllegalStateException("An instance of the command framework is already running!");
         }
 
+        dispatchExecutor = new DispatchExecutor();
+
         dependencyInjector = new DependencyInjector();
         dependencyInjector.index(clazz, packages);
 
         filterRegistry = new FilterRegistry();
         adapterRegistry = new TypeAdapterRegistry();
+        argumentBinder = new SlashArgumentBinder();
         validatorRegistry = new ValidatorRegistry();
 
         implementationRegistry = new ImplementationRegistry(dependencyInjector, filterRegistry, adapterRegistry, validatorRegistry);
         implementationRegistry.index(clazz, packages);
 
         parserSupervisor = new ParserSupervisor(this);
+        if (implementationRegistry.getSettingsProvider() instanceof CachingSettingsProvider) {
+            // the gate may only cache the prefix if it gets notified about changed settings
+            ((CachingSettingsProvider) implementationRegistry.getSettingsProvider()).addInvalidationListener(parserSupervisor.getPrefixGate());
+            parserSupervisor.getPrefixGate().setTimeToLive(1, TimeUnit.MINUTES);
+        }
         buttonListener = new ButtonInteractionDispatcher(jdaCommands);
         jdaContext.performTask(jda -> jda.addEventListener(parserSupervisor, buttonListener));
 
         commandRegistry = new CommandRegistry(adapterRegistry, validatorRegistry, dependencyInjector, buttonListener);
         commandRegistry.index(clazz, packages);
+        filterRegistry.index(commandRegistry.getCommands());
 
         dependencyInjector.inject();
 
@@ -112,35 +130,40 @@ public class CommandDispatcher {
     }
 
     /**
-     * Shuts down this CommandDispatcher instance, making it unable to receive any events from Discord.
+     * Shuts down this CommandDispatcher instance, making it unable to receive any events from Discord. Commands that
+     * are already being executed by the {@link DispatchExecutor} get up to 30 seconds to finish.
      * This will <b>not</b> unregister any slash commands.
      */
     public void shutdown() {
         jdaContext.performTask(jda -> jda.removeEventListener(parserSupervisor, buttonListener));
+        dispatchExecutor.shutdown(30, TimeUnit.SECONDS);
+        filterRegistry.close();
         updater.shutdown();
         isActive = false;
     }
 
     /**
      * Dispatches a {@link CommandContext}. This will route the command, apply all filters and parse the arguments.
-     * Finally, the command will be executed.
+     * Finally, the command will be executed. Everything after the routing is handed over to the
+     * {@link DispatchExecutor} using the {@link ExecutionMode} of the command's controller.
      *
      * @param context the {@link CommandContext} to dispatch.
      */
     public void onEvent(@NotNull CommandContext context) {
-        log.debug("Applying filters in phase BEFORE_ROUTING...");
-        for (Filter filter : filterRegistry.getAll(FilterPosition.BEFORE_ROUTING)) {
-            filter.apply(context);
-            if (checkCancelled(context)) {
-                return;
-            }
+        if (applyFilters(context, FilterPosition.BEFORE_ROUTING)) {
+            return;
         }
 
         HelpMessageFactory helpMessageFactory = implementationRegistry.getHelpMessageFactory();
         Router router = implementationRegistry.getRouter();
         MessageSender sender = implementationRegistry.getMessageSender();
+        MetricsCollector metrics = implementationRegistry.getMetricsCollector();
 
-        router.findCommands(context, commandRegistry.getCommands());
+        long start = System.nanoTime();
+        if (!findSlashCommand(context)) {
+            router.findCommands(context, commandRegistry);
+        }
+        metrics.recordPhase(Phase.ROUTING, context.getCommand(), System.nanoTime() - start);
 
         if (context.isCancelled() && context.isHelpEvent()) {
             log.debug("Sending generic help");
@@ -148,7 +171,7 @@ public class CommandDispatcher {
             return;
         }
 
-        if (checkCancelled(context)) {
+        if (checkCancelled(context, Phase.ROUTING.name())) {
             log.debug("No matching command found!");
             return;
         }
@@ -162,42 +185,97 @@ public class CommandDispatcher {
             return;
         }
 
-        if (context.isSlash()) {
-            List<String> parameters = new ArrayList<>();
-            Map<String, OptionMapping> options = context.getOptionsAsMap();
-            command.getActualParameters().forEach(param -> {
-                if (!options.containsKey(param.getName())) {
-                    return;
-                }
-                parameters.add(options.get(param.getName()).getAsString());
-            });
-            if (!parameters.isEmpty()) {
-                context.setInput(parameters.toArray(new String[]{}));
-            }
+        dispatch(context, command, () -> executeChain(context, command));
+    }
+
+    // slash commands arrive with their exact name, thus they don't need to be routed unless they are unknown
+    private boolean findSlashCommand(CommandContext context) {
+        if (!context.isSlash() || context.isHelpEvent()) {
+            return false;
+        }
+        String name = Objects.requireNonNull(context.getInteractionEvent()).getFullCommandName();
+        Optional<CommandDefinition> command = updater.getCommand(name);
+        if (!command.isPresent()) {
+            log.debug("Slash command {} is unknown, falling back to routing", name);
+            return false;
         }
+        // the arguments get bound from the options, the input is only built if a filter or an error message needs it
+        context.setCommand(command.get()).deferInput();
+        return true;
+    }
 
-        log.debug("Applying filters in phase BEFORE_ADAPTING...");
-        for (Filter filter : filterRegistry.getAll(FilterPosition.BEFORE_ADAPTING)) {
-            filter.apply(context);
-            if (checkCancelled(context)) {
-                return;
-            }
+    private void dispatch(CommandContext context, CommandDefinition command, Runnable chain) {
+        ExecutionMode mode = command.getController().getExecutionMode();
+        handleRejection(context, command, dispatchExecutor.execute(mode, () -> execute(context, command, chain)));
+    }
+
+    // continues the chain of a command whose arguments got resolved asynchronously, never on the completing thread
+    private void resume(CommandContext context, CommandDefinition command, Runnable chain) {
+        ExecutionMode mode = command.getController().getExecutionMode();
+        handleRejection(context, command, dispatchExecutor.resume(mode, () -> execute(context, command, chain)));
+    }
+
+    private void handleRejection(CommandContext context, CommandDefinition command, boolean accepted) {
+        if (!accepted) {
+            log.debug("Execution of command {} got rejected", command.getMethod().getName());
+            implementationRegistry.getMetricsCollector().recordCancellation(context, "REJECTED");
+            implementationRegistry.getMessageSender().sendErrorMessage(context,
+                    implementationRegistry.getErrorMessageFactory().getExecutionRejectedMessage(context)
+            );
+        }
+    }
+
+    private void execute(CommandContext context, CommandDefinition command, Runnable chain) {
+        try {
+            chain.run();
+        } catch (Exception e) {
+            implementationRegistry.getMetricsCollector().recordError(command, e);
+            implementationRegistry.getMessageSender().sendErrorMessage(context,
+                    implementationRegistry.getErrorMessageFactory().getCommandExecutionFailedMessage(context, e)
+            );
+            log.error("Command execution failed!", e);
         }
+    }
 
-        adapterRegistry.adapt(context);
-        if (checkCancelled(context)) {
+    private void executeChain(CommandContext context, CommandDefinition command) {
+        if (applyFilters(context, FilterPosition.BEFORE_ADAPTING)) {
             return;
         }
 
-        log.debug("Applying filters in phase BEFORE_EXECUTION...");
-        for (Filter filter : filterRegistry.getAll(FilterPosition.BEFORE_EXECUTION)) {
-            filter.apply(context);
-            if (checkCancelled(context)) {
+        long start = System.nanoTime();
+        if (context.isSlash()) {
+            argumentBinder.bind(context);
+        } else {
+            CompletableFuture<Void> adapting = adapterRegistry.adaptAsync(context);
+            if (!adapting.isDone()) {
+                // don't block this thread while arguments get retrieved, continue the chain once they are resolved.
+                // The completing thread might be a JDA callback or the gateway thread, thus the chain must not run on it
+                adapting.whenComplete((ignored, throwable) -> resume(context, command, () -> {
+                    if (throwable != null) {
+                        Throwable cause = throwable instanceof CompletionException && throwable.getCause() != null
+                                ? throwable.getCause()
+                                : throwable;
+                        throw cause instanceof RuntimeException
+                                ? (RuntimeException) cause
+                                : new CompletionException(cause);
+                    }
+                    executeAdapted(context, command, start);
+                }));
                 return;
             }
+            adapting.join();
+        }
+        executeAdapted(context, command, start);
+    }
+
+    private void executeAdapted(CommandContext context, CommandDefinition command, long adaptingStart) {
+        MetricsCollector metrics = implementationRegistry.getMetricsCollector();
+        metrics.recordPhase(Phase.ADAPTING, command, System.nanoTime() - adaptingStart);
+        if (checkCancelled(context, Phase.ADAPTING.name())) {
+            return;
         }
 
-        if (checkCancelled(context)) {
+        if (applyFilters(context, FilterPosition.BEFORE_EXECUTION)) {
             return;
         }
 
@@ -207,15 +285,50 @@ public class CommandDispatcher {
                 context.getInteractionEvent().deferReply(context.getCommand().isEphemeral()).queue();
             }
             log.debug("Invoking method with following arguments: {}", context.getArguments());
-            command.getMethod().invoke(command.getInstance(), context.getArguments().toArray());
+            long start = System.nanoTime();
+            try {
+                command.getInvoker().invoke(context.getArguments());
+            } finally {
+                metrics.recordPhase(Phase.EXECUTION, command, System.nanoTime() - start);
+            }
+        } catch (InvocationTargetException e) {
+            metrics.recordError(command, e.getCause() == null ? e : e.getCause());
+            log.error("Command execution failed!", e);
+        } catch (IllegalArgumentException e) {
+            metrics.recordError(command, e);
+            log.error("Unable to pass the arguments to the command method!", e);
         } catch (Exception e) {
+            metrics.recordError(command, e);
             log.error("Command execution failed!", new InvocationTargetException(e));
         }
     }
 
-    private boolean checkCancelled(CommandContext context) {
+    private boolean applyFilters(CommandContext context, FilterPosition position) {
+        log.debug("Applying filters in phase {}...", position);
+        MetricsCollector metrics = implementationRegistry.getMetricsCollector();
+        long phaseStart = System.nanoTime();
+        try {
+            for (Filter filter : filterRegistry.getAll(position, context.getCommand())) {
+                long start = System.nanoTime();
+                filter.apply(context);
+                metrics.recordFilter(filter, position, System.nanoTime() - start);
+                if (checkCancelled(context, filter.getClass().getSimpleName())) {
+                    return true;
+                }
+            }
+            return false;
+        } finally {
+            metrics.recordPhase(Phase.FILTERING, context.getCommand(), System.nanoTime() - phaseStart);
+        }
+    }
+
+    private boolean checkCancelled(CommandContext context, String reason) {
         if (context.isCancelled()) {
-            implementationRegistry.getMessageSender().sendErrorMessage(context, Objects.requireNonNull(context.getErrorMessage()));
+            implementationRegistry.getMetricsCollector().recordCancellation(context, reason);
+            // filters may cancel silently, e.g. the RateLimitFilter after the first warning
+            if (context.getErrorMessage() != null) {
+                implementationRegistry.getMessageSender().sendErrorMessage(context, context.getErrorMessage());
+            }
             return true;
         }
         return false;
@@ -230,6 +343,15 @@ public class CommandDispatcher {
         return implementationRegistry;
     }
 
+    /**
+     * Gets the {@link DispatchExecutor}.
+     *
+     * @return the {@link DispatchExecutor}
+     */
+    public DispatchExecutor getDispatchExecutor() {
+        return dispatchExecutor;
+    }
+
     /**
      * Gets the {@link ParserSupervisor}.
      *
@@ -248,6 +370,15 @@ public class CommandDispatcher {
         return adapterRegistry;
     }
 
+    /**
+     * Gets the {@link SlashArgumentBinder}.
+     *
+     * @return the {@link SlashArgumentBinder}
+     */
+    public SlashArgumentBinder getArgumentBinder() {
+        return argumentBinder;
+    }
+
     /**
      * Gets the {@link ValidatorRegistry}.
      *
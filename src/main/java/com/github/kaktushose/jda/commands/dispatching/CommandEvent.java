@@ -127,7 +127,7 @@ public class CommandEvent extends GenericEvent implements ReplyAction {
                         .stream()
                         .filter(it -> it.getId().equals(id))
                         .findFirst()
-                        .map(it -> it.toButton().withDisabled(!button.isEnabled()))
+                        .map(it -> it.toButton(button.getPayload()).withDisabled(!button.isEnabled()))
                         .ifPresent(items::add);
             });
         }
@@ -0,0 +1,332 @@
+package com.github.kaktushose.jda.commands.dispatching;
+
+import org.jetbrains.annotations.NotNull;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Execution layer of the {@link CommandDispatcher}. Once a command has been routed, the rest of the execution chain,
+ * i.e. the filters, the type adapting and the command invocation, is passed to this class. Depending on the
+ * {@link ExecutionMode} the chain is either executed directly on the JDA event thread, on a bounded thread pool or on
+ * a virtual thread.
+ *
+ * <p>The pooled and the virtual mode both limit the amount of pending executions. If that limit is reached, the
+ * execution gets rejected and {@link #execute(ExecutionMode, Runnable)} returns {@code false}. The thread pool and
+ * the virtual thread executor are only created once they are needed for the first time. All settings must be applied
+ * before that.
+ *
+ * @author Kaktushose
+ * @version 2.3.0
+ * @see CommandDispatcher
+ * @since 2.3.0
+ */
+public class DispatchExecutor {
+
+    private static final Logger log = LoggerFactory.getLogger(DispatchExecutor.class);
+    private final Object lock;
+    private volatile ExecutionMode defaultMode;
+    private volatile int poolSize;
+    private volatile int queueCapacity;
+    private volatile int maxInFlight;
+    private volatile boolean shutdown;
+    private ThreadPoolExecutor pool;
+    private ExecutorService virtualExecutor;
+    private Semaphore virtualPermits;
+    private boolean virtualUnsupported;
+
+    /**
+     * Constructs a new DispatchExecutor. The default {@link ExecutionMode} is {@link ExecutionMode#INLINE}.
+     */
+    public DispatchExecutor() {
+        lock = new Object();
+        defaultMode = ExecutionMode.INLINE;
+        poolSize = Math.max(2, Runtime.getRuntime().availableProcessors());
+        queueCapacity = 1000;
+        maxInFlight = 10000;
+    }
+
+    /**
+     * Executes a task using the given {@link ExecutionMode}.
+     *
+     * @param mode the {@link ExecutionMode} to use, {@link ExecutionMode#DEFAULT} will use the default mode
+     * @param task the task to execute
+     * @return {@code false} if the execution was rejected because the executor is saturated or shut down
+     */
+    public boolean execute(@NotNull ExecutionMode mode, @NotNull Runnable task) {
+        if (shutdown) {
+            return false;
+        }
+        switch (resolve(mode)) {
+            case POOLED:
+                try {
+                    getPool().execute(task);
+                    return true;
+                } catch (RejectedExecutionException e) {
+                    if (!shutdown) {
+                        log.warn("Rejected command execution, the dispatch queue is full!");
+                    }
+                    return false;
+                }
+            case VIRTUAL:
+                ExecutorService executor = getVirtualExecutor();
+                if (executor == null) {
+                    return execute(ExecutionMode.POOLED, task);
+                }
+                if (!virtualPermits.tryAcquire()) {
+                    log.warn("Rejected command execution, too many commands are in flight!");
+                    return false;
+                }
+                try {
+                    executor.execute(() -> {
+                        try {
+                            task.run();
+                        } finally {
+                            virtualPermits.release();
+                        }
+                    });
+                    return true;
+                } catch (RejectedExecutionException e) {
+                    virtualPermits.release();
+                    return false;
+                }
+            default:
+                task.run();
+                return true;
+        }
+    }
+
+    /**
+     * Resumes an execution chain once an asynchronous operation, e.g. the retrieval of a member, has completed. Unlike
+     * {@link #execute(ExecutionMode, Runnable)} the task never runs on the calling thread, because that is the thread
+     * that completed the operation, e.g. a JDA callback thread or the gateway thread. Thus {@link ExecutionMode#INLINE}
+     * executes the task on the bounded thread pool.
+     *
+     * @param mode the {@link ExecutionMode} to use, {@link ExecutionMode#DEFAULT} will use the default mode
+     * @param task the task to execute
+     * @return {@code false} if the execution was rejected because the executor is saturated or shut down
+     */
+    public boolean resume(@NotNull ExecutionMode mode, @NotNull Runnable task) {
+        ExecutionMode resolved = resolve(mode);
+        return execute(resolved == ExecutionMode.INLINE ? ExecutionMode.POOLED : resolved, task);
+    }
+
+    /**
+     * Shuts down this DispatchExecutor. No new executions will be accepted, while pending executions will be finished
+     * if they complete within the given timeout.
+     *
+     * @param timeout the maximum time to wait for pending executions
+     * @param unit    the {@link TimeUnit} of the timeout
+     */
+    public void shutdown(long timeout, @NotNull TimeUnit unit) {
+        ExecutorService[] executors;
+        synchronized (lock) {
+            shutdown = true;
+            executors = new ExecutorService[]{pool, virtualExecutor};
+        }
+        long deadline = System.nanoTime() + unit.toNanos(timeout);
+        for (ExecutorService executor : executors) {
+            if (executor != null) {
+                executor.shutdown();
+            }
+        }
+        for (ExecutorService executor : executors) {
+            if (executor == null) {
+                continue;
+            }
+            try {
+                if (!executor.awaitTermination(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS)) {
+                    log.warn("Pending command executions didn't finish in time, interrupting them!");
+                    executor.shutdownNow();
+                }
+            } catch (InterruptedException e) {
+                executor.shutdownNow();
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    /**
+     * Whether this DispatchExecutor has been shut down.
+     *
+     * @return {@code true} if this DispatchExecutor has been shut down
+     */
+    public boolean isShutdown() {
+        return shutdown;
+    }
+
+    /**
+     * Gets the amount of executions that are waiting for a pool thread.
+     *
+     * @return the amount of queued executions
+     */
+    public int getQueueDepth() {
+        ThreadPoolExecutor pool = this.pool;
+        return pool == null ? 0 : pool.getQueue().size();
+    }
+
+    /**
+     * Gets the {@link ExecutionMode} used for controllers that don't specify one.
+     *
+     * @return the default {@link ExecutionMode}
+     */
+    public ExecutionMode getDefaultMode() {
+        return defaultMode;
+    }
+
+    /**
+     * Sets the {@link ExecutionMode} used for controllers that don't specify one.
+     *
+     * @param defaultMode the default {@link ExecutionMode}
+     * @return this instance for fluent interface
+     */
+    public DispatchExecutor setDefaultMode(@NotNull ExecutionMode defaultMode) {
+        this.defaultMode = defaultMode == ExecutionMode.DEFAULT ? ExecutionMode.INLINE : defaultMode;
+        return this;
+    }
+
+    /**
+     * Gets the amount of threads used by {@link ExecutionMode#POOLED}.
+     *
+     * @return the amount of pool threads
+     */
+    public int getPoolSize() {
+        return poolSize;
+    }
+
+    /**
+     * Sets the amount of threads used by {@link ExecutionMode#POOLED}.
+     *
+     * @param poolSize the amount of pool threads
+     * @return this instance for fluent interface
+     */
+    public DispatchExecutor setPoolSize(int poolSize) {
+        if (poolSize < 1) {
+            throw new IllegalArgumentException("Pool size must be at least 1!");
+        }
+        this.poolSize = poolSize;
+        return this;
+    }
+
+    /**
+     * Gets the maximum amount of executions waiting for a pool thread.
+     *
+     * @return the queue capacity
+     */
+    public int getQueueCapacity() {
+        return queueCapacity;
+    }
+
+    /**
+     * Sets the maximum amount of executions waiting for a pool thread. Further executions will be rejected.
+     *
+     * @param queueCapacity the queue capacity
+     * @return this instance for fluent interface
+     */
+    public DispatchExecutor setQueueCapacity(int queueCapacity) {
+        if (queueCapacity < 1) {
+            throw new IllegalArgumentException("Queue capacity must be at least 1!");
+        }
+        this.queueCapacity = queueCapacity;
+        return this;
+    }
+
+    /**
+     * Gets the maximum amount of concurrent executions using {@link ExecutionMode#VIRTUAL}.
+     *
+     * @return the maximum amount of concurrent virtual executions
+     */
+    public int getMaxInFlight() {
+        return maxInFlight;
+    }
+
+    /**
+     * Sets the maximum amount of concurrent executions using {@link ExecutionMode#VIRTUAL}. Further executions will be
+     * rejected.
+     *
+     * @param maxInFlight the maximum amount of concurrent virtual executions
+     * @return this instance for fluent interface
+     */
+    public DispatchExecutor setMaxInFlight(int maxInFlight) {
+        if (maxInFlight < 1) {
+            throw new IllegalArgumentException("Max in flight must be at least 1!");
+        }
+        this.maxInFlight = maxInFlight;
+        return this;
+    }
+
+    private ExecutionMode resolve(ExecutionMode mode) {
+        return mode == ExecutionMode.DEFAULT ? defaultMode : mode;
+    }
+
+    private ThreadPoolExecutor getPool() {
+        synchronized (lock) {
+            if (shutdown) {
+                throw new RejectedExecutionException("DispatchExecutor has been shut down!");
+            }
+            if (pool == null) {
+                AtomicInteger count = new AtomicInteger();
+                pool = new ThreadPoolExecutor(poolSize,
+                        poolSize,
+                        60L,
+                        TimeUnit.SECONDS,
+                        new ArrayBlockingQueue<>(queueCapacity),
+                        runnable -> {
+                            Thread thread = new Thread(runnable, "jda-commands-dispatch-" + count.incrementAndGet());
+                            thread.setDaemon(true);
+                            return thread;
+                        }
+                );
+                pool.allowCoreThreadTimeOut(true);
+                log.debug("Started dispatch pool with {} thread(s) and a queue capacity of {}", poolSize, queueCapacity);
+            }
+            return pool;
+        }
+    }
+
+    private ExecutorService getVirtualExecutor() {
+        synchronized (lock) {
+            if (shutdown) {
+                return null;
+            }
+            if (virtualExecutor == null && !virtualUnsupported) {
+                try {
+                    Method method = Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+                    virtualExecutor = (ExecutorService) method.invoke(null);
+                    virtualPermits = new Semaphore(maxInFlight);
+                    log.debug("Started virtual thread executor with a limit of {} execution(s) in flight", maxInFlight);
+                } catch (ReflectiveOperationException e) {
+                    virtualUnsupported = true;
+                    log.warn("Virtual threads require Java 21 or higher! Falling back to ExecutionMode.POOLED");
+                }
+            }
+            return virtualExecutor;
+        }
+    }
+
+    /**
+     * Enum describing how a command gets executed.
+     */
+    public enum ExecutionMode {
+        /**
+         * Use the default mode of the {@link DispatchExecutor}.
+         */
+        DEFAULT,
+        /**
+         * Execute the command directly on the JDA event thread.
+         */
+        INLINE,
+        /**
+         * Execute the command on a bounded thread pool.
+         */
+        POOLED,
+        /**
+         * Execute each command on its own virtual thread. Requires Java 21 or higher, else falls back to
+         * {@link #POOLED}.
+         */
+        VIRTUAL
+    }
+}
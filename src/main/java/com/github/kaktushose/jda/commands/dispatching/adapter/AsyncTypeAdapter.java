@@ -0,0 +1,47 @@
+package com.github.kaktushose.jda.commands.dispatching.adapter;
+
+import com.github.kaktushose.jda.commands.dispatching.CommandContext;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Type adapter that parses asynchronously, e.g. because it needs to retrieve an entity from Discord. The
+ * {@link TypeAdapterRegistry} resolves all asynchronous arguments of a command concurrently and continues the
+ * execution chain once all of them are completed. Synchronous {@link TypeAdapter TypeAdapters} are still parsed
+ * directly.
+ *
+ * <p>Implementations should complete the future directly if the value is already known, e.g. if the entity is
+ * cached, and must not block in {@link #parseAsync(String, CommandContext)}.
+ *
+ * @param <T> the type the adapter parses
+ * @author Kaktushose
+ * @version 2.3.0
+ * @see TypeAdapter
+ * @since 2.3.0
+ */
+public interface AsyncTypeAdapter<T> extends TypeAdapter<T> {
+
+    /**
+     * Attempts to parse a String to the given type asynchronously.
+     *
+     * @param raw     the String to parse
+     * @param context the {@link CommandContext}
+     * @return a {@link CompletableFuture} holding the parsed type or an empty Optional if the parsing fails
+     */
+    @NotNull
+    CompletableFuture<Optional<T>> parseAsync(@NotNull String raw, @NotNull CommandContext context);
+
+    /**
+     * Parses a String to the given type by waiting for {@link #parseAsync(String, CommandContext)} to complete.
+     *
+     * @param raw     the String to parse
+     * @param context the {@link CommandContext}
+     * @return the parsed type or an empty Optional if the parsing fails
+     */
+    @Override
+    default Optional<T> parse(@NotNull String raw, @NotNull CommandContext context) {
+        return parseAsync(raw, context).join();
+    }
+}
@@ -0,0 +1,44 @@
+package com.github.kaktushose.jda.commands.dispatching.adapter;
+
+import com.github.kaktushose.jda.commands.dispatching.CommandContext;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * {@link AsyncTypeAdapter} that can parse several Strings at once, e.g. by retrieving several entities from Discord
+ * with a single request. If a command has more than one parameter using the same BatchTypeAdapter, the
+ * {@link TypeAdapterRegistry} passes the input of all of these parameters to
+ * {@link #parseAllAsync(Collection, CommandContext)} instead of parsing each of them on its own.
+ *
+ * @param <T> the type the adapter parses
+ * @author Kaktushose
+ * @version 2.3.0
+ * @see AsyncTypeAdapter
+ * @since 2.3.0
+ */
+public interface BatchTypeAdapter<T> extends AsyncTypeAdapter<T> {
+
+    /**
+     * Attempts to parse several Strings to the given type asynchronously. By default, this calls
+     * {@link #parseAsync(String, CommandContext)} for each String concurrently.
+     *
+     * @param raws    the distinct Strings to parse
+     * @param context the {@link CommandContext}
+     * @return a {@link CompletableFuture} holding a {@link Map} of each String and the parsed type or an empty
+     * Optional if the parsing fails
+     */
+    @NotNull
+    default CompletableFuture<Map<String, Optional<T>>> parseAllAsync(@NotNull Collection<String> raws,
+                                                                     @NotNull CommandContext context) {
+        Map<String, Optional<T>> result = new ConcurrentHashMap<>();
+        CompletableFuture<?>[] futures = raws.stream()
+                .map(raw -> parseAsync(raw, context).thenAccept(parsed -> result.put(raw, parsed)))
+                .toArray(CompletableFuture[]::new);
+        return CompletableFuture.allOf(futures).thenApply(ignored -> result);
+    }
+}
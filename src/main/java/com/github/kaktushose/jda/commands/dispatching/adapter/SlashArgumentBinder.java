@@ -0,0 +1,171 @@
+package com.github.kaktushose.jda.commands.dispatching.adapter;
+
+import com.github.kaktushose.jda.commands.dispatching.CommandContext;
+import com.github.kaktushose.jda.commands.dispatching.CommandEvent;
+import com.github.kaktushose.jda.commands.embeds.error.ErrorMessageFactory;
+import com.github.kaktushose.jda.commands.reflect.BindingPlan;
+import com.github.kaktushose.jda.commands.reflect.CommandDefinition;
+import com.github.kaktushose.jda.commands.reflect.ParameterDefinition;
+import net.dv8tion.jda.api.entities.Member;
+import net.dv8tion.jda.api.entities.Role;
+import net.dv8tion.jda.api.entities.User;
+import net.dv8tion.jda.api.entities.channel.concrete.*;
+import net.dv8tion.jda.api.entities.channel.middleman.AudioChannel;
+import net.dv8tion.jda.api.entities.channel.middleman.GuildChannel;
+import net.dv8tion.jda.api.entities.channel.middleman.GuildMessageChannel;
+import net.dv8tion.jda.api.interactions.commands.OptionMapping;
+import net.dv8tion.jda.api.interactions.commands.OptionType;
+import org.jetbrains.annotations.NotNull;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.*;
+import java.util.function.Function;
+
+/**
+ * Binds the {@link OptionMapping OptionMappings} of a slash command directly to the parameters of the command method.
+ * Unlike the {@link TypeAdapterRegistry}, the options aren't converted to Strings and parsed again, but are resolved
+ * with the typed accessors of the {@link OptionMapping}, e.g. {@link OptionMapping#getAsMember()}. Thus, entities
+ * are taken from the resolved data of the interaction instead of being retrieved from Discord.
+ *
+ * <p>Parameter types without a registered resolver, as well as default values of optional parameters, are still
+ * parsed by the {@link TypeAdapter} resolved by the {@link BindingPlan} of the command.
+ *
+ * @author Kaktushose
+ * @version 2.3.0
+ * @see TypeAdapterRegistry
+ * @since 2.3.0
+ */
+public class SlashArgumentBinder {
+
+    private static final Logger log = LoggerFactory.getLogger(SlashArgumentBinder.class);
+    private final Map<Class<?>, Function<OptionMapping, ?>> resolvers;
+
+    /**
+     * Constructs a new SlashArgumentBinder. This will register default resolvers for:
+     * <ul>
+     *     <li>Integer, Long, Float, Double and Boolean</li>
+     *     <li>String</li>
+     *     <li>{@link Member}</li>
+     *     <li>{@link User}</li>
+     *     <li>{@link Role}</li>
+     *     <li>all channel types supported by the {@link TypeAdapterRegistry}</li>
+     * </ul>
+     */
+    public SlashArgumentBinder() {
+        resolvers = new HashMap<>();
+
+        register(Integer.class, option -> Math.toIntExact(option.getAsLong()));
+        register(Long.class, option -> {
+            if (option.getType() == OptionType.INTEGER) {
+                return option.getAsLong();
+            }
+            // longs are registered as numbers, which Discord sends as doubles
+            double value = option.getAsDouble();
+            return value == Math.rint(value) ? (long) value : null;
+        });
+        register(Float.class, option -> (float) option.getAsDouble());
+        register(Double.class, OptionMapping::getAsDouble);
+        register(Boolean.class, OptionMapping::getAsBoolean);
+        register(String.class, OptionMapping::getAsString);
+
+        register(Member.class, OptionMapping::getAsMember);
+        register(User.class, OptionMapping::getAsUser);
+        register(Role.class, OptionMapping::getAsRole);
+        registerChannel(GuildChannel.class);
+        registerChannel(GuildMessageChannel.class);
+        registerChannel(ThreadChannel.class);
+        registerChannel(TextChannel.class);
+        registerChannel(NewsChannel.class);
+        registerChannel(AudioChannel.class);
+        registerChannel(VoiceChannel.class);
+        registerChannel(StageChannel.class);
+        registerChannel(ForumChannel.class);
+    }
+
+    private void registerChannel(Class<? extends GuildChannel> type) {
+        register(type, option -> {
+            GuildChannel channel = option.getAsChannel();
+            return type.isInstance(channel) ? channel : null;
+        });
+    }
+
+    /**
+     * Registers a new resolver. The resolver may return {@code null} if the {@link OptionMapping} cannot be resolved
+     * to the given type, which will cancel the {@link CommandContext}.
+     *
+     * @param type     the type the resolver is for
+     * @param resolver the resolver
+     */
+    public void register(@NotNull Class<?> type, @NotNull Function<OptionMapping, ?> resolver) {
+        resolvers.put(type, resolver);
+        log.debug("Registered option resolver for type {}", type.getName());
+    }
+
+    /**
+     * Unregisters a resolver. Options of this type will be parsed by the {@link TypeAdapter} of the type afterwards.
+     *
+     * @param type the type the resolver is for
+     */
+    public void unregister(@NotNull Class<?> type) {
+        resolvers.remove(type);
+        log.debug("Unregistered option resolver for type {}", type.getName());
+    }
+
+    /**
+     * Takes a {@link CommandContext} of a slash command and binds its {@link OptionMapping OptionMappings} to the
+     * parameters specified by the {@link CommandDefinition}. Cancels the {@link CommandContext} if a required option
+     * is missing or an option cannot be resolved.
+     *
+     * @param context the {@link CommandContext} to bind
+     */
+    public void bind(@NotNull CommandContext context) {
+        CommandDefinition command = Objects.requireNonNull(context.getCommand());
+        Map<String, OptionMapping> options = context.getOptionsAsMap();
+        List<Object> arguments = new ArrayList<>();
+        ErrorMessageFactory messageFactory = context.getImplementationRegistry().getErrorMessageFactory();
+
+        log.debug("Binding options...");
+        arguments.add(new CommandEvent(command, context));
+        for (BindingPlan.Slot slot : command.getBindingPlan().getSlots()) {
+            ParameterDefinition parameter = slot.getParameter();
+            OptionMapping option = options.get(parameter.getOptionName());
+            Optional<?> argument;
+            if (option != null) {
+                argument = resolve(slot, option, context);
+            } else if (!parameter.isOptional()) {
+                argument = Optional.empty();
+            } else if (parameter.getDefaultValue() == null) {
+                arguments.add(null);
+                continue;
+            } else {
+                argument = slot.getDefaultValue(context);
+            }
+
+            if (!argument.isPresent()) {
+                log.debug("Binding option {} failed!", parameter.getOptionName());
+                context.setCancelled(true);
+                context.setErrorMessage(messageFactory.getSyntaxErrorMessage(context));
+                break;
+            }
+            arguments.add(argument.get());
+            log.debug("Added {} to the argument list", argument.get());
+        }
+        context.setArguments(arguments);
+    }
+
+    private Optional<?> resolve(BindingPlan.Slot slot, OptionMapping option, CommandContext context) {
+        Function<OptionMapping, ?> resolver = resolvers.get(slot.getParameter().getType());
+        if (resolver != null) {
+            try {
+                return Optional.ofNullable(resolver.apply(option));
+            } catch (ArithmeticException | NumberFormatException e) {
+                return Optional.empty();
+            } catch (IllegalStateException e) {
+                // the option type doesn't match, e.g. if the command was registered with an older signature
+                log.debug("Option {} has unexpected type {}", option.getName(), option.getType());
+            }
+        }
+        return slot.parse(option.getAsString(), context);
+    }
+}
@@ -1,11 +1,9 @@
 package com.github.kaktushose.jda.commands.dispatching.adapter;
 
 import com.github.kaktushose.jda.commands.dispatching.CommandContext;
-import com.github.kaktushose.jda.commands.dispatching.CommandEvent;
 import com.github.kaktushose.jda.commands.dispatching.adapter.impl.*;
-import com.github.kaktushose.jda.commands.embeds.error.ErrorMessageFactory;
+import com.github.kaktushose.jda.commands.reflect.BindingPlan;
 import com.github.kaktushose.jda.commands.reflect.CommandDefinition;
-import com.github.kaktushose.jda.commands.reflect.ParameterDefinition;
 import net.dv8tion.jda.api.entities.*;
 import net.dv8tion.jda.api.entities.channel.concrete.*;
 import net.dv8tion.jda.api.entities.channel.middleman.AudioChannel;
@@ -17,12 +15,13 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * Central registry for all type adapters.
  *
  * @author Kaktushose
- * @version 2.0.0
+ * @version 2.3.0
  * @see TypeAdapter
  * @since 2.0.0
  */
@@ -30,6 +29,8 @@ public class TypeAdapterRegistry {
 
     private static final Logger log = LoggerFactory.getLogger(TypeAdapterRegistry.class);
     private final Map<Class<?>, TypeAdapter<?>> parameterAdapters;
+    private final Set<TypeAdapter<?>> defaultAdapters;
+    private volatile int modificationCount;
 
     /**
      * Constructs a new TypeAdapterRegistry. This will register default type adapters for:
@@ -71,6 +72,9 @@ public class TypeAdapterRegistry {
         register(StageChannel.class, new StageChannelAdapter());
         register(ForumChannel.class, new ForumChannelAdapter());
         register(Role.class, new RoleAdapter());
+
+        defaultAdapters = Collections.newSetFromMap(new IdentityHashMap<>());
+        defaultAdapters.addAll(parameterAdapters.values());
     }
 
     /**
@@ -81,6 +85,7 @@ public class TypeAdapterRegistry {
      */
     public void register(@NotNull Class<?> type, @NotNull TypeAdapter<?> adapter) {
         parameterAdapters.put(type, adapter);
+        modificationCount++;
         log.debug("Registered adapter {} for type {}", adapter.getClass().getName(), type.getName());
     }
 
@@ -91,6 +96,7 @@ public class TypeAdapterRegistry {
      */
     public void unregister(@NotNull Class<?> type) {
         parameterAdapters.remove(type);
+        modificationCount++;
         log.debug("Unregistered adapter for type {}", type.getName());
     }
 
@@ -114,80 +120,53 @@ public class TypeAdapterRegistry {
         return Optional.ofNullable(parameterAdapters.get(type));
     }
 
+    /**
+     * Checks if the given type adapter is one of the default type adapters registered by the constructor.
+     *
+     * @param adapter the {@link TypeAdapter} to check
+     * @return {@code true} if the adapter is a default type adapter
+     */
+    public boolean isDefault(@NotNull TypeAdapter<?> adapter) {
+        return defaultAdapters.contains(adapter);
+    }
+
+    /**
+     * Gets the amount of times a type adapter has been registered or unregistered. A {@link BindingPlan} resolves its
+     * type adapters again once this count has changed.
+     *
+     * @return the modification count
+     */
+    public int getModificationCount() {
+        return modificationCount;
+    }
+
     /**
      * Takes a {@link CommandContext} and attempts to type adapt the command input to the type specified by the
-     * {@link CommandDefinition}. Cancels the {@link CommandContext} if the type adapting fails.
+     * {@link CommandDefinition}. Cancels the {@link CommandContext} if the type adapting fails. The adapters are taken
+     * from the {@link BindingPlan} of the {@link CommandDefinition}, which resolves them again if an adapter has been
+     * registered or unregistered since.
      *
      * @param context the {@link CommandContext} to type adapt
      */
     public void adapt(@NotNull CommandContext context) {
-        CommandDefinition command = Objects.requireNonNull(context.getCommand());
-        List<Object> arguments = new ArrayList<>();
-        String[] input = context.getInput();
-        ErrorMessageFactory messageFactory = context.getImplementationRegistry().getErrorMessageFactory();
+        adaptAsync(context).join();
+    }
 
+    /**
+     * Takes a {@link CommandContext} and attempts to type adapt the command input to the type specified by the
+     * {@link CommandDefinition}. Cancels the {@link CommandContext} if the type adapting fails. All arguments of
+     * {@link AsyncTypeAdapter AsyncTypeAdapters} are resolved concurrently, arguments of synchronous
+     * {@link TypeAdapter TypeAdapters} are parsed directly. Arguments sharing the same {@link BatchTypeAdapter} are
+     * parsed together.
+     *
+     * @param context the {@link CommandContext} to type adapt
+     * @return a {@link CompletableFuture} that completes once the arguments are set, already completed if no
+     * {@link AsyncTypeAdapter} had to wait
+     */
+    @NotNull
+    public CompletableFuture<Void> adaptAsync(@NotNull CommandContext context) {
+        CommandDefinition command = Objects.requireNonNull(context.getCommand());
         log.debug("Type adapting arguments...");
-        arguments.add(new CommandEvent(command, context));
-        // start with index 1 so we skip the CommandEvent
-        for (int i = 0; i < command.getActualParameters().size(); i++) {
-            ParameterDefinition parameter = command.getActualParameters().get(i);
-
-            // if parameter is array don't parse
-            if (String[].class.isAssignableFrom(parameter.getType())) {
-                log.debug("First parameter is String array. Not adapting arguments");
-                arguments.add(input);
-                break;
-            }
-
-            String raw;
-            // current parameter index == total amount of input, check if it's optional else cancel context
-            if (i == input.length) {
-                if (!parameter.isOptional()) {
-                    log.debug("Syntax error! Cancelled event.");
-                    context.setCancelled(true);
-                    context.setErrorMessage(messageFactory.getSyntaxErrorMessage(context));
-                    break;
-                }
-
-                // if the default value is an empty String (thus not present) add a null value to the argument list
-                // else try to type adapt the default value
-                if (parameter.getDefaultValue() == null) {
-                    arguments.add(null);
-                    continue;
-                } else {
-                    raw = parameter.getDefaultValue();
-                }
-            } else {
-                raw = input[i];
-            }
-
-            if (i == command.getActualParameters().size() - 1 && parameter.isConcat()) {
-                StringBuilder sb = new StringBuilder();
-                for (String s : Arrays.copyOfRange(input, i, input.length)) {
-                    sb.append(s).append(" ");
-                }
-                arguments.add(sb.toString().trim());
-                break;
-            }
-
-            log.debug("Trying to adapt input \"{}\" to type {}", raw, parameter.getType().getName());
-
-            Optional<TypeAdapter<?>> adapter = get(parameter.getType());
-            if (!adapter.isPresent()) {
-                throw new IllegalArgumentException("No type adapter found!");
-            }
-
-            Optional<?> parsed = adapter.get().parse(raw, context);
-            if (!parsed.isPresent()) {
-                log.debug("Type adapting failed!");
-                context.setCancelled(true);
-                context.setErrorMessage(messageFactory.getSyntaxErrorMessage(context));
-                break;
-            }
-
-            arguments.add(parsed.get());
-            log.debug("Added {} to the argument list", parsed.get());
-        }
-        context.setArguments(arguments);
+        return command.getBindingPlan().bindAsync(context);
     }
 }
@@ -1,54 +1,146 @@
 package com.github.kaktushose.jda.commands.dispatching.adapter.impl;
 
 import com.github.kaktushose.jda.commands.dispatching.CommandContext;
-import com.github.kaktushose.jda.commands.dispatching.adapter.TypeAdapter;
+import com.github.kaktushose.jda.commands.dispatching.adapter.BatchTypeAdapter;
 import net.dv8tion.jda.api.entities.Guild;
 import net.dv8tion.jda.api.entities.Member;
 import net.dv8tion.jda.api.entities.channel.ChannelType;
 import net.dv8tion.jda.api.exceptions.ErrorResponseException;
 import org.jetbrains.annotations.NotNull;
 
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
 
 /**
- * Type adapter for JDAs {@link Member}.
+ * Type adapter for JDAs {@link Member}. Members are taken from the member cache if possible and only retrieved from
+ * Discord if they aren't cached. If a command has several member parameters, all uncached members are retrieved with
+ * a single request.
  *
  * @author Kaktushose
- * @version 2.0.0
+ * @version 2.3.0
  * @since 2.0.0
  */
-public class MemberAdapter implements TypeAdapter<Member> {
+public class MemberAdapter implements BatchTypeAdapter<Member> {
+
+    private static final Pattern ID_PATTERN = Pattern.compile("\\d{17,20}");
 
     /**
      * Attempts to parse a String to a {@link Member}. Accepts both the member id and name.
      *
      * @param raw     the String to parse
      * @param context the {@link CommandContext}
-     * @return the parsed {@link Member} or an empty Optional if the parsing fails
+     * @return a {@link CompletableFuture} holding the parsed {@link Member} or an empty Optional if the parsing fails
      */
+    @NotNull
     @Override
-    public Optional<Member> parse(@NotNull String raw, @NotNull CommandContext context) {
+    public CompletableFuture<Optional<Member>> parseAsync(@NotNull String raw, @NotNull CommandContext context) {
         if (!context.getEvent().isFromType(ChannelType.TEXT)) {
-            return Optional.empty();
+            return CompletableFuture.completedFuture(Optional.empty());
         }
 
-        Member member;
         raw = sanitizeMention(raw);
 
         Guild guild = context.getEvent().getGuild();
-        if (raw.matches("\\d+")) {
-            try {
-                member = guild.retrieveMemberById(raw).complete();
-            } catch (ErrorResponseException ignored) {
-                member = null;
+        if (!ID_PATTERN.matcher(raw).matches()) {
+            return CompletableFuture.completedFuture(
+                    guild.getMembersByEffectiveName(raw, true).stream().findFirst()
+            );
+        }
+        long id = parseId(raw);
+        if (id < 0) {
+            return CompletableFuture.completedFuture(Optional.empty());
+        }
+        Member member = guild.getMemberById(id);
+        if (member != null) {
+            return CompletableFuture.completedFuture(Optional.of(member));
+        }
+        return guild.retrieveMemberById(id).submit().handle((retrieved, throwable) -> {
+            if (throwable == null) {
+                return Optional.of(retrieved);
+            }
+            Throwable cause = throwable instanceof CompletionException ? throwable.getCause() : throwable;
+            if (cause instanceof ErrorResponseException) {
+                return Optional.empty();
+            }
+            throw new CompletionException(cause);
+        });
+    }
+
+    /**
+     * Attempts to parse several Strings to {@link Member Members}. Uncached members are retrieved with a single
+     * request, only if that fails they are retrieved one by one.
+     *
+     * @param raws    the distinct Strings to parse
+     * @param context the {@link CommandContext}
+     * @return a {@link CompletableFuture} holding a {@link Map} of each String and the parsed {@link Member} or an
+     * empty Optional if the parsing fails
+     */
+    @NotNull
+    @Override
+    public CompletableFuture<Map<String, Optional<Member>>> parseAllAsync(@NotNull Collection<String> raws,
+                                                                          @NotNull CommandContext context) {
+        if (!context.getEvent().isFromType(ChannelType.TEXT)) {
+            return parseEach(raws, context);
+        }
+
+        Guild guild = context.getEvent().getGuild();
+        Map<String, Optional<Member>> result = new ConcurrentHashMap<>();
+        Map<String, Long> uncached = new HashMap<>();
+        for (String raw : raws) {
+            String id = sanitizeMention(raw);
+            if (!ID_PATTERN.matcher(id).matches()) {
+                result.put(raw, guild.getMembersByEffectiveName(id, true).stream().findFirst());
+                continue;
+            }
+            long idLong = parseId(id);
+            if (idLong < 0) {
+                result.put(raw, Optional.empty());
+                continue;
             }
-        } else {
-            member = guild.getMembersByEffectiveName(raw, true).stream().findFirst().orElse(null);
+            Member member = guild.getMemberById(idLong);
+            if (member != null) {
+                result.put(raw, Optional.of(member));
+            } else {
+                uncached.put(raw, idLong);
+            }
+        }
+        if (uncached.size() < 2) {
+            return parseEach(uncached.keySet(), context).thenApply(parsed -> merge(result, parsed));
         }
-        if (member == null) {
-            return Optional.empty();
+
+        return MemberBatch.retrieve(guild, uncached.values()).thenCompose(members -> {
+            if (members == null) {
+                return parseEach(uncached.keySet(), context).thenApply(parsed -> merge(result, parsed));
+            }
+            uncached.forEach((raw, id) -> result.put(raw, Optional.ofNullable(members.get(id))));
+            return CompletableFuture.completedFuture(result);
+        });
+    }
+
+    private CompletableFuture<Map<String, Optional<Member>>> parseEach(Collection<String> raws,
+                                                                       CommandContext context) {
+        return BatchTypeAdapter.super.parseAllAsync(raws, context);
+    }
+
+    private static Map<String, Optional<Member>> merge(Map<String, Optional<Member>> result,
+                                                       Map<String, Optional<Member>> parsed) {
+        result.putAll(parsed);
+        return result;
+    }
+
+    // the pattern bounds the length, but 19 and 20 digit numbers can still exceed the range of a long
+    private static long parseId(String id) {
+        try {
+            return Long.parseLong(id);
+        } catch (NumberFormatException e) {
+            return -1;
         }
-        return Optional.of(member);
     }
 
 }
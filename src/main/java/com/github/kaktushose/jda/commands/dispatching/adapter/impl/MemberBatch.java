@@ -0,0 +1,70 @@
+package com.github.kaktushose.jda.commands.dispatching.adapter.impl;
+
+import net.dv8tion.jda.api.entities.Guild;
+import net.dv8tion.jda.api.entities.Member;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * Retrieves several members of a guild with a single member chunk request. Used by the {@link MemberAdapter} and
+ * the {@link UserAdapter} to resolve the uncached entities of all their parameters at once.
+ *
+ * @author Kaktushose
+ * @version 2.3.0
+ * @since 2.3.0
+ */
+final class MemberBatch {
+
+    private static final Logger log = LoggerFactory.getLogger(MemberBatch.class);
+
+    private MemberBatch() {
+    }
+
+    /**
+     * Retrieves the members with the given ids. Ids of users that aren't members of the guild are missing in the
+     * result. The future completes with {@code null} if the members cannot be retrieved at once, e.g. because the
+     * request exceeds the limits of Discord, in which case the members should be retrieved one by one.
+     *
+     * <p>The member chunks are received on the gateway thread, thus the future gets completed on the callback pool of
+     * JDA to keep dependent stages off the gateway thread.
+     *
+     * @param guild the {@link Guild} to retrieve the members from
+     * @param ids   the ids of the members
+     * @return a {@link CompletableFuture} holding the members mapped to their id or {@code null}
+     */
+    static CompletableFuture<Map<Long, Member>> retrieve(Guild guild, Collection<Long> ids) {
+        CompletableFuture<Map<Long, Member>> future = new CompletableFuture<>();
+        Executor callbackPool = guild.getJDA().getCallbackPool();
+        try {
+            guild.retrieveMembersByIds(ids).onSuccess(members -> {
+                Map<Long, Member> result = new HashMap<>();
+                members.forEach(member -> result.put(member.getIdLong(), member));
+                complete(future, result, callbackPool);
+            }).onError(throwable -> {
+                log.debug("Unable to retrieve {} members at once", ids.size(), throwable);
+                complete(future, null, callbackPool);
+            });
+        } catch (RuntimeException e) {
+            log.debug("Unable to retrieve {} members at once", ids.size(), e);
+            future.complete(null);
+        }
+        return future;
+    }
+
+    private static void complete(CompletableFuture<Map<Long, Member>> future, Map<Long, Member> result,
+                                 Executor executor) {
+        try {
+            executor.execute(() -> future.complete(result));
+        } catch (RejectedExecutionException e) {
+            // JDA is shutting down, the command won't be executed anyway
+            future.complete(result);
+        }
+    }
+}
@@ -1,47 +1,144 @@
 package com.github.kaktushose.jda.commands.dispatching.adapter.impl;
 
 import com.github.kaktushose.jda.commands.dispatching.CommandContext;
-import com.github.kaktushose.jda.commands.dispatching.adapter.TypeAdapter;
+import com.github.kaktushose.jda.commands.dispatching.adapter.BatchTypeAdapter;
 import net.dv8tion.jda.api.JDA;
+import net.dv8tion.jda.api.entities.Member;
 import net.dv8tion.jda.api.entities.User;
+import net.dv8tion.jda.api.entities.channel.ChannelType;
 import net.dv8tion.jda.api.exceptions.ErrorResponseException;
 import org.jetbrains.annotations.NotNull;
 
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
 
 /**
- * Type adapter for JDAs {@link User}.
+ * Type adapter for JDAs {@link User}. Users are taken from the user cache if possible and only retrieved from Discord
+ * if they aren't cached. If a command has several user parameters, all uncached users that are members of the guild
+ * are retrieved with a single request.
  *
  * @author Kaktushose
- * @version 2.0.0
+ * @version 2.3.0
  * @since 2.0.0
  */
-public class UserAdapter implements TypeAdapter<User> {
+public class UserAdapter implements BatchTypeAdapter<User> {
+
+    private static final Pattern ID_PATTERN = Pattern.compile("\\d{17,20}");
 
     /**
      * Attempts to parse a String to a {@link User}. Accepts both the user id and name.
      *
      * @param raw     the String to parse
      * @param context the {@link CommandContext}
-     * @return the parsed {@link User} or an empty Optional if the parsing fails
+     * @return a {@link CompletableFuture} holding the parsed {@link User} or an empty Optional if the parsing fails
      */
+    @NotNull
     @Override
-    public Optional<User> parse(@NotNull String raw, @NotNull CommandContext context) {
-        User user;
+    public CompletableFuture<Optional<User>> parseAsync(@NotNull String raw, @NotNull CommandContext context) {
         raw = sanitizeMention(raw);
         JDA jda = context.getEvent().getJDA();
-        if (raw.matches("\\d+")) {
-            try {
-                user = jda.retrieveUserById(raw).complete();
-            } catch (ErrorResponseException ignored) {
-                user = null;
+        if (!ID_PATTERN.matcher(raw).matches()) {
+            return CompletableFuture.completedFuture(jda.getUsersByName(raw, true).stream().findFirst());
+        }
+        long id = parseId(raw);
+        if (id < 0) {
+            return CompletableFuture.completedFuture(Optional.empty());
+        }
+        User user = jda.getUserById(id);
+        if (user != null) {
+            return CompletableFuture.completedFuture(Optional.of(user));
+        }
+        return jda.retrieveUserById(id).submit().handle((retrieved, throwable) -> {
+            if (throwable == null) {
+                return Optional.of(retrieved);
             }
-        } else {
-            user = jda.getUsersByName(raw, true).stream().findFirst().orElse(null);
+            Throwable cause = throwable instanceof CompletionException ? throwable.getCause() : throwable;
+            if (cause instanceof ErrorResponseException) {
+                return Optional.empty();
+            }
+            throw new CompletionException(cause);
+        });
+    }
+
+    /**
+     * Attempts to parse several Strings to {@link User Users}. Inside a guild, uncached users are retrieved as members
+     * with a single request. Users that aren't members of the guild are retrieved one by one.
+     *
+     * @param raws    the distinct Strings to parse
+     * @param context the {@link CommandContext}
+     * @return a {@link CompletableFuture} holding a {@link Map} of each String and the parsed {@link User} or an
+     * empty Optional if the parsing fails
+     */
+    @NotNull
+    @Override
+    public CompletableFuture<Map<String, Optional<User>>> parseAllAsync(@NotNull Collection<String> raws,
+                                                                        @NotNull CommandContext context) {
+        if (!context.getEvent().isFromType(ChannelType.TEXT)) {
+            return parseEach(raws, context);
         }
-        if (user == null) {
-            return Optional.empty();
+
+        JDA jda = context.getEvent().getJDA();
+        Map<String, Optional<User>> result = new ConcurrentHashMap<>();
+        Map<String, Long> uncached = new HashMap<>();
+        for (String raw : raws) {
+            String id = sanitizeMention(raw);
+            if (!ID_PATTERN.matcher(id).matches()) {
+                result.put(raw, jda.getUsersByName(id, true).stream().findFirst());
+                continue;
+            }
+            long idLong = parseId(id);
+            if (idLong < 0) {
+                result.put(raw, Optional.empty());
+                continue;
+            }
+            User user = jda.getUserById(idLong);
+            if (user != null) {
+                result.put(raw, Optional.of(user));
+            } else {
+                uncached.put(raw, idLong);
+            }
+        }
+        if (uncached.size() < 2) {
+            return parseEach(uncached.keySet(), context).thenApply(parsed -> merge(result, parsed));
+        }
+
+        return MemberBatch.retrieve(context.getEvent().getGuild(), uncached.values()).thenCompose(members -> {
+            Map<String, Long> missing = new HashMap<>(uncached);
+            if (members != null) {
+                uncached.forEach((raw, id) -> {
+                    Member member = members.get(id);
+                    if (member != null) {
+                        result.put(raw, Optional.of(member.getUser()));
+                        missing.remove(raw);
+                    }
+                });
+            }
+            return parseEach(missing.keySet(), context).thenApply(parsed -> merge(result, parsed));
+        });
+    }
+
+    private CompletableFuture<Map<String, Optional<User>>> parseEach(Collection<String> raws, CommandContext context) {
+        return BatchTypeAdapter.super.parseAllAsync(raws, context);
+    }
+
+    private static Map<String, Optional<User>> merge(Map<String, Optional<User>> result,
+                                                     Map<String, Optional<User>> parsed) {
+        result.putAll(parsed);
+        return result;
+    }
+
+    // the pattern bounds the length, but 19 and 20 digit numbers can still exceed the range of a long
+    private static long parseId(String id) {
+        try {
+            return Long.parseLong(id);
+        } catch (NumberFormatException e) {
+            return -1;
         }
-        return Optional.of(user);
     }
 }
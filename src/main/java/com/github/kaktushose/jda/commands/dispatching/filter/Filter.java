@@ -1,6 +1,7 @@
 package com.github.kaktushose.jda.commands.dispatching.filter;
 
 import com.github.kaktushose.jda.commands.dispatching.CommandContext;
+import com.github.kaktushose.jda.commands.reflect.CommandDefinition;
 import org.jetbrains.annotations.NotNull;
 
 /**
@@ -8,7 +9,7 @@ import org.jetbrains.annotations.NotNull;
  * before execution. A filter might modify the {@link CommandContext} or even cancel the whole event.
  *
  * @author Kaktushose
- * @version 2.0.0
+ * @version 2.3.0
  * @since 2.0.0
  */
 public interface Filter {
@@ -21,4 +22,24 @@ public interface Filter {
      */
     void apply(@NotNull CommandContext context);
 
+    /**
+     * Whether this filter can have an effect on the given command. Filters that aren't applicable won't be part of the
+     * filter chain of the command, see {@link FilterRegistry#getAll(FilterRegistry.FilterPosition, CommandDefinition)}.
+     * Filters that are executed {@link FilterRegistry.FilterPosition#BEFORE_ROUTING before routing} are always applied.
+     *
+     * @param command the {@link CommandDefinition} to check
+     * @return {@code true} if this filter needs to be applied to the command
+     */
+    default boolean isApplicable(@NotNull CommandDefinition command) {
+        return true;
+    }
+
+    /**
+     * Releases the resources of this filter, e.g. scheduled tasks. Called by {@link FilterRegistry#close()} when the
+     * {@link com.github.kaktushose.jda.commands.dispatching.CommandDispatcher CommandDispatcher} shuts down. Does
+     * nothing by default.
+     */
+    default void close() {
+    }
+
 }
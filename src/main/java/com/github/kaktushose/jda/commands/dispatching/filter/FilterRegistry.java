@@ -1,27 +1,35 @@
 package com.github.kaktushose.jda.commands.dispatching.filter;
 
 import com.github.kaktushose.jda.commands.dispatching.filter.impl.*;
+import com.github.kaktushose.jda.commands.reflect.CommandDefinition;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.util.ArrayList;
-import java.util.Collections;
-import java.util.List;
-import java.util.stream.Collectors;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Central registry for all {@link Filter Filters}.
  *
+ * <p>The filter chains are precomputed per {@link FilterPosition} and, using {@link Filter#isApplicable(CommandDefinition)},
+ * per command. The chains are immutable and only get rebuilt if a {@link Filter} is registered or unregistered, thus
+ * looking up a chain during dispatching neither allocates nor locks.
+ *
  * @author Kaktushose
- * @version 2.0.0
+ * @version 2.3.0
  * @see Filter
  * @since 2.0.0
  */
 public class FilterRegistry {
 
     private static final Logger log = LoggerFactory.getLogger(FilterRegistry.class);
+    private static final FilterPosition[] POSITIONS = FilterPosition.values();
     private final List<FilterEntry> filters;
+    private final Map<CommandDefinition, List<Filter>[]> commandChains;
+    private volatile List<Filter> all;
+    private volatile List<Filter>[] chains;
 
     /**
      * Constructs a new FilterRegistry. This will register the following {@link Filter Filters} by default:
@@ -35,6 +43,8 @@ public class FilterRegistry {
      */
     public FilterRegistry() {
         this.filters = new ArrayList<>();
+        commandChains = new ConcurrentHashMap<>();
+        rebuild();
 
         register(new UserMuteFilter(), FilterPosition.BEFORE_ROUTING);
         register(new PermissionsFilter(), FilterPosition.BEFORE_ADAPTING);
@@ -50,8 +60,9 @@ public class FilterRegistry {
      * @param filter   the {@link Filter} to register
      * @param position the {@link FilterPosition FilterPosition} at which the {@link Filter} gets registered
      */
-    public void register(@NotNull Filter filter, @NotNull FilterPosition position) {
+    public synchronized void register(@NotNull Filter filter, @NotNull FilterPosition position) {
         filters.add(new FilterEntry(filter, position));
+        rebuild();
         log.debug("Registered filter {} for position {}", filter.getClass().getName(), position);
     }
 
@@ -60,11 +71,46 @@ public class FilterRegistry {
      *
      * @param filter the {@link Filter} to unregister
      */
-    public void unregister(@NotNull Class<? extends Filter> filter) {
-        filters.removeIf(entry -> filter.isAssignableFrom(filter));
+    public synchronized void unregister(@NotNull Class<? extends Filter> filter) {
+        filters.removeIf(entry -> filter.isAssignableFrom(entry.filter.getClass()));
+        rebuild();
         log.debug("Unregistered filter(s) {}", filter.getName());
     }
 
+    /**
+     * Closes all registered {@link Filter Filters}. Called when the
+     * {@link com.github.kaktushose.jda.commands.dispatching.CommandDispatcher CommandDispatcher} shuts down.
+     *
+     * @see Filter#close()
+     */
+    public synchronized void close() {
+        Set<Filter> closed = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (FilterEntry entry : filters) {
+            if (!closed.add(entry.filter)) {
+                continue;
+            }
+            try {
+                entry.filter.close();
+            } catch (RuntimeException e) {
+                log.warn("Unable to close filter {}", entry.filter.getClass().getName(), e);
+            }
+        }
+        log.debug("Closed {} filter(s)", closed.size());
+    }
+
+    /**
+     * Precomputes the filter chains of the given commands. Chains of commands that weren't indexed are computed on
+     * their first lookup.
+     *
+     * @param commands the {@link CommandDefinition CommandDefinitions} to compute the chains for
+     */
+    public synchronized void index(@NotNull Collection<CommandDefinition> commands) {
+        for (CommandDefinition command : commands) {
+            commandChains.put(command, computeChains(command, chains));
+        }
+        log.debug("Computed filter chains for {} command(s)", commands.size());
+    }
+
     /**
      * Retrieves all available {@link Filter Filters} regardless of their {@link FilterPosition FilterPosition}. This
      * List might contain duplicates.
@@ -72,7 +118,7 @@ public class FilterRegistry {
      * @return all registered {@link Filter Filters}
      */
     public List<Filter> getAll() {
-        return Collections.unmodifiableList(filters.stream().map(entry -> entry.filter).collect(Collectors.toList()));
+        return all;
     }
 
     /**
@@ -82,10 +128,61 @@ public class FilterRegistry {
      * @return all registered {@link Filter Filters}
      */
     public List<Filter> getAll(@NotNull FilterPosition position) {
-        return Collections.unmodifiableList(filters.stream()
-                .filter(entry -> entry.position.equals(position))
-                .map(entry -> entry.filter)
-                .collect(Collectors.toList()));
+        return chains[position.ordinal()];
+    }
+
+    /**
+     * Retrieves all {@link Filter Filters} that are registered for the given {@link FilterPosition FilterPosition} and
+     * are applicable to the given command. If the command is {@code null}, e.g. before routing, this is equal to
+     * {@link #getAll(FilterPosition)}.
+     *
+     * @param position the {@link FilterPosition} to retrieve the {@link Filter Filters} for
+     * @param command  the {@link CommandDefinition} to retrieve the {@link Filter Filters} for
+     * @return all registered {@link Filter Filters} that are applicable to the command
+     * @see Filter#isApplicable(CommandDefinition)
+     */
+    public List<Filter> getAll(@NotNull FilterPosition position, @Nullable CommandDefinition command) {
+        if (command == null) {
+            return getAll(position);
+        }
+        List<Filter>[] result = commandChains.get(command);
+        if (result == null) {
+            result = computeIfAbsent(command);
+        }
+        return result[position.ordinal()];
+    }
+
+    // locked, so that a concurrent rebuild can't be overwritten by chains computed from outdated filters
+    private synchronized List<Filter>[] computeIfAbsent(CommandDefinition command) {
+        return commandChains.computeIfAbsent(command, key -> computeChains(key, chains));
+    }
+
+    // must only be called while holding the lock
+    @SuppressWarnings("unchecked")
+    private void rebuild() {
+        List<Filter>[] chains = new List[POSITIONS.length];
+        for (FilterPosition position : POSITIONS) {
+            chains[position.ordinal()] = toList(filters.stream()
+                    .filter(entry -> entry.position == position)
+                    .map(entry -> entry.filter)
+                    .toArray(Filter[]::new));
+        }
+        all = toList(filters.stream().map(entry -> entry.filter).toArray(Filter[]::new));
+        this.chains = chains;
+        commandChains.replaceAll((command, ignored) -> computeChains(command, chains));
+    }
+
+    @SuppressWarnings("unchecked")
+    private static List<Filter>[] computeChains(CommandDefinition command, List<Filter>[] chains) {
+        List<Filter>[] result = new List[chains.length];
+        for (int i = 0; i < chains.length; i++) {
+            result[i] = toList(chains[i].stream().filter(filter -> filter.isApplicable(command)).toArray(Filter[]::new));
+        }
+        return result;
+    }
+
+    private static List<Filter> toList(Filter[] filters) {
+        return filters.length == 0 ? Collections.emptyList() : Collections.unmodifiableList(Arrays.asList(filters));
     }
 
     /**
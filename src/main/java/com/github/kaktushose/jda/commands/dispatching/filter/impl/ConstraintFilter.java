@@ -2,6 +2,7 @@ package com.github.kaktushose.jda.commands.dispatching.filter.impl;
 
 import com.github.kaktushose.jda.commands.dispatching.CommandContext;
 import com.github.kaktushose.jda.commands.dispatching.filter.Filter;
+import com.github.kaktushose.jda.commands.reflect.CommandDefinition;
 import com.github.kaktushose.jda.commands.reflect.ConstraintDefinition;
 import com.github.kaktushose.jda.commands.reflect.ParameterDefinition;
 import org.jetbrains.annotations.NotNull;
@@ -16,7 +17,7 @@ import java.util.Objects;
  * {@link com.github.kaktushose.jda.commands.reflect.CommandDefinition} might have.
  *
  * @author Kaktushose
- * @version 2.0.0
+ * @version 2.3.0
  * @see com.github.kaktushose.jda.commands.dispatching.validation.ValidatorRegistry ValidatorRegistry
  * @since 2.0.0
  */
@@ -58,4 +59,15 @@ public class ConstraintFilter implements Filter {
         }
         log.debug("All constraints passed");
     }
+
+    /**
+     * Only commands that have at least one parameter constraint are filtered.
+     *
+     * @param command the {@link CommandDefinition} to check
+     * @return {@code true} if the command has parameter constraints
+     */
+    @Override
+    public boolean isApplicable(@NotNull CommandDefinition command) {
+        return command.getParameters().stream().anyMatch(parameter -> !parameter.getConstraints().isEmpty());
+    }
 }
@@ -1,6 +1,9 @@
 package com.github.kaktushose.jda.commands.dispatching.filter.impl;
 
+import com.github.kaktushose.jda.commands.annotations.Cooldown;
+import com.github.kaktushose.jda.commands.data.CooldownStore;
 import com.github.kaktushose.jda.commands.dispatching.CommandContext;
+import com.github.kaktushose.jda.commands.dispatching.GenericEvent;
 import com.github.kaktushose.jda.commands.dispatching.filter.Filter;
 import com.github.kaktushose.jda.commands.reflect.CommandDefinition;
 import com.github.kaktushose.jda.commands.reflect.CooldownDefinition;
@@ -8,7 +11,9 @@ import org.jetbrains.annotations.NotNull;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.util.*;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * A {@link Filter} implementation that contains the business logic behind command cooldowns.
@@ -16,18 +21,38 @@ import java.util.*;
  * formally if the {@link CommandDefinition} doesn't hold a {@link CooldownDefinition} or the delay of the
  * {@link CooldownDefinition} amounts to {@code 0} this filter has no effect.
  *
+ * <p>Active cooldowns are held by a {@link CooldownStore}, keyed by the id of the {@link Cooldown.Scope} and the
+ * command.
+ *
  * @author Kaktushose
- * @version 2.0.0
+ * @version 2.3.0
  * @see com.github.kaktushose.jda.commands.annotations.Cooldown
+ * @see CooldownStore
  * @since 2.0.0
  */
 public class CooldownFilter implements Filter {
 
     private static final Logger log = LoggerFactory.getLogger(CooldownFilter.class);
-    private final Map<Long, Set<CooldownEntry>> activeCooldowns;
+    private final CooldownStore activeCooldowns;
+    private final Map<CommandDefinition, Integer> commandKeys;
+    private final AtomicInteger nextKey;
 
+    /**
+     * Constructs a new CooldownFilter using a {@link CooldownStore} with default settings.
+     */
     public CooldownFilter() {
-        activeCooldowns = new HashMap<>();
+        this(new CooldownStore());
+    }
+
+    /**
+     * Constructs a new CooldownFilter.
+     *
+     * @param store the {@link CooldownStore} to hold the active cooldowns
+     */
+    public CooldownFilter(@NotNull CooldownStore store) {
+        activeCooldowns = store;
+        commandKeys = new ConcurrentHashMap<>();
+        nextKey = new AtomicInteger();
     }
 
     /**
@@ -44,53 +69,59 @@ public class CooldownFilter implements Filter {
             return;
         }
 
-        long id = context.getEvent().getAuthor().getIdLong();
-
-        activeCooldowns.putIfAbsent(id, new HashSet<>());
-
-        Optional<CooldownEntry> optional = activeCooldowns.get(id).stream().filter(entry -> entry.command.equals(command)).findFirst();
-
-        if (optional.isPresent()) {
-            CooldownEntry entry = optional.get();
-            long remaining = entry.duration - (System.currentTimeMillis() - entry.startTime);
-            if (remaining <= 0) {
-                activeCooldowns.get(id).remove(entry);
-            } else {
-                context.setCancelled(true);
-                context.setErrorMessage(context.getImplementationRegistry().getErrorMessageFactory().getCooldownMessage(context, remaining));
-                log.debug("Command has a remaining cooldown of {} ms!", remaining);
-                return;
-            }
-        }
-
         CooldownDefinition cooldown = command.getCooldown();
-        long startTime = System.currentTimeMillis();
+        long scope = getScopeId(context.getEvent(), cooldown.getScope());
+        int key = commandKeys.computeIfAbsent(command, it -> nextKey.getAndIncrement());
         long duration = cooldown.getTimeUnit().toMillis(cooldown.getDelay());
-        activeCooldowns.get(id).add(new CooldownEntry(command, startTime, duration));
-        log.debug("Added new cooldown entry for this user");
-    }
-
-    private static class CooldownEntry {
-        private final CommandDefinition command;
-        private final long startTime;
-        private final long duration;
 
-        public CooldownEntry(CommandDefinition command, long startTime, long duration) {
-            this.command = command;
-            this.startTime = startTime;
-            this.duration = duration;
+        long remaining = activeCooldowns.acquire(scope, key, duration);
+        if (remaining > 0) {
+            context.setCancelled(true);
+            context.setErrorMessage(context.getImplementationRegistry().getErrorMessageFactory().getCooldownMessage(context, remaining));
+            log.debug("Command has a remaining cooldown of {} ms!", remaining);
+            return;
         }
+        log.debug("Added new cooldown entry for scope {}", cooldown.getScope());
+    }
 
-        public CommandDefinition getCommand() {
-            return command;
-        }
+    /**
+     * Only commands that have a cooldown are filtered.
+     *
+     * @param command the {@link CommandDefinition} to check
+     * @return {@code true} if the command has a cooldown
+     */
+    @Override
+    public boolean isApplicable(@NotNull CommandDefinition command) {
+        return command.hasCooldown();
+    }
 
-        public long getStartTime() {
-            return startTime;
-        }
+    /**
+     * Gets the {@link CooldownStore} holding the active cooldowns.
+     *
+     * @return the {@link CooldownStore}
+     */
+    public CooldownStore getCooldownStore() {
+        return activeCooldowns;
+    }
+
+    /**
+     * Stops the periodic sweep of the {@link CooldownStore}.
+     */
+    @Override
+    public void close() {
+        activeCooldowns.close();
+    }
 
-        public long getDuration() {
-            return duration;
+    private long getScopeId(GenericEvent event, Cooldown.Scope scope) {
+        switch (scope) {
+            case GUILD:
+                return event.isFromGuild() ? event.getGuild().getIdLong() : event.getAuthor().getIdLong();
+            case CHANNEL:
+                return event.getChannel().getIdLong();
+            case GLOBAL:
+                return 0;
+            default:
+                return event.getAuthor().getIdLong();
         }
     }
 }
@@ -3,6 +3,7 @@ package com.github.kaktushose.jda.commands.dispatching.filter.impl;
 import com.github.kaktushose.jda.commands.annotations.Command;
 import com.github.kaktushose.jda.commands.dispatching.CommandContext;
 import com.github.kaktushose.jda.commands.dispatching.filter.Filter;
+import com.github.kaktushose.jda.commands.reflect.CommandDefinition;
 import net.dv8tion.jda.api.entities.channel.ChannelType;
 import org.jetbrains.annotations.NotNull;
 import org.slf4j.Logger;
@@ -13,7 +14,7 @@ import org.slf4j.LoggerFactory;
  * {@link com.github.kaktushose.jda.commands.reflect.CommandDefinition} is available for execution in direct messages.
  *
  * @author Kaktushose
- * @version 2.0.0
+ * @version 2.3.0
  * @see Command#isDM()
  * @since 2.0.0
  */
@@ -35,4 +36,15 @@ public class DirectMessageFilter implements Filter {
             context.setErrorMessage(context.getImplementationRegistry().getErrorMessageFactory().getWrongChannelTypeMessage(context));
         }
     }
+
+    /**
+     * Commands that can be executed in direct messages are never cancelled, thus they aren't filtered.
+     *
+     * @param command the {@link CommandDefinition} to check
+     * @return {@code true} if the command cannot be executed in direct messages
+     */
+    @Override
+    public boolean isApplicable(@NotNull CommandDefinition command) {
+        return !command.isDM();
+    }
 }
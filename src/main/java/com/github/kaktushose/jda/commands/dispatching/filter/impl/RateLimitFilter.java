@@ -0,0 +1,238 @@
+package com.github.kaktushose.jda.commands.dispatching.filter.impl;
+
+import com.github.kaktushose.jda.commands.data.CooldownStore;
+import com.github.kaktushose.jda.commands.dispatching.CommandContext;
+import com.github.kaktushose.jda.commands.dispatching.GenericEvent;
+import com.github.kaktushose.jda.commands.dispatching.filter.Filter;
+import com.github.kaktushose.jda.commands.reflect.CommandDefinition;
+import org.jetbrains.annotations.NotNull;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * A {@link Filter} implementation that throttles abusive traffic using token buckets. Each {@link Scope} can be given
+ * its own rate and burst capacity, a request must acquire a permit from every configured bucket. If one bucket is
+ * exhausted, the permits acquired from the other buckets are given back. The buckets are held by a
+ * {@link CooldownStore}, thus no objects get allocated per user, channel or guild.
+ *
+ * <p>This filter isn't registered by default. The scopes {@link Scope#USER USER}, {@link Scope#CHANNEL CHANNEL},
+ * {@link Scope#GUILD GUILD} and {@link Scope#GLOBAL GLOBAL} are checked if no command has been routed yet, so they
+ * should be registered at
+ * {@link com.github.kaktushose.jda.commands.dispatching.filter.FilterRegistry.FilterPosition#BEFORE_ROUTING FilterPosition.BEFORE_ROUTING}.
+ * {@link Scope#COMMAND COMMAND} is only checked once the command is known. The same instance can be registered at both
+ * positions:
+ * <pre>
+ * {@code
+ * RateLimitFilter filter = new RateLimitFilter()
+ *         .limit(Scope.USER, 10, 1, TimeUnit.MINUTES, 5)
+ *         .limit(Scope.COMMAND, 3, 10, TimeUnit.SECONDS, 3);
+ * registry.register(filter, FilterPosition.BEFORE_ROUTING);
+ * registry.register(filter, FilterPosition.BEFORE_ADAPTING);
+ * }
+ * </pre>
+ *
+ * <p>Only the first rejection of an episode sends an error message, further requests are dropped silently until a
+ * permit is available again.
+ *
+ * @author Kaktushose
+ * @version 2.3.0
+ * @see CooldownStore#acquire(long, int, long, int)
+ * @since 2.3.0
+ */
+public class RateLimitFilter implements Filter {
+
+    private static final Logger log = LoggerFactory.getLogger(RateLimitFilter.class);
+    private static final int WARNED_FLAG = 1 << 30;
+    private static final Scope[] SCOPES = Scope.values();
+    private final CooldownStore buckets;
+    private final Map<CommandDefinition, Integer> commandKeys;
+    private final AtomicInteger nextKey;
+    private volatile Limit[] limits;
+
+    /**
+     * Constructs a new RateLimitFilter using a {@link CooldownStore} with default settings.
+     */
+    public RateLimitFilter() {
+        this(new CooldownStore());
+    }
+
+    /**
+     * Constructs a new RateLimitFilter.
+     *
+     * @param store the {@link CooldownStore} to hold the token buckets
+     */
+    public RateLimitFilter(@NotNull CooldownStore store) {
+        buckets = store;
+        limits = new Limit[SCOPES.length];
+        commandKeys = new ConcurrentHashMap<>();
+        nextKey = new AtomicInteger(SCOPES.length);
+    }
+
+    /**
+     * Configures the token bucket of a {@link Scope}.
+     *
+     * @param scope   the {@link Scope} to configure
+     * @param permits the amount of permits that get refilled per period
+     * @param period  the period in which the permits get refilled
+     * @param unit    the {@link TimeUnit} of the period
+     * @param burst   the maximum amount of permits that can be acquired at once
+     * @return this instance for fluent interface
+     */
+    public RateLimitFilter limit(@NotNull Scope scope, long permits, long period, @NotNull TimeUnit unit, int burst) {
+        if (permits < 1 || burst < 1) {
+            throw new IllegalArgumentException("Permits and burst must be at least 1!");
+        }
+        long interval = unit.toMillis(period) / permits;
+        if (interval < 1) {
+            throw new IllegalArgumentException("Rate must not exceed one permit per millisecond!");
+        }
+        setLimit(scope, new Limit(interval, burst));
+        return this;
+    }
+
+    /**
+     * Removes the token bucket of a {@link Scope}.
+     *
+     * @param scope the {@link Scope} to remove
+     * @return this instance for fluent interface
+     */
+    public RateLimitFilter unlimit(@NotNull Scope scope) {
+        setLimit(scope, null);
+        return this;
+    }
+
+    /**
+     * Acquires a permit from every configured bucket and will cancel the {@link CommandContext} if one is exhausted.
+     * In that case the permits that were already acquired are given back, thus a rejected request doesn't consume
+     * any permit.
+     *
+     * @param context the {@link CommandContext} to filter
+     */
+    @Override
+    public void apply(@NotNull CommandContext context) {
+        CommandDefinition command = context.getCommand();
+        GenericEvent event = context.getEvent();
+        Limit[] limits = this.limits;
+        for (int i = 0; i < SCOPES.length; i++) {
+            Scope scope = SCOPES[i];
+            Limit limit = limits[i];
+            if (!isChecked(scope, limit, event, command)) {
+                continue;
+            }
+            long id = getScopeId(scope, event);
+            int key = getKey(scope, command);
+            long remaining = buckets.acquire(id, key, limit.interval, limit.burst);
+            if (remaining > 0) {
+                // all or nothing, give back the permits of the previous buckets
+                for (int j = 0; j < i; j++) {
+                    if (isChecked(SCOPES[j], limits[j], event, command)) {
+                        buckets.release(getScopeId(SCOPES[j], event), getKey(SCOPES[j], command), limits[j].interval);
+                    }
+                }
+                reject(context, scope, id, key, remaining);
+                return;
+            }
+        }
+    }
+
+    /**
+     * Gets the {@link CooldownStore} holding the token buckets.
+     *
+     * @return the {@link CooldownStore}
+     */
+    public CooldownStore getBucketStore() {
+        return buckets;
+    }
+
+    /**
+     * Stops the periodic sweep of the {@link CooldownStore}.
+     */
+    @Override
+    public void close() {
+        buckets.close();
+    }
+
+    private boolean isChecked(Scope scope, Limit limit, GenericEvent event, CommandDefinition command) {
+        if (limit == null || (scope == Scope.COMMAND) == (command == null)) {
+            return false;
+        }
+        return scope != Scope.GUILD || event.isFromGuild();
+    }
+
+    private long getScopeId(Scope scope, GenericEvent event) {
+        switch (scope) {
+            case CHANNEL:
+                return event.getChannel().getIdLong();
+            case GUILD:
+                return event.getGuild().getIdLong();
+            case GLOBAL:
+                return 0;
+            default:
+                return event.getAuthor().getIdLong();
+        }
+    }
+
+    private int getKey(Scope scope, CommandDefinition command) {
+        if (scope == Scope.COMMAND) {
+            return commandKeys.computeIfAbsent(command, it -> nextKey.getAndIncrement());
+        }
+        return scope.ordinal();
+    }
+
+    private synchronized void setLimit(Scope scope, Limit limit) {
+        // copy on write, apply() reads the array without locking
+        Limit[] copy = limits.clone();
+        copy[scope.ordinal()] = limit;
+        limits = copy;
+    }
+
+    private void reject(CommandContext context, Scope scope, long id, int key, long remaining) {
+        context.setCancelled(true);
+        // the warning itself is a cooldown lasting until the bucket has a permit again
+        if (buckets.acquire(id, key | WARNED_FLAG, remaining) == 0) {
+            context.setErrorMessage(context.getImplementationRegistry().getErrorMessageFactory().getCooldownMessage(context, remaining));
+            log.debug("Rate limit of scope {} exceeded! Next permit in {} ms", scope, remaining);
+        }
+    }
+
+    /**
+     * Enum describing the scopes a token bucket can be applied to.
+     */
+    public enum Scope {
+        /**
+         * One bucket per user.
+         */
+        USER,
+        /**
+         * One bucket per channel.
+         */
+        CHANNEL,
+        /**
+         * One bucket per guild. Doesn't apply to direct messages.
+         */
+        GUILD,
+        /**
+         * One bucket shared by everyone.
+         */
+        GLOBAL,
+        /**
+         * One bucket per user and command. Only applies after routing.
+         */
+        COMMAND
+    }
+
+    private static class Limit {
+        private final long interval;
+        private final int burst;
+
+        private Limit(long interval, int burst) {
+            this.interval = interval;
+            this.burst = burst;
+        }
+    }
+}
@@ -2,6 +2,8 @@ package com.github.kaktushose.jda.commands.dispatching.interactions;
 
 import com.github.kaktushose.jda.commands.JDACommands;
 import com.github.kaktushose.jda.commands.dispatching.ButtonEvent;
+import com.github.kaktushose.jda.commands.dispatching.DispatchExecutor;
+import com.github.kaktushose.jda.commands.dispatching.DispatchExecutor.ExecutionMode;
 import com.github.kaktushose.jda.commands.reflect.ButtonDefinition;
 import net.dv8tion.jda.api.events.interaction.component.ButtonInteractionEvent;
 import net.dv8tion.jda.api.hooks.ListenerAdapter;
@@ -10,13 +12,14 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.lang.reflect.InvocationTargetException;
-import java.util.ArrayList;
 import java.util.Collection;
-import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
- * Dispatches {@link ButtonInteractionEvent ButtonInteractionEvents}.
+ * Dispatches {@link ButtonInteractionEvent ButtonInteractionEvents}. Buttons are indexed by their id. Custom ids of the
+ * format {@code id:payload} are resolved by the part before the {@link ButtonDefinition#PAYLOAD_SEPARATOR}.
  *
  * @author Kaktushose
  * @version 2.3.0
@@ -26,7 +29,7 @@ import java.util.Optional;
 public class ButtonInteractionDispatcher extends ListenerAdapter {
 
     private static final Logger log = LoggerFactory.getLogger(ButtonInteractionDispatcher.class);
-    private final List<ButtonDefinition> buttons;
+    private final Map<String, ButtonDefinition> buttons;
     private final JDACommands jdaCommands;
 
     /**
@@ -36,7 +39,7 @@ public class ButtonInteractionDispatcher extends ListenerAdapter {
      */
     public ButtonInteractionDispatcher(JDACommands jdaCommands) {
         this.jdaCommands = jdaCommands;
-        buttons = new ArrayList<>();
+        buttons = new ConcurrentHashMap<>();
     }
 
     /**
@@ -45,12 +48,17 @@ public class ButtonInteractionDispatcher extends ListenerAdapter {
      * @param buttons the {@link ButtonDefinition ButtonDefinitions} to add
      */
     public void addButtons(Collection<ButtonDefinition> buttons) {
-        this.buttons.addAll(buttons);
+        for (ButtonDefinition button : buttons) {
+            if (this.buttons.putIfAbsent(button.getId(), button) != null) {
+                log.warn("Found duplicate button id {}! Only the first button will be dispatched", button.getId());
+            }
+        }
     }
 
     /**
      * Dispatches a {@link ButtonInteractionEvent}. If the incoming id matches one of the registered buttons, the button
-     * method will be invoked.
+     * method will be invoked by the {@link DispatchExecutor} using the {@link ExecutionMode} of the button's
+     * controller. The event gets acknowledged before, thus a pooled execution cannot miss the interaction deadline.
      *
      * @param event the incoming {@link ButtonInteractionEvent}
      */
@@ -65,15 +73,34 @@ public class ButtonInteractionDispatcher extends ListenerAdapter {
         if (button.getController().isAutoAcknowledge()) {
             event.deferEdit().queue();
         }
+        ExecutionMode mode = button.getController().getExecutionMode();
+        if (!jdaCommands.getDispatchExecutor().execute(mode, () -> execute(event, button))) {
+            log.warn("Execution of button interaction {} got rejected", button.getMethod().getName());
+        }
+    }
+
+    private void execute(ButtonInteractionEvent event, ButtonDefinition button) {
         try {
-            button.getMethod().invoke(button.getInstance(), new ButtonEvent(event, button, jdaCommands));
+            button.getInvoker().invoke(new Object[]{new ButtonEvent(event, button, jdaCommands)});
+        } catch (InvocationTargetException e) {
+            log.error("Interaction execution failed!", e);
         } catch (Exception e) {
             log.error("Interaction execution failed!", new InvocationTargetException(e));
         }
     }
 
     private Optional<ButtonDefinition> findById(String id) {
-        return buttons.stream().filter(button -> button.getId().equals(id)).findFirst();
+        if (id == null) {
+            return Optional.empty();
+        }
+        ButtonDefinition button = buttons.get(id);
+        if (button == null) {
+            int separator = id.indexOf(ButtonDefinition.PAYLOAD_SEPARATOR);
+            if (separator > 0) {
+                button = buttons.get(id.substring(0, separator));
+            }
+        }
+        return Optional.ofNullable(button);
     }
 
 }
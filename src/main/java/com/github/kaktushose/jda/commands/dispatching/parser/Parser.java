@@ -10,7 +10,7 @@ import org.jetbrains.annotations.NotNull;
  *
  * @param <T> a subtype of {@link GenericEvent} the parser can parse
  * @author Kaktushose
- * @version 2.0.0
+ * @version 2.3.0
  * @since 2.0.0
  */
 public abstract class Parser<T extends GenericEvent> {
@@ -29,4 +29,15 @@ public abstract class Parser<T extends GenericEvent> {
     @NotNull
     public abstract CommandContext parse(@NotNull T event, @NotNull CommandDispatcher dispatcher);
 
+    /**
+     * Whether this parser only accepts messages that start with the prefix or, if enabled, a mention of the bot.
+     * Messages that don't will be discarded by the {@link PrefixGate} before this parser gets called. Only applies to
+     * parsers of {@link net.dv8tion.jda.api.events.message.MessageReceivedEvent MessageReceivedEvents}.
+     *
+     * @return {@code true} if this parser only accepts prefixed messages
+     */
+    public boolean isPrefixed() {
+        return false;
+    }
+
 }
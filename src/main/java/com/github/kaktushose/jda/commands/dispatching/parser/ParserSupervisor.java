@@ -6,6 +6,7 @@ import com.github.kaktushose.jda.commands.dispatching.parser.impl.DefaultMessage
 import com.github.kaktushose.jda.commands.dispatching.parser.impl.DefaultSlashCommandParser;
 import com.github.kaktushose.jda.commands.dispatching.parser.impl.MigratingMessageParser;
 import com.github.kaktushose.jda.commands.dispatching.sender.MessageSender;
+import com.github.kaktushose.jda.commands.metrics.MetricsCollector;
 import net.dv8tion.jda.api.events.GenericEvent;
 import net.dv8tion.jda.api.events.interaction.command.SlashCommandInteractionEvent;
 import net.dv8tion.jda.api.events.message.MessageReceivedEvent;
@@ -30,6 +31,7 @@ public class ParserSupervisor extends ListenerAdapter {
     private static final Logger log = LoggerFactory.getLogger(ParserSupervisor.class);
     private final CommandDispatcher dispatcher;
     private final Map<Class<? extends GenericEvent>, Parser<? extends GenericEvent>> listeners;
+    private final PrefixGate prefixGate;
 
     /**
      * Constructs a new ParserSupervisor.
@@ -38,6 +40,7 @@ public class ParserSupervisor extends ListenerAdapter {
      */
     public ParserSupervisor(@NotNull CommandDispatcher dispatcher) {
         listeners = new HashMap<>();
+        prefixGate = new PrefixGate();
         this.dispatcher = dispatcher;
         switch (dispatcher.getSlashConfiguration().getPolicy()) {
             case TEXT:
@@ -80,24 +83,34 @@ public class ParserSupervisor extends ListenerAdapter {
 
     /**
      * Distributes {@link GenericEvent GenericEvents} to the corresponding parser. If the parsing didn't fail, will call
-     * {@link CommandDispatcher#onEvent(CommandContext)}
+     * {@link CommandDispatcher#onEvent(CommandContext)}. Messages that cannot be commands are discarded by the
+     * {@link PrefixGate} beforehand, see {@link Parser#isPrefixed()}.
      *
      * @param event the {@link GenericEvent GenericEvents} to distribute
      */
     @Override
     public void onGenericEvent(@NotNull GenericEvent event) {
-        if (!listeners.containsKey(event.getClass())) {
+        Parser<?> parser = listeners.get(event.getClass());
+        if (parser == null) {
+            return;
+        }
+        if (parser.isPrefixed() && event instanceof MessageReceivedEvent &&
+                !prefixGate.test((MessageReceivedEvent) event, dispatcher.getImplementationRegistry().getSettingsProvider())) {
             return;
         }
         log.debug("Received {}", event.getClass().getSimpleName());
-        Parser<?> parser = listeners.get(event.getClass());
         log.debug("Calling {}", parser.getClass().getName());
+        long start = System.nanoTime();
         CommandContext context = parser.parseInternal(event, dispatcher);
+        MetricsCollector metrics = context.getImplementationRegistry().getMetricsCollector();
+        metrics.recordPhase(MetricsCollector.Phase.PARSING, null, System.nanoTime() - start);
 
         MessageSender sender = context.getImplementationRegistry().getMessageSender();
 
         if (context.isCancelled()) {
+            // messages without an error message simply weren't commands, e.g. because the prefix is missing
             if (context.getErrorMessage() != null) {
+                metrics.recordCancellation(context, MetricsCollector.Phase.PARSING.name());
                 sender.sendErrorMessage(context, context.getErrorMessage());
             }
             return;
@@ -106,8 +119,19 @@ public class ParserSupervisor extends ListenerAdapter {
         try {
             dispatcher.onEvent(context);
         } catch (Exception e) {
+            metrics.recordError(context.getCommand(), e);
             sender.sendErrorMessage(context, context.getImplementationRegistry().getErrorMessageFactory().getCommandExecutionFailedMessage(context, e));
             log.error("Command execution failed!", e);
         }
     }
+
+    /**
+     * Gets the {@link PrefixGate} that discards messages which cannot be commands. Use it to invalidate cached settings
+     * or to read the amount of accepted and rejected messages.
+     *
+     * @return the {@link PrefixGate}
+     */
+    public PrefixGate getPrefixGate() {
+        return prefixGate;
+    }
 }
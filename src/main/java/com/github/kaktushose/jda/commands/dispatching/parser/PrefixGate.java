@@ -0,0 +1,200 @@
+package com.github.kaktushose.jda.commands.dispatching.parser;
+
+import com.github.kaktushose.jda.commands.data.ConcurrentLongMap;
+import com.github.kaktushose.jda.commands.settings.CachingSettingsProvider;
+import com.github.kaktushose.jda.commands.settings.GuildSettings;
+import com.github.kaktushose.jda.commands.settings.SettingsProvider;
+import net.dv8tion.jda.api.entities.Guild;
+import net.dv8tion.jda.api.events.message.MessageReceivedEvent;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Discards messages that cannot be commands before they get parsed. Most messages are regular chat messages, thus
+ * checking the prefix before any {@link com.github.kaktushose.jda.commands.dispatching.CommandContext CommandContext}
+ * is created saves a lot of work.
+ *
+ * <p>The prefix and the relevant {@link GuildSettings} can be cached per guild, so that the {@link SettingsProvider}
+ * isn't called for every message. Caching is disabled by default, because a changed prefix would otherwise be ignored
+ * until the cache entry expires. If a {@link CachingSettingsProvider} is used, the
+ * {@link com.github.kaktushose.jda.commands.dispatching.CommandDispatcher CommandDispatcher} enables caching and the
+ * cache entries get invalidated together with the entries of the provider. Otherwise, caching can be enabled by
+ * setting a {@link #setTimeToLive(long, TimeUnit) time to live}, in which case {@link #invalidate(long)} must be called
+ * after the settings of a guild have been changed. Checking a cached message doesn't allocate unless the cache entry of
+ * the guild needs to be loaded.
+ *
+ * @author Kaktushose
+ * @version 2.3.0
+ * @see ParserSupervisor
+ * @see Parser#isPrefixed()
+ * @since 2.3.0
+ */
+public class PrefixGate implements CachingSettingsProvider.InvalidationListener {
+
+    private static final long DIRECT_MESSAGES = 0;
+    private final ConcurrentLongMap<Entry> cache;
+    private final LongAdder accepted;
+    private final LongAdder rejected;
+    private volatile long timeToLive;
+
+    /**
+     * Constructs a new PrefixGate with caching disabled.
+     */
+    public PrefixGate() {
+        cache = new ConcurrentLongMap<>();
+        accepted = new LongAdder();
+        rejected = new LongAdder();
+    }
+
+    /**
+     * Checks whether a message can be a command. A message is rejected if it doesn't start with the prefix or a mention
+     * of the bot, if enabled, or if it was sent by a bot and bots are ignored.
+     *
+     * @param event    the {@link MessageReceivedEvent} to check
+     * @param provider the {@link SettingsProvider} to load the {@link GuildSettings} from
+     * @return {@code true} if the message can be a command
+     */
+    public boolean test(@NotNull MessageReceivedEvent event, @NotNull SettingsProvider provider) {
+        Guild guild = event.isFromGuild() ? event.getGuild() : null;
+        long key = guild == null ? DIRECT_MESSAGES : guild.getIdLong();
+        long ttl = timeToLive;
+        if (ttl <= 0) {
+            GuildSettings settings = provider.getSettings(guild);
+            return test(event, settings.getPrefix(), settings.isIgnoreBots(), settings.isMentionPrefix());
+        }
+        long now = System.currentTimeMillis();
+        Entry entry = cache.get(key);
+        if (entry == null || entry.expiresAt <= now) {
+            GuildSettings settings = provider.getSettings(guild);
+            entry = new Entry(settings.getPrefix(), settings.isIgnoreBots(), settings.isMentionPrefix(), now + ttl);
+            cache.put(key, entry);
+        }
+        return test(event, entry.prefix, entry.ignoreBots, entry.mentionPrefix);
+    }
+
+    private boolean test(MessageReceivedEvent event, String prefix, boolean ignoreBots, boolean mentionPrefix) {
+        if (ignoreBots && event.getAuthor().isBot()) {
+            rejected.increment();
+            return false;
+        }
+
+        long selfUserId = mentionPrefix ? event.getJDA().getSelfUser().getIdLong() : 0;
+        if (getPrefixLength(event.getMessage().getContentRaw(), prefix, mentionPrefix, selfUserId) < 0) {
+            rejected.increment();
+            return false;
+        }
+        accepted.increment();
+        return true;
+    }
+
+    /**
+     * Gets the length of the prefix the content starts with. The regular prefix takes precedence over a mention of the
+     * bot, which can be either {@code <@id>} or {@code <@!id>}.
+     *
+     * @param content       the content of the message
+     * @param prefix        the prefix
+     * @param mentionPrefix whether a mention of the bot can be used as prefix
+     * @param selfUserId    the id of the bot, only used if mentionPrefix is {@code true}
+     * @return the length of the prefix or {@code -1} if the content doesn't start with a prefix
+     */
+    public static int getPrefixLength(@NotNull String content, @NotNull String prefix, boolean mentionPrefix, long selfUserId) {
+        if (content.regionMatches(0, prefix, 0, prefix.length())) {
+            return prefix.length();
+        }
+        if (!mentionPrefix || !content.startsWith("<@")) {
+            return -1;
+        }
+        // parse the id in place, creating the mention Strings would allocate
+        int index = content.length() > 2 && content.charAt(2) == '!' ? 3 : 2;
+        int start = index;
+        long id = 0;
+        while (index < content.length() && index - start < 19) {
+            char c = content.charAt(index);
+            if (c < '0' || c > '9') {
+                break;
+            }
+            id = id * 10 + (c - '0');
+            index++;
+        }
+        if (index == start || index >= content.length() || content.charAt(index) != '>' || id != selfUserId) {
+            return -1;
+        }
+        return index + 1;
+    }
+
+    /**
+     * Removes the cached settings of a guild. Call this after the settings of a guild have been changed.
+     *
+     * @param guildId the id of the guild or {@code 0} for direct messages
+     */
+    public void invalidate(long guildId) {
+        cache.remove(guildId);
+    }
+
+    /**
+     * Removes all cached settings.
+     */
+    public void invalidateAll() {
+        cache.clear();
+    }
+
+    @Override
+    public void onInvalidate(long guildId) {
+        invalidate(guildId);
+    }
+
+    @Override
+    public void onInvalidateAll() {
+        invalidateAll();
+    }
+
+    /**
+     * Sets the time after which cached settings get loaded again. A value of {@code 0} disables caching, which is the
+     * default, and reads the settings from the {@link SettingsProvider} for every message.
+     *
+     * @param duration the time to live
+     * @param unit     the {@link TimeUnit} of the duration
+     * @return this instance
+     */
+    public PrefixGate setTimeToLive(long duration, @NotNull TimeUnit unit) {
+        timeToLive = unit.toMillis(duration);
+        if (timeToLive <= 0) {
+            cache.clear();
+        }
+        return this;
+    }
+
+    /**
+     * Gets the amount of messages that passed this gate.
+     *
+     * @return the amount of accepted messages
+     */
+    public long getAcceptedCount() {
+        return accepted.sum();
+    }
+
+    /**
+     * Gets the amount of messages that were discarded by this gate.
+     *
+     * @return the amount of rejected messages
+     */
+    public long getRejectedCount() {
+        return rejected.sum();
+    }
+
+    private static class Entry {
+        private final String prefix;
+        private final boolean ignoreBots;
+        private final boolean mentionPrefix;
+        private final long expiresAt;
+
+        private Entry(String prefix, boolean ignoreBots, boolean mentionPrefix, long expiresAt) {
+            this.prefix = prefix;
+            this.ignoreBots = ignoreBots;
+            this.mentionPrefix = mentionPrefix;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
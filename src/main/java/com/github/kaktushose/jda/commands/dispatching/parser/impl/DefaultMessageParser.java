@@ -1,8 +1,11 @@
 package com.github.kaktushose.jda.commands.dispatching.parser.impl;
 
+import com.github.kaktushose.jda.commands.JDACommands;
 import com.github.kaktushose.jda.commands.dispatching.CommandContext;
 import com.github.kaktushose.jda.commands.dispatching.CommandDispatcher;
 import com.github.kaktushose.jda.commands.dispatching.parser.Parser;
+import com.github.kaktushose.jda.commands.dispatching.parser.PrefixGate;
+import com.github.kaktushose.jda.commands.dispatching.router.LevenshteinDistance;
 import com.github.kaktushose.jda.commands.embeds.error.ErrorMessageFactory;
 import com.github.kaktushose.jda.commands.reflect.ImplementationRegistry;
 import com.github.kaktushose.jda.commands.settings.GuildSettings;
@@ -11,22 +14,19 @@ import org.jetbrains.annotations.NotNull;
 
 import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.Collection;
 import java.util.List;
-import java.util.regex.Pattern;
 
 /**
  * An implementation of {@link Parser} that can parse {@link MessageReceivedEvent}.
  * This parser will work within the limitations given by the {@link GuildSettings}.
  *
  * @author Kaktushose
- * @version 2.0.0
+ * @version 2.3.0
  * @since 2.0.0
  */
 public class DefaultMessageParser extends Parser<MessageReceivedEvent> {
 
-    private static final Collection<Character> QUOTATION_MARKS = Arrays.asList('\'', '\"');
-    private static final Character SPACE = ' ';
+    private static final ThreadLocal<TokenBuffer> TOKEN_BUFFER = ThreadLocal.withInitial(TokenBuffer::new);
 
     /**
      * Takes a {@link MessageReceivedEvent}, parses and transpiles it into a {@link CommandContext}.
@@ -38,15 +38,38 @@ public class DefaultMessageParser extends Parser<MessageReceivedEvent> {
     @Override
     @NotNull
     public CommandContext parse(@NotNull MessageReceivedEvent event, @NotNull CommandDispatcher dispatcher) {
-        ImplementationRegistry registry = dispatcher.getImplementationRegistry();
+        return parse(event, dispatcher.getImplementationRegistry(), dispatcher.getJdaCommands());
+    }
+
+    /**
+     * Takes a {@link MessageReceivedEvent}, parses and transpiles it into a {@link CommandContext} without needing a
+     * {@link CommandDispatcher}.
+     *
+     * @param event       the {@link MessageReceivedEvent} to parse
+     * @param registry    the {@link ImplementationRegistry} to use
+     * @param jdaCommands the corresponding {@link JDACommands} instance
+     * @return a new {@link CommandContext}
+     */
+    @NotNull
+    public CommandContext parse(@NotNull MessageReceivedEvent event,
+                                @NotNull ImplementationRegistry registry,
+                                JDACommands jdaCommands) {
         GuildSettings settings = registry.getSettingsProvider().getSettings(event.isFromGuild() ? event.getGuild() : null);
         ErrorMessageFactory errorMessageFactory = registry.getErrorMessageFactory();
-        CommandContext context = new CommandContext(event, dispatcher.getJdaCommands(), settings, registry);
+        CommandContext context = new CommandContext(event, jdaCommands, settings, registry);
 
         if (event.getAuthor().isBot() && settings.isIgnoreBots()) {
             return context.setCancelled(true);
         }
 
+        // most messages aren't commands, so reject them before doing anything else
+        String contentRaw = event.getMessage().getContentRaw();
+        long selfUserId = settings.isMentionPrefix() ? event.getJDA().getSelfUser().getIdLong() : 0;
+        int prefixLength = PrefixGate.getPrefixLength(contentRaw, settings.getPrefix(), settings.isMentionPrefix(), selfUserId);
+        if (prefixLength < 0) {
+            return context.setCancelled(true);
+        }
+
         if (settings.isMutedGuild()) {
             context.setErrorMessage(errorMessageFactory.getGuildMutedMessage(context));
             return context.setCancelled(true);
@@ -57,53 +80,7 @@ public class DefaultMessageParser extends Parser<MessageReceivedEvent> {
             return context.setCancelled(true);
         }
 
-        String contentRaw = event.getMessage().getContentRaw();
-
-        while (contentRaw.contains("  ")) {
-            contentRaw = contentRaw.replaceAll(" {2}", " ");
-        }
-
-        if (!contentRaw.startsWith(settings.getPrefix())) {
-            return context.setCancelled(true);
-        }
-
-        contentRaw = contentRaw.replaceFirst(Pattern.quote(settings.getPrefix()), "").trim();
-        String[] input = contentRaw.split(" ");
-
-        /*
-         * Splits the raw content at every space but will also concatenate the Strings inside a quote.
-         * E.g. Hello "Foo Bar" World -> [Hello, Foo Bar, World]
-         *
-         * @author stijnb1234
-         */
-        if (settings.isParseQuotes()) {
-            StringBuilder builder = new StringBuilder();
-            boolean isQuote = false;
-            char[] chars = contentRaw.toCharArray();
-            List<String> arguments = new ArrayList<>();
-
-            for (int i = 0; i < chars.length; i++) {
-                if (QUOTATION_MARKS.contains(chars[i])) {
-                    isQuote = !isQuote;
-                    continue;
-                }
-
-                builder.append(chars[i]);
-
-                if (isQuote) {
-                    if (i == chars.length - 1) {
-                        arguments.add(builder.toString().trim());
-                        builder.setLength(0);
-                    }
-                } else {
-                    if (SPACE.equals(chars[i]) || i == chars.length - 1) {
-                        arguments.add(builder.toString().trim());
-                        builder.setLength(0);
-                    }
-                }
-            }
-            input = arguments.toArray(new String[0]);
-        }
+        String[] input = tokenize(contentRaw, prefixLength, settings.isParseQuotes());
 
         if (isHelpLabel(context, input[0])) {
             context.setInput(Arrays.copyOfRange(input, 1, input.length));
@@ -115,50 +92,87 @@ public class DefaultMessageParser extends Parser<MessageReceivedEvent> {
         return context;
     }
 
+    @Override
+    public boolean isPrefixed() {
+        return true;
+    }
+
     private boolean isHelpLabel(CommandContext context, String input) {
-        for (int i = 0; i < context.getSettings().getMaxDistance(); i++) {
-            if (findHelpLabel(context, input, i)) {
+        // distance 0 is handled by the prefix check, a max distance of 0 disables help labels
+        int maxDistance = context.getSettings().getMaxDistance() - 1;
+        if (maxDistance < 0) {
+            return false;
+        }
+        for (String label : context.getSettings().getHelpLabels()) {
+            if (label.startsWith(input) || LevenshteinDistance.distance(label, input, maxDistance, false) <= maxDistance) {
                 return true;
             }
         }
         return false;
     }
 
-    private boolean findHelpLabel(CommandContext context, String input, int maxDistance) {
-        if (maxDistance == 0) {
-            return context.getSettings().getHelpLabels().stream().anyMatch(label -> label.startsWith(input));
-        }
-        return context.getSettings().getHelpLabels().stream().anyMatch(
-                label -> calculateLevenshteinDistance(label, input) <= maxDistance
-        );
-    }
-
-    private int calculateLevenshteinDistance(String first, String second) {
-        int[][] dp = new int[first.length() + 1][second.length() + 1];
-        for (int i = 0; i <= first.length(); i++) {
-            for (int j = 0; j <= second.length(); j++) {
-                if (i == 0) {
-                    dp[i][j] = j;
-                } else if (j == 0) {
-                    dp[i][j] = i;
+    /**
+     * Splits the content at every space in a single pass, ignoring consecutive spaces. If quotes are parsed, Strings
+     * inside single or double quotes are concatenated. E.g. Hello "Foo Bar" World -> [Hello, Foo Bar, World]. A quote
+     * is only closed by the same quotation mark that opened it, an unclosed quote lasts until the end of the content.
+     *
+     * @param content     the content to split
+     * @param offset      the index to start at, i.e. the length of the prefix
+     * @param parseQuotes whether to concatenate Strings inside quotes
+     * @return the tokens, at least one empty String if the content has no tokens
+     */
+    static String[] tokenize(String content, int offset, boolean parseQuotes) {
+        TokenBuffer buffer = TOKEN_BUFFER.get();
+        StringBuilder token = buffer.token;
+        List<String> tokens = buffer.tokens;
+        boolean inToken = false;
+        boolean quoted = false;
+        char quote = 0;
+        try {
+            for (int i = offset; i < content.length(); i++) {
+                char c = content.charAt(i);
+                if (quote != 0) {
+                    if (c == quote) {
+                        quote = 0;
+                    } else {
+                        token.append(c);
+                    }
+                } else if (parseQuotes && (c == '"' || c == '\'')) {
+                    quote = c;
+                    inToken = true;
+                    quoted = true;
+                } else if (c == ' ') {
+                    if (inToken) {
+                        addToken(tokens, token, quoted);
+                        inToken = false;
+                        quoted = false;
+                    }
                 } else {
-                    dp[i][j] = min(
-                            dp[i - 1][j - 1] + costOfSubstitution(first.charAt(i - 1), second.charAt(j - 1)),
-                            dp[i - 1][j] + 1,
-                            dp[i][j - 1] + 1
-                    );
+                    token.append(c);
+                    inToken = true;
                 }
             }
+            if (inToken) {
+                addToken(tokens, token, quoted);
+            }
+            return tokens.isEmpty() ? new String[]{""} : tokens.toArray(new String[0]);
+        } finally {
+            token.setLength(0);
+            tokens.clear();
         }
-        return dp[first.length()][second.length()];
     }
 
-    private int costOfSubstitution(char a, char b) {
-        return a == b ? 0 : 1;
+    private static void addToken(List<String> tokens, StringBuilder token, boolean quoted) {
+        String value = token.toString().trim();
+        // explicitly quoted empty Strings are kept, other blank tokens like line breaks aren't
+        if (quoted || !value.isEmpty()) {
+            tokens.add(value);
+        }
+        token.setLength(0);
     }
 
-    private int min(int... numbers) {
-        return Arrays.stream(numbers).min().orElse(Integer.MAX_VALUE);
+    private static class TokenBuffer {
+        private final StringBuilder token = new StringBuilder();
+        private final List<String> tokens = new ArrayList<>();
     }
-
 }
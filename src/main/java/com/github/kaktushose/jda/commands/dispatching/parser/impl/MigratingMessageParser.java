@@ -42,4 +42,9 @@ public class MigratingMessageParser extends Parser<MessageReceivedEvent> {
 
         return context.setCancelled(true);
     }
+
+    @Override
+    public boolean isPrefixed() {
+        return true;
+    }
 }
@@ -0,0 +1,298 @@
+package com.github.kaktushose.jda.commands.dispatching.router;
+
+import com.github.kaktushose.jda.commands.reflect.CommandDefinition;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.*;
+
+/**
+ * Immutable token trie of all command labels. Each label is split at its spaces and every token becomes one level of
+ * the trie. The trie is built twice, once with the original tokens and once with case-folded tokens, so that lookups
+ * can respect {@link com.github.kaktushose.jda.commands.settings.GuildSettings#isIgnoreCase() GuildSettings#isIgnoreCase()}
+ * without converting the input.
+ *
+ * <p>Resolving the longest matching label takes <em>O(tokens)</em> and doesn't allocate any objects. A token
+ * matches a child either exactly or, if no exact match exists, by being the prefix of exactly one child token.
+ *
+ * @author Kaktushose
+ * @version 2.3.0
+ * @see com.github.kaktushose.jda.commands.dispatching.router.impl.CommandRouter CommandRouter
+ * @since 2.3.0
+ */
+public class CommandTrie {
+
+    private final Node root;
+    private final Node foldedRoot;
+
+    private CommandTrie(Node root, Node foldedRoot) {
+        this.root = root;
+        this.foldedRoot = foldedRoot;
+    }
+
+    /**
+     * Builds a new CommandTrie from the labels of the given {@link CommandDefinition CommandDefinitions}.
+     *
+     * @param commands the {@link CommandDefinition CommandDefinitions} to index
+     * @return a new CommandTrie
+     */
+    @NotNull
+    public static CommandTrie build(@NotNull Collection<CommandDefinition> commands) {
+        MutableNode root = new MutableNode(0);
+        MutableNode foldedRoot = new MutableNode(0);
+        for (CommandDefinition command : commands) {
+            for (String label : command.getLabels()) {
+                String[] tokens = label.split(" ");
+                root.insert(tokens, 0, command, false);
+                foldedRoot.insert(tokens, 0, command, true);
+            }
+        }
+        return new CommandTrie(root.freeze(false), foldedRoot.freeze(true));
+    }
+
+    /**
+     * Walks the trie along the given input and returns the deepest {@link Node} that terminates a label. The amount
+     * of consumed input tokens equals {@link Node#getDepth()}.
+     *
+     * @param input      the user input
+     * @param ignoreCase whether to compare the tokens case-insensitive
+     * @return the deepest terminal {@link Node} or {@code null} if no label matches
+     */
+    @Nullable
+    public Node find(@NotNull String[] input, boolean ignoreCase) {
+        Node node = ignoreCase ? foldedRoot : root;
+        Node match = null;
+        for (String token : input) {
+            node = node.child(token);
+            if (node == null) {
+                break;
+            }
+            if (node.isTerminal()) {
+                match = node;
+            }
+        }
+        return match;
+    }
+
+    /**
+     * Walks the trie along the given input and returns the last {@link Node} reached, regardless of whether it
+     * terminates a label. If its depth is less than the length of the input and it {@link Node#hasChildren() has
+     * children}, the walk stopped at a token that is unknown or an ambiguous abbreviation, thus a longer label might
+     * still match by collecting or fuzzy matching.
+     *
+     * @param input      the user input
+     * @param ignoreCase whether to compare the tokens case-insensitive
+     * @return the last {@link Node} reached, the root node if the first token doesn't match
+     */
+    @NotNull
+    public Node walk(@NotNull String[] input, boolean ignoreCase) {
+        Node node = ignoreCase ? foldedRoot : root;
+        for (String token : input) {
+            Node child = node.child(token);
+            if (child == null) {
+                break;
+            }
+            node = child;
+        }
+        return node;
+    }
+
+    /**
+     * Collects all {@link CommandDefinition CommandDefinitions} whose labels consist of exactly {@code length} tokens and
+     * start token by token with the first {@code length} tokens of the input, e.g. {@code "b u"} matches
+     * {@code "ban user"}. Unlike {@link #find(String[], boolean)}, ambiguous abbreviations aren't discarded.
+     *
+     * @param input      the user input
+     * @param length     the amount of input tokens to match
+     * @param ignoreCase whether to compare the tokens case-insensitive
+     * @param result     the Collection to add the matching {@link CommandDefinition CommandDefinitions} to
+     */
+    public void collect(@NotNull String[] input, int length, boolean ignoreCase, @NotNull Collection<CommandDefinition> result) {
+        collect(ignoreCase ? foldedRoot : root, input, length, result);
+    }
+
+    private void collect(Node node, String[] input, int length, Collection<CommandDefinition> result) {
+        if (node.depth == length) {
+            result.addAll(Arrays.asList(node.commands));
+            return;
+        }
+        String token = input[node.depth];
+        for (Node child : node.children) {
+            if (child.token.length() >= token.length()
+                    && child.token.regionMatches(node.ignoreCase, 0, token, 0, token.length())) {
+                collect(child, input, length, result);
+            }
+        }
+    }
+
+    private static int hash(String token, boolean ignoreCase) {
+        int hash = 0;
+        for (int i = 0; i < token.length(); i++) {
+            char c = token.charAt(i);
+            hash = 31 * hash + (ignoreCase ? Character.toUpperCase(c) : c);
+        }
+        return hash ^ (hash >>> 16);
+    }
+
+    /**
+     * Single immutable node inside the {@link CommandTrie}. The children are stored in an open addressing hash table
+     * that is probed with a hash computed directly from the input token.
+     */
+    public static class Node {
+
+        private static final Node[] EMPTY = new Node[0];
+        private final String token;
+        private final int depth;
+        private final boolean ignoreCase;
+        private final CommandDefinition[] commands;
+        private final Node[] table;
+        private final Node[] children;
+
+        private Node(String token, int depth, boolean ignoreCase, CommandDefinition[] commands, Node[] children) {
+            this.token = token;
+            this.depth = depth;
+            this.ignoreCase = ignoreCase;
+            this.commands = commands;
+            this.children = children;
+            if (children.length == 0) {
+                table = EMPTY;
+                return;
+            }
+            int capacity = Integer.highestOneBit(children.length * 2 - 1) << 1;
+            table = new Node[capacity];
+            for (Node child : children) {
+                int index = hash(child.token, ignoreCase) & (capacity - 1);
+                while (table[index] != null) {
+                    index = (index + 1) & (capacity - 1);
+                }
+                table[index] = child;
+            }
+        }
+
+        @Nullable
+        private Node child(String input) {
+            if (table.length == 0) {
+                return null;
+            }
+            int mask = table.length - 1;
+            int index = hash(input, ignoreCase) & mask;
+            Node candidate;
+            while ((candidate = table[index]) != null) {
+                if (candidate.token.length() == input.length()
+                        && candidate.token.regionMatches(ignoreCase, 0, input, 0, input.length())) {
+                    return candidate;
+                }
+                index = (index + 1) & mask;
+            }
+            // no exact match, accept an abbreviation if it is unambiguous
+            Node result = null;
+            for (Node child : children) {
+                if (child.token.length() > input.length()
+                        && child.token.regionMatches(ignoreCase, 0, input, 0, input.length())) {
+                    if (result != null) {
+                        return null;
+                    }
+                    result = child;
+                }
+            }
+            return result;
+        }
+
+        /**
+         * Gets the amount of label tokens leading to this node.
+         *
+         * @return the amount of label tokens leading to this node
+         */
+        public int getDepth() {
+            return depth;
+        }
+
+        /**
+         * Whether at least one label continues after this node.
+         *
+         * @return {@code true} if this node has children
+         */
+        public boolean hasChildren() {
+            return children.length > 0;
+        }
+
+        /**
+         * Whether at least one label ends at this node.
+         *
+         * @return {@code true} if at least one label ends at this node
+         */
+        public boolean isTerminal() {
+            return commands.length > 0;
+        }
+
+        /**
+         * Gets the {@link CommandDefinition CommandDefinitions} whose labels end at this node. This will only contain
+         * more than one element if labels differ just by case and the node belongs to the case-folded trie.
+         *
+         * @return an unmodifiable list of {@link CommandDefinition CommandDefinitions}
+         */
+        @NotNull
+        public List<CommandDefinition> getCommands() {
+            return Collections.unmodifiableList(Arrays.asList(commands));
+        }
+
+        /**
+         * Gets the {@link CommandDefinition} whose label ends at this node if and only if the match is unambiguous.
+         *
+         * @return the {@link CommandDefinition} or {@code null} if none or more than one command matches
+         */
+        @Nullable
+        public CommandDefinition getCommand() {
+            return commands.length == 1 ? commands[0] : null;
+        }
+
+        @Override
+        public String toString() {
+            return "Node{" +
+                    "token='" + token + '\'' +
+                    ", depth=" + depth +
+                    ", commands=" + commands.length +
+                    ", children=" + children.length +
+                    '}';
+        }
+    }
+
+    private static class MutableNode {
+
+        private final int depth;
+        private final Map<String, MutableNode> children;
+        private final Set<CommandDefinition> commands;
+        private String token;
+
+        private MutableNode(int depth) {
+            this.depth = depth;
+            children = new LinkedHashMap<>();
+            commands = new LinkedHashSet<>();
+            token = "";
+        }
+
+        private void insert(String[] tokens, int index, CommandDefinition command, boolean ignoreCase) {
+            if (index == tokens.length) {
+                commands.add(command);
+                return;
+            }
+            String key = ignoreCase ? tokens[index].toUpperCase() : tokens[index];
+            MutableNode child = children.get(key);
+            if (child == null) {
+                child = new MutableNode(depth + 1);
+                child.token = tokens[index];
+                children.put(key, child);
+            }
+            child.insert(tokens, index + 1, command, ignoreCase);
+        }
+
+        private Node freeze(boolean ignoreCase) {
+            Node[] frozen = new Node[children.size()];
+            int i = 0;
+            for (MutableNode child : children.values()) {
+                frozen[i++] = child.freeze(ignoreCase);
+            }
+            return new Node(token, depth, ignoreCase, commands.toArray(new CommandDefinition[0]), frozen);
+        }
+    }
+}
@@ -0,0 +1,190 @@
+package com.github.kaktushose.jda.commands.dispatching.router;
+
+import com.github.kaktushose.jda.commands.reflect.CommandDefinition;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.*;
+
+/**
+ * Immutable BK-tree of all command labels, used to find labels within a bounded Levenshtein distance of the user input
+ * without comparing the input to every single label. Just like the {@link CommandTrie}, the index is built twice, once
+ * comparing case-sensitive and once comparing case-insensitive.
+ *
+ * <p>Due to the triangle inequality, a query with the bound {@code k} only needs to descend into the children whose
+ * edge distance lies within {@code [d - k, d + k]}, where {@code d} is the distance between the query and the
+ * current node. All distance calculations are bounded as well, see {@link LevenshteinDistance}.
+ *
+ * @author Kaktushose
+ * @version 2.3.0
+ * @see LevenshteinDistance
+ * @since 2.3.0
+ */
+public class FuzzyLabelIndex {
+
+    private final Node root;
+    private final Node foldedRoot;
+
+    private FuzzyLabelIndex(Node root, Node foldedRoot) {
+        this.root = root;
+        this.foldedRoot = foldedRoot;
+    }
+
+    /**
+     * Builds a new FuzzyLabelIndex from the labels of the given {@link CommandDefinition CommandDefinitions}.
+     *
+     * @param commands the {@link CommandDefinition CommandDefinitions} to index
+     * @return a new FuzzyLabelIndex
+     */
+    @NotNull
+    public static FuzzyLabelIndex build(@NotNull Collection<CommandDefinition> commands) {
+        Node root = null;
+        Node foldedRoot = null;
+        for (CommandDefinition command : commands) {
+            for (String label : command.getLabels()) {
+                if (root == null) {
+                    root = new Node(label);
+                    foldedRoot = new Node(label);
+                }
+                root.insert(label, command, false);
+                foldedRoot.insert(label, command, true);
+            }
+        }
+        return new FuzzyLabelIndex(root, foldedRoot);
+    }
+
+    /**
+     * Searches for all labels within the given distance of the query.
+     *
+     * @param query       the query to search for
+     * @param maxDistance the maximum Levenshtein distance, inclusive
+     * @param ignoreCase  whether to compare case-insensitive
+     * @return a list of {@link Match Matches}, sorted ascending by distance
+     */
+    @NotNull
+    public List<Match> search(@NotNull String query, int maxDistance, boolean ignoreCase) {
+        Node start = ignoreCase ? foldedRoot : root;
+        if (start == null || maxDistance < 0) {
+            return Collections.emptyList();
+        }
+        List<Match> result = new ArrayList<>();
+        Deque<Node> stack = new ArrayDeque<>();
+        stack.push(start);
+        while (!stack.isEmpty()) {
+            Node node = stack.pop();
+            // the bound must cover the widest edge we might descend into
+            int bound = maxDistance + node.children.length;
+            int distance = LevenshteinDistance.distance(query, node.label, bound, ignoreCase);
+            if (distance <= maxDistance) {
+                result.add(new Match(node.label, distance, node.commands));
+            }
+            int from = Math.max(1, distance - maxDistance);
+            int to = Math.min(node.children.length - 1, distance + maxDistance);
+            for (int i = from; i <= to; i++) {
+                if (node.children[i] != null) {
+                    stack.push(node.children[i]);
+                }
+            }
+        }
+        result.sort(Comparator.comparingInt(Match::getDistance));
+        return result;
+    }
+
+    /**
+     * A label found by {@link #search(String, int, boolean)}.
+     */
+    public static class Match {
+
+        private final String label;
+        private final int distance;
+        private final List<CommandDefinition> commands;
+
+        private Match(String label, int distance, List<CommandDefinition> commands) {
+            this.label = label;
+            this.distance = distance;
+            this.commands = commands;
+        }
+
+        /**
+         * Gets the matched label.
+         *
+         * @return the matched label
+         */
+        @NotNull
+        public String getLabel() {
+            return label;
+        }
+
+        /**
+         * Gets the Levenshtein distance between the query and the label.
+         *
+         * @return the Levenshtein distance
+         */
+        public int getDistance() {
+            return distance;
+        }
+
+        /**
+         * Gets the {@link CommandDefinition CommandDefinitions} with this label. This will only contain more than one
+         * element if labels differ just by case and the search was case-insensitive.
+         *
+         * @return an unmodifiable list of {@link CommandDefinition CommandDefinitions}
+         */
+        @NotNull
+        public List<CommandDefinition> getCommands() {
+            return commands;
+        }
+
+        @Override
+        public String toString() {
+            return "Match{" +
+                    "label='" + label + '\'' +
+                    ", distance=" + distance +
+                    '}';
+        }
+    }
+
+    private static class Node {
+
+        private static final Node[] EMPTY = new Node[0];
+        private final String label;
+        private List<CommandDefinition> commands;
+        private Node[] children;
+
+        private Node(String label) {
+            this.label = label;
+            commands = Collections.emptyList();
+            children = EMPTY;
+        }
+
+        private void insert(String label, CommandDefinition command, boolean ignoreCase) {
+            Node node = this;
+            while (true) {
+                // the distance can never exceed the length of the longer label, thus this is effectively unbounded
+                int bound = Math.max(label.length(), node.label.length());
+                int distance = LevenshteinDistance.distance(label, node.label, bound, ignoreCase);
+                if (distance == 0) {
+                    node.add(command);
+                    return;
+                }
+                if (distance >= node.children.length) {
+                    node.children = Arrays.copyOf(node.children, distance + 1);
+                }
+                if (node.children[distance] == null) {
+                    node.children[distance] = new Node(label);
+                    node.children[distance].add(command);
+                    return;
+                }
+                node = node.children[distance];
+            }
+        }
+
+        private void add(CommandDefinition command) {
+            if (commands.contains(command)) {
+                return;
+            }
+            List<CommandDefinition> list = new ArrayList<>(commands);
+            list.add(command);
+            commands = Collections.unmodifiableList(list);
+        }
+    }
+}
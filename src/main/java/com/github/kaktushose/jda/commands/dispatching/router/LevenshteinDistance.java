@@ -0,0 +1,91 @@
+package com.github.kaktushose.jda.commands.dispatching.router;
+
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Bounded Levenshtein distance. Only the diagonal band of width {@code 2 * max + 1} of the dynamic programming matrix is
+ * evaluated, using two rows instead of the whole matrix, and the computation stops as soon as the distance is known to
+ * exceed the bound.
+ *
+ * @author Kaktushose
+ * @version 2.3.0
+ * @see FuzzyLabelIndex
+ * @since 2.3.0
+ */
+public final class LevenshteinDistance {
+
+    private LevenshteinDistance() {
+    }
+
+    /**
+     * Calculates the Levenshtein distance between two Strings, bounded by {@code max}.
+     *
+     * @param first      the first String
+     * @param second     the second String
+     * @param max        the maximum distance of interest
+     * @param ignoreCase whether to compare the characters case-insensitive
+     * @return the distance if it is less or equal to {@code max}, else {@code max + 1}
+     */
+    public static int distance(@NotNull CharSequence first, @NotNull CharSequence second, int max, boolean ignoreCase) {
+        if (max < 0) {
+            return max + 1;
+        }
+        int n = first.length();
+        int m = second.length();
+        if (Math.abs(n - m) > max) {
+            return max + 1;
+        }
+        if (n == 0 || m == 0) {
+            return Math.max(n, m);
+        }
+        // make the second sequence the shorter one to keep the rows small
+        if (m > n) {
+            CharSequence tmp = first;
+            first = second;
+            second = tmp;
+            n = first.length();
+            m = second.length();
+        }
+
+        int[] previous = new int[m + 1];
+        int[] current = new int[m + 1];
+        int outside = max + 1;
+        for (int j = 0; j <= m; j++) {
+            previous[j] = j <= max ? j : outside;
+        }
+
+        for (int i = 1; i <= n; i++) {
+            char c = first.charAt(i - 1);
+            int from = Math.max(1, i - max);
+            int to = Math.min(m, i + max);
+            current[0] = i <= max ? i : outside;
+            if (from > 1) {
+                current[from - 1] = outside;
+            }
+            int rowMin = current[0];
+            for (int j = from; j <= to; j++) {
+                int cost = equals(c, second.charAt(j - 1), ignoreCase) ? 0 : 1;
+                int value = Math.min(Math.min(previous[j] + 1, current[j - 1] + 1), previous[j - 1] + cost);
+                current[j] = Math.min(value, outside);
+                rowMin = Math.min(rowMin, current[j]);
+            }
+            if (to < m) {
+                current[to + 1] = outside;
+            }
+            if (rowMin > max) {
+                return outside;
+            }
+            int[] tmp = previous;
+            previous = current;
+            current = tmp;
+        }
+        return Math.min(previous[m], outside);
+    }
+
+    private static boolean equals(char a, char b, boolean ignoreCase) {
+        if (a == b) {
+            return true;
+        }
+        return ignoreCase && Character.toUpperCase(a) == Character.toUpperCase(b);
+    }
+}
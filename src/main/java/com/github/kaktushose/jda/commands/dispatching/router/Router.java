@@ -2,6 +2,7 @@ package com.github.kaktushose.jda.commands.dispatching.router;
 
 import com.github.kaktushose.jda.commands.dispatching.CommandContext;
 import com.github.kaktushose.jda.commands.reflect.CommandDefinition;
+import com.github.kaktushose.jda.commands.reflect.CommandRegistry;
 import org.jetbrains.annotations.NotNull;
 
 import java.util.Collection;
@@ -10,7 +11,7 @@ import java.util.Collection;
  * Generic top level interface for defining command routers.
  *
  * @author Kaktushose
- * @version 2.0.0
+ * @version 2.3.0
  * @since 2.0.0
  */
 public interface Router {
@@ -23,4 +24,16 @@ public interface Router {
      */
     void findCommands(@NotNull CommandContext context, @NotNull Collection<CommandDefinition> commands);
 
+    /**
+     * Attempts to find a matching {@link CommandDefinition} for the given {@link CommandContext}. Routers can override
+     * this method to make use of the indices the {@link CommandRegistry} builds at startup, such as the
+     * {@link CommandTrie}. The default implementation delegates to {@link #findCommands(CommandContext, Collection)}.
+     *
+     * @param context  the {@link CommandContext} to find the {@link CommandDefinition} for
+     * @param registry the {@link CommandRegistry} to query
+     */
+    default void findCommands(@NotNull CommandContext context, @NotNull CommandRegistry registry) {
+        findCommands(context, registry.getCommands());
+    }
+
 }
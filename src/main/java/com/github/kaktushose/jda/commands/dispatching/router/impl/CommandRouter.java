@@ -1,138 +1,105 @@
 package com.github.kaktushose.jda.commands.dispatching.router.impl;
 
 import com.github.kaktushose.jda.commands.dispatching.CommandContext;
+import com.github.kaktushose.jda.commands.dispatching.router.CommandTrie;
+import com.github.kaktushose.jda.commands.dispatching.router.FuzzyLabelIndex;
 import com.github.kaktushose.jda.commands.dispatching.router.Router;
 import com.github.kaktushose.jda.commands.reflect.CommandDefinition;
+import com.github.kaktushose.jda.commands.reflect.CommandRegistry;
 import org.jetbrains.annotations.NotNull;
 
-import java.util.Arrays;
-import java.util.Collection;
-import java.util.List;
-import java.util.concurrent.atomic.AtomicInteger;
-import java.util.stream.Collectors;
+import java.util.*;
 
 /**
- * An implementation of {@link Router} that works for message based input.
+ * An implementation of {@link Router} that works for message based input. The input is first resolved against the
+ * {@link CommandTrie} of the {@link CommandRegistry}. If the walk stopped at an unknown or ambiguous token that might
+ * belong to a longer label, or if no label matches exactly or as an unambiguous abbreviation, ambiguous
+ * abbreviations are collected and the {@link FuzzyLabelIndex} gets queried for the labels with the smallest
+ * Levenshtein distance to the input. Like before, longer labels are preferred, thus the label found by the trie is
+ * only used if no longer label matches.
  *
  * @author Kaktushose
- * @version 2.0.0
+ * @version 2.3.0
  * @see com.github.kaktushose.jda.commands.dispatching.router.Router
  * @since 2.0.0
  */
 public class CommandRouter implements Router {
 
+    @Override
+    public void findCommands(@NotNull CommandContext context, @NotNull CommandRegistry registry) {
+        findCommands(context, registry.getCommandTrie(), registry.getFuzzyLabelIndex());
+    }
+
     @Override
     public void findCommands(@NotNull CommandContext context, @NotNull Collection<CommandDefinition> commands) {
-        if (findCommand(context, commands)) {
-            return;
-        }
-        if (context.getCommand() == null || context.isCancelled()) {
-            context.setErrorMessage(context.getImplementationRegistry()
-                    .getErrorMessageFactory()
-                    .getCommandNotFoundMessage(context)
-            );
-            context.setCancelled(true);
-        }
+        findCommands(context, CommandTrie.build(commands), FuzzyLabelIndex.build(commands));
     }
 
-    private boolean findCommand(CommandContext context, Collection<CommandDefinition> commands) {
-        CommandDefinition command = null;
-        boolean success = false;
+    private void findCommands(CommandContext context, CommandTrie trie, FuzzyLabelIndex index) {
         String[] input = context.getInput();
-        AtomicInteger matchingLength = new AtomicInteger(0);
-        for (int maxLabelLength = input.length - 1; maxLabelLength > -1; maxLabelLength--) {
-
-            StringBuilder labelBuilder = new StringBuilder();
-            for (int index = 0; index < maxLabelLength + 1; index++) {
-                labelBuilder.append(input[index]).append(" ");
+        boolean ignoreCase = context.getSettings().isIgnoreCase();
+        CommandTrie.Node node = trie.find(input, ignoreCase);
+        CommandDefinition found = node == null ? null : node.getCommand();
+        int minLength = 1;
+        if (found != null) {
+            CommandTrie.Node last = trie.walk(input, ignoreCase);
+            if (last.getDepth() == input.length || !last.hasChildren()) {
+                select(context, found, node.getDepth());
+                return;
             }
-            String generatedLabel = labelBuilder.toString().trim();
-            List<CommandDefinition> possibleCommands = commands.stream().filter(cmd -> cmd.getLabels().stream().anyMatch(label -> {
-                        String[] expectedLabels = label.split(" ");
-                        String[] actualLabels = generatedLabel.split(" ");
-
-                        if (expectedLabels.length != actualLabels.length) {
-                            return false;
-                        }
-
-                        boolean matches = true;
-                        for (int index = 0; index < expectedLabels.length; index++) {
-                            if (!matches) {
-                                return false;
-                            }
-                            boolean ignoreCase = context.getSettings().isIgnoreCase();
-                            String expected = ignoreCase ? expectedLabels[index].toUpperCase() : expectedLabels[index];
-                            String actual = ignoreCase ? actualLabels[index].toUpperCase() : actualLabels[index];
+            // the walk stopped at a token that might be a misspelled or ambiguous part of a longer label
+            minLength = node.getDepth() + 1;
+        }
 
-                            for (int maxDistance = 0; maxDistance < context.getSettings().getMaxDistance(); maxDistance++) {
-                                if (maxDistance == 0) {
-                                    matches = expected.startsWith(actual);
-                                } else {
-                                    matches = calculateLevenshteinDistance(expected, actual) <= maxDistance;
-                                }
-                                if (matches) {
-                                    break;
-                                }
-                            }
+        // distance 0 is covered by the abbreviation matching of the trie
+        int maxDistance = context.getSettings().getMaxDistance() - 1;
+        Set<CommandDefinition> possibleCommands = new LinkedHashSet<>();
+        for (int length = input.length; length >= minLength; length--) {
+            possibleCommands.clear();
+            trie.collect(input, length, ignoreCase, possibleCommands);
+            String generatedLabel = String.join(" ", Arrays.copyOf(input, length));
 
-                            if (matches) {
-                                matchingLength.set(actualLabels.length);
-                            }
-                        }
-                        return matches;
-                    })
-            ).collect(Collectors.toList());
+            if (possibleCommands.isEmpty()) {
+                List<FuzzyLabelIndex.Match> matches = index.search(generatedLabel, maxDistance, ignoreCase);
+                for (FuzzyLabelIndex.Match match : matches) {
+                    if (match.getDistance() > matches.get(0).getDistance()) {
+                        break;
+                    }
+                    possibleCommands.addAll(match.getCommands());
+                }
+            }
 
             if (possibleCommands.size() == 1) {
-                command = possibleCommands.get(0);
-                success = true;
-                break;
+                select(context, possibleCommands.iterator().next(), length);
+                return;
             }
             if (possibleCommands.size() > 1) {
                 for (CommandDefinition possible : possibleCommands) {
                     if (possible.getLabels().contains(generatedLabel)) {
-                        command = possible;
-                        success = true;
-                        break;
+                        select(context, possible, length);
+                        return;
                     }
                 }
-                if (!success) {
-                    context.setPossibleCommands(possibleCommands);
-                    context.setCancelled(true);
-                    break;
-                }
+                context.setPossibleCommands(new ArrayList<>(possibleCommands));
+                found = null;
+                break;
             }
         }
-        context.setInput(Arrays.copyOfRange(input, matchingLength.get(), input.length));
-        context.setCommand(command);
-        return success;
-    }
 
-    private int calculateLevenshteinDistance(String first, String second) {
-        int[][] dp = new int[first.length() + 1][second.length() + 1];
-        for (int i = 0; i <= first.length(); i++) {
-            for (int j = 0; j <= second.length(); j++) {
-                if (i == 0) {
-                    dp[i][j] = j;
-                } else if (j == 0) {
-                    dp[i][j] = i;
-                } else {
-                    dp[i][j] = min(
-                            dp[i - 1][j - 1] + costOfSubstitution(first.charAt(i - 1), second.charAt(j - 1)),
-                            dp[i - 1][j] + 1,
-                            dp[i][j - 1] + 1
-                    );
-                }
-            }
+        if (found != null) {
+            select(context, found, node.getDepth());
+            return;
         }
-        return dp[first.length()][second.length()];
-    }
-
-    private int costOfSubstitution(char a, char b) {
-        return a == b ? 0 : 1;
+        context.setErrorMessage(context.getImplementationRegistry()
+                .getErrorMessageFactory()
+                .getCommandNotFoundMessage(context)
+        );
+        context.setCancelled(true);
     }
 
-    private int min(int... numbers) {
-        return Arrays.stream(numbers).min().orElse(Integer.MAX_VALUE);
+    private void select(CommandContext context, CommandDefinition command, int consumedTokens) {
+        String[] input = context.getInput();
+        context.setInput(Arrays.copyOfRange(input, consumedTokens, input.length));
+        context.setCommand(command);
     }
 }
@@ -18,10 +18,11 @@ import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 
 /**
- * This class loads and caches embeds from a json file.
+ * This class loads and caches embeds from a json file. Each embed also gets compiled to an {@link EmbedTemplate}
+ * when it is loaded.
  *
  * @author Kaktushose
- * @version 2.0.0
+ * @version 2.3.0
  * @since 1.1.0
  */
 public class EmbedCache {
@@ -31,6 +32,7 @@ public class EmbedCache {
     private final File file;
     private final InputStream stream;
     private Map<String, EmbedDTO> embedMap;
+    private Map<String, EmbedTemplate> templateMap;
 
     /**
      * Constructs a new EmbedCache object.
@@ -39,6 +41,7 @@ public class EmbedCache {
      */
     public EmbedCache(File file) {
         embedMap = new ConcurrentHashMap<>();
+        templateMap = new ConcurrentHashMap<>();
         this.file = file;
         this.stream = null;
         loadEmbeds();
@@ -51,6 +54,7 @@ public class EmbedCache {
      */
     public EmbedCache(InputStream stream) {
         embedMap = new ConcurrentHashMap<>();
+        templateMap = new ConcurrentHashMap<>();
         this.stream = stream;
         this.file = null;
         loadEmbeds();
@@ -63,6 +67,7 @@ public class EmbedCache {
      */
     public EmbedCache(String file) {
         embedMap = new ConcurrentHashMap<>();
+        templateMap = new ConcurrentHashMap<>();
         this.file = new File(file);
         this.stream = null;
         loadEmbeds();
@@ -97,7 +102,14 @@ public class EmbedCache {
             JsonReader jsonReader = new JsonReader(reader);
             Type type = new TypeToken<Map<String, EmbedDTO>>() {
             }.getType();
-            embedMap = gson.fromJson(jsonReader, type);
+            Map<String, EmbedDTO> embeds = gson.fromJson(jsonReader, type);
+            if (embeds == null) {
+                embeds = new ConcurrentHashMap<>();
+            }
+            Map<String, EmbedTemplate> templates = new ConcurrentHashMap<>();
+            embeds.forEach((name, embed) -> templates.put(name, new EmbedTemplate(embed)));
+            embedMap = embeds;
+            templateMap = templates;
         } catch (FileNotFoundException | JsonIOException | JsonSyntaxException e) {
             log.error("An error has occurred while loading the file!", e);
         }
@@ -113,6 +125,18 @@ public class EmbedCache {
         return new EmbedDTO(embedMap.get(name));
     }
 
+    /**
+     * Gets the compiled {@link EmbedTemplate} of an embed. Prefer this over {@link #getEmbed(String)} if you want to
+     * inject values, since rendering a template is considerably faster than
+     * {@link EmbedDTO#injectValue(String, Object)}.
+     *
+     * @param name the name the {@link EmbedDTO} is mapped to
+     * @return the {@link EmbedTemplate} or {@code null} if the cache contains no mapping for the key
+     */
+    public EmbedTemplate getTemplate(@Nonnull String name) {
+        return templateMap.get(name);
+    }
+
     /**
      * Returns {@code true} if this cache contains no {@link EmbedDTO}s.
      *
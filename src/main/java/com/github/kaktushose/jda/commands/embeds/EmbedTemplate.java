@@ -0,0 +1,182 @@
+package com.github.kaktushose.jda.commands.embeds;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Precompiled form of an {@link EmbedDTO}. Every text of the embed is split into literal segments and
+ * {@code {placeholder}} slots once, thus rendering the embed only needs a single pass over each text and doesn't
+ * compile any regular expressions. {@link EmbedCache} compiles a template for each embed it loads.
+ *
+ * <p>Placeholders without a value are kept as they are. Unlike {@link EmbedDTO#injectValue(String, Object)}, values
+ * are inserted literally, i.e. a value that contains a {@code {placeholder}} itself doesn't get injected again.
+ *
+ * @author Kaktushose
+ * @version 2.3.0
+ * @see EmbedCache#getTemplate(String)
+ * @since 2.3.0
+ */
+public class EmbedTemplate {
+
+    private final Text title;
+    private final Text description;
+    private final Text url;
+    private final Text color;
+    private final Text timestamp;
+    private final Text[] footer;
+    private final Text[] thumbnail;
+    private final Text[] image;
+    private final Text[] author;
+    private final Text[][] fields;
+    private final boolean[] inline;
+
+    /**
+     * Constructs a new EmbedTemplate by compiling the given {@link EmbedDTO}.
+     *
+     * @param embed the {@link EmbedDTO} to compile
+     */
+    public EmbedTemplate(@NotNull EmbedDTO embed) {
+        title = Text.compile(embed.getTitle());
+        description = Text.compile(embed.getDescription());
+        url = Text.compile(embed.getUrl());
+        color = Text.compile(embed.getColor());
+        timestamp = Text.compile(embed.getTimestamp());
+        EmbedDTO.Footer footer = embed.getFooter();
+        this.footer = footer == null ? null : Text.compile(footer.getIconUrl(), footer.getText());
+        EmbedDTO.Thumbnail thumbnail = embed.getThumbnail();
+        this.thumbnail = thumbnail == null ? null : new Text[]{Text.compile(thumbnail.getUrl())};
+        EmbedDTO.Image image = embed.getImage();
+        this.image = image == null ? null : new Text[]{Text.compile(image.getUrl())};
+        EmbedDTO.Author author = embed.getAuthor();
+        this.author = author == null ? null : Text.compile(author.getName(), author.getUrl(), author.getIconUrl());
+        EmbedDTO.Field[] fields = embed.getFields();
+        if (fields == null) {
+            this.fields = null;
+            inline = null;
+        } else {
+            this.fields = new Text[fields.length][];
+            inline = new boolean[fields.length];
+            for (int i = 0; i < fields.length; i++) {
+                this.fields[i] = Text.compile(fields[i].getName(), fields[i].getValue());
+                inline[i] = fields[i].isInline();
+            }
+        }
+    }
+
+    /**
+     * Renders this template to a new {@link EmbedDTO} without injecting any values.
+     *
+     * @return the rendered {@link EmbedDTO}
+     */
+    public EmbedDTO render() {
+        return render(Collections.emptyMap());
+    }
+
+    /**
+     * Renders this template to a new {@link EmbedDTO} and injects the {@code {placeholders}} with the given values.
+     *
+     * @param values a Map with all values to inject. Key: name of the placeholder. Value: the value to inject
+     * @return the rendered {@link EmbedDTO}
+     */
+    public EmbedDTO render(@NotNull Map<String, ?> values) {
+        EmbedDTO.Field[] renderedFields = null;
+        if (fields != null) {
+            renderedFields = new EmbedDTO.Field[fields.length];
+            for (int i = 0; i < fields.length; i++) {
+                renderedFields[i] = new EmbedDTO.Field(
+                        Text.render(fields[i][0], values), Text.render(fields[i][1], values), inline[i]
+                );
+            }
+        }
+        return new EmbedDTO(
+                Text.render(title, values),
+                Text.render(description, values),
+                Text.render(url, values),
+                Text.render(color, values),
+                Text.render(timestamp, values),
+                footer == null ? null : new EmbedDTO.Footer(
+                        Text.render(footer[0], values), Text.render(footer[1], values)
+                ),
+                thumbnail == null ? null : new EmbedDTO.Thumbnail(Text.render(thumbnail[0], values)),
+                image == null ? null : new EmbedDTO.Image(Text.render(image[0], values)),
+                author == null ? null : new EmbedDTO.Author(
+                        Text.render(author[0], values), Text.render(author[1], values), Text.render(author[2], values)
+                ),
+                renderedFields
+        );
+    }
+
+    private static class Text {
+
+        // literals has one element more than placeholders, the text starts and ends with a literal
+        private final String[] literals;
+        private final String[] placeholders;
+        private final int length;
+
+        private Text(String[] literals, String[] placeholders) {
+            this.literals = literals;
+            this.placeholders = placeholders;
+            int length = 0;
+            for (String literal : literals) {
+                length += literal.length();
+            }
+            this.length = length;
+        }
+
+        private static Text[] compile(String... texts) {
+            Text[] compiled = new Text[texts.length];
+            for (int i = 0; i < texts.length; i++) {
+                compiled[i] = compile(texts[i]);
+            }
+            return compiled;
+        }
+
+        private static Text compile(String text) {
+            if (text == null) {
+                return null;
+            }
+            List<String> literals = new ArrayList<>();
+            List<String> placeholders = new ArrayList<>();
+            int start = 0;
+            int open = text.indexOf('{');
+            while (open >= 0) {
+                int close = text.indexOf('}', open + 1);
+                if (close < 0) {
+                    break;
+                }
+                // for input like "{{name}" the last opening brace starts the placeholder
+                int nested = text.lastIndexOf('{', close);
+                literals.add(text.substring(start, nested));
+                placeholders.add(text.substring(nested + 1, close));
+                start = close + 1;
+                open = text.indexOf('{', start);
+            }
+            literals.add(text.substring(start));
+            return new Text(literals.toArray(new String[0]), placeholders.toArray(new String[0]));
+        }
+
+        private static String render(Text text, Map<String, ?> values) {
+            if (text == null) {
+                return null;
+            }
+            if (text.placeholders.length == 0) {
+                return text.literals[0];
+            }
+            StringBuilder builder = new StringBuilder(text.length + 16 * text.placeholders.length);
+            for (int i = 0; i < text.placeholders.length; i++) {
+                builder.append(text.literals[i]);
+                String placeholder = text.placeholders[i];
+                if (values.containsKey(placeholder)) {
+                    builder.append(values.get(placeholder));
+                } else {
+                    builder.append('{').append(placeholder).append('}');
+                }
+            }
+            return builder.append(text.literals[text.placeholders.length]).toString();
+        }
+    }
+}
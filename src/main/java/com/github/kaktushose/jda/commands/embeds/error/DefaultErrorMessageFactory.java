@@ -186,4 +186,14 @@ public class DefaultErrorMessageFactory implements ErrorMessageFactory {
                 .build()
         ).build();
     }
+
+    @Override
+    public MessageCreateData getExecutionRejectedMessage(@NotNull CommandContext context) {
+        return new MessageCreateBuilder().setEmbeds(new EmbedBuilder()
+                .setColor(Color.ORANGE)
+                .setTitle("Busy")
+                .setDescription("Too many commands are being executed right now. Please try again later!")
+                .build()
+        ).build();
+    }
 }
@@ -109,4 +109,16 @@ public interface ErrorMessageFactory {
      * @return a {@link Message} to send when a text command gets invoked
      */
     MessageCreateData getSlashCommandMigrationMessage(@NotNull CommandContext context);
+
+    /**
+     * Gets a {@link Message} to send when a command cannot be executed because the
+     * {@link com.github.kaktushose.jda.commands.dispatching.DispatchExecutor DispatchExecutor} is saturated or shutting
+     * down. Uses the message of the {@link DefaultErrorMessageFactory} by default.
+     *
+     * @param context the corresponding {@link CommandContext}
+     * @return a {@link Message} to send when a command execution gets rejected
+     */
+    default MessageCreateData getExecutionRejectedMessage(@NotNull CommandContext context) {
+        return new DefaultErrorMessageFactory().getExecutionRejectedMessage(context);
+    }
 }
@@ -2,7 +2,6 @@ package com.github.kaktushose.jda.commands.embeds.error;
 
 import com.github.kaktushose.jda.commands.dispatching.CommandContext;
 import com.github.kaktushose.jda.commands.embeds.EmbedCache;
-import com.github.kaktushose.jda.commands.embeds.EmbedDTO;
 import com.github.kaktushose.jda.commands.reflect.CommandDefinition;
 import com.github.kaktushose.jda.commands.reflect.ConstraintDefinition;
 import com.github.kaktushose.jda.commands.settings.GuildSettings;
@@ -14,13 +13,16 @@ import net.dv8tion.jda.api.utils.messages.MessageCreateData;
 import org.jetbrains.annotations.NotNull;
 
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.concurrent.TimeUnit;
-import java.util.regex.Matcher;
 
 /**
- * Subtype of {@link DefaultErrorMessageFactory} that can load the embeds from an {@link EmbedCache}.
+ * Subtype of {@link DefaultErrorMessageFactory} that can load the embeds from an {@link EmbedCache}. The embeds are
+ * rendered from their precompiled {@link com.github.kaktushose.jda.commands.embeds.EmbedTemplate EmbedTemplates}.
  *
  * @author Kaktushose
  * @version 2.3.0
@@ -44,13 +46,13 @@ public class JsonErrorMessageFactory extends DefaultErrorMessageFactory {
 
         GuildSettings settings = context.getSettings();
 
-        EmbedDTO embedDTO = embedCache.getEmbed("commandNotFound")
-                .injectValue("prefix", settings.getPrefix())
-                .injectValue("helpLabel", settings.getHelpLabels().stream().findFirst().orElse("help"));
+        Map<String, Object> values = new HashMap<>();
+        values.put("prefix", settings.getPrefix());
+        values.put("helpLabel", settings.getHelpLabels().stream().findFirst().orElse("help"));
         MessageEmbed embed;
 
         if (context.getPossibleCommands().isEmpty()) {
-            EmbedBuilder builder = embedDTO.toEmbedBuilder();
+            EmbedBuilder builder = embedCache.getTemplate("commandNotFound").render(values).toEmbedBuilder();
             builder.getFields().removeIf(field -> "{commands}".equals(field.getValue()));
             embed = builder.build();
         } else {
@@ -58,8 +60,8 @@ public class JsonErrorMessageFactory extends DefaultErrorMessageFactory {
             context.getPossibleCommands().forEach(command ->
                     sbPossible.append(String.format("`%s`", command.getLabels().get(0))).append(", ")
             );
-            embedDTO.injectValue("commands", sbPossible.substring(0, sbPossible.length() - 2));
-            embed = embedDTO.toMessageEmbed();
+            values.put("commands", sbPossible.substring(0, sbPossible.length() - 2));
+            embed = embedCache.getTemplate("commandNotFound").render(values).toMessageEmbed();
         }
 
         return new MessageCreateBuilder().setEmbeds(embed).build();
@@ -77,11 +79,11 @@ public class JsonErrorMessageFactory extends DefaultErrorMessageFactory {
         command.getPermissions().forEach(permission -> sbPermissions.append(permission).append(", "));
         String permissions = sbPermissions.toString().isEmpty() ? "N/A" : sbPermissions.substring(0, sbPermissions.length() - 2);
 
-        return embedCache.getEmbed("insufficientPermissions")
-                .injectValue("prefix", settings.getPrefix())
-                .injectValue("label", command.getLabels().get(0))
-                .injectValue("permissions", permissions)
-                .toMessage();
+        Map<String, Object> values = new HashMap<>();
+        values.put("prefix", settings.getPrefix());
+        values.put("label", command.getLabels().get(0));
+        values.put("permissions", permissions);
+        return embedCache.getTemplate("insufficientPermissions").render(values).toMessage();
     }
 
     @Override
@@ -89,7 +91,7 @@ public class JsonErrorMessageFactory extends DefaultErrorMessageFactory {
         if (!embedCache.containsEmbed("guildMuted")) {
             return super.getGuildMutedMessage(context);
         }
-        return embedCache.getEmbed("guildMuted").toMessage();
+        return embedCache.getTemplate("guildMuted").render().toMessage();
     }
 
     @Override
@@ -97,7 +99,7 @@ public class JsonErrorMessageFactory extends DefaultErrorMessageFactory {
         if (!embedCache.containsEmbed("channelMuted")) {
             return super.getChannelMutedMessage(context);
         }
-        return embedCache.getEmbed("channelMuted").toMessage();
+        return embedCache.getTemplate("channelMuted").render().toMessage();
     }
 
     @Override
@@ -105,7 +107,7 @@ public class JsonErrorMessageFactory extends DefaultErrorMessageFactory {
         if (!embedCache.containsEmbed("userMuted")) {
             return super.getUserMutedMessage(context);
         }
-        return embedCache.getEmbed("userMuted").toMessage();
+        return embedCache.getTemplate("userMuted").render().toMessage();
     }
 
 
@@ -132,13 +134,11 @@ public class JsonErrorMessageFactory extends DefaultErrorMessageFactory {
         arguments.forEach(argument -> sbActual.append(argument).append(", "));
         String actual = sbActual.toString().isEmpty() ? " " : sbActual.substring(0, sbActual.length() - 2);
 
-        return embedCache.getEmbed("syntaxError")
-                .injectValue("usage", command.getMetadata().getUsage().replaceAll("\\{prefix}",
-                        Matcher.quoteReplacement(context.getSettings().getPrefix()))
-                )
-                .injectValue("expected", expected)
-                .injectValue("actual", actual)
-                .toMessage();
+        Map<String, Object> values = new HashMap<>();
+        values.put("usage", command.getMetadata().getUsage().replace("{prefix}", context.getSettings().getPrefix()));
+        values.put("expected", expected);
+        values.put("actual", actual);
+        return embedCache.getTemplate("syntaxError").render(values).toMessage();
     }
 
     @Override
@@ -146,8 +146,8 @@ public class JsonErrorMessageFactory extends DefaultErrorMessageFactory {
         if (!embedCache.containsEmbed("constraintFailed")) {
             return super.getConstraintFailedMessage(context, constraint);
         }
-        return embedCache.getEmbed("constraintFailed")
-                .injectValue("message", constraint.getMessage())
+        return embedCache.getTemplate("constraintFailed")
+                .render(Collections.singletonMap("message", constraint.getMessage()))
                 .toMessage();
     }
 
@@ -162,8 +162,8 @@ public class JsonErrorMessageFactory extends DefaultErrorMessageFactory {
         long h = (seconds / (60 * 60)) % 24;
         String cooldown = String.format("%d:%02d:%02d", h, m, s);
 
-        return embedCache.getEmbed("cooldown")
-                .injectValue("cooldown", cooldown)
+        return embedCache.getTemplate("cooldown")
+                .render(Collections.singletonMap("cooldown", cooldown))
                 .toMessage();
     }
 
@@ -172,7 +172,7 @@ public class JsonErrorMessageFactory extends DefaultErrorMessageFactory {
         if (!embedCache.containsEmbed("wrongChannel")) {
             return super.getInsufficientPermissionsMessage(context);
         }
-        return embedCache.getEmbed("wrongChannel").toMessage();
+        return embedCache.getTemplate("wrongChannel").render().toMessage();
     }
 
     @Override
@@ -180,8 +180,8 @@ public class JsonErrorMessageFactory extends DefaultErrorMessageFactory {
         if (!embedCache.containsEmbed("executionFailed")) {
             return super.getCommandExecutionFailedMessage(context, exception);
         }
-        return embedCache.getEmbed("executionFailed")
-                .injectValue("exception", exception.toString())
+        return embedCache.getTemplate("executionFailed")
+                .render(Collections.singletonMap("exception", exception.toString()))
                 .toMessage();
     }
 
@@ -190,6 +190,14 @@ public class JsonErrorMessageFactory extends DefaultErrorMessageFactory {
         if (!embedCache.containsEmbed("migration")) {
             return super.getInsufficientPermissionsMessage(context);
         }
-        return embedCache.getEmbed("migration").toMessage();
+        return embedCache.getTemplate("migration").render().toMessage();
+    }
+
+    @Override
+    public MessageCreateData getExecutionRejectedMessage(@NotNull CommandContext context) {
+        if (!embedCache.containsEmbed("executionRejected")) {
+            return super.getExecutionRejectedMessage(context);
+        }
+        return embedCache.getTemplate("executionRejected").render().toMessage();
     }
 }
@@ -16,13 +16,14 @@ import java.awt.*;
 import java.util.List;
 import java.util.Set;
 import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 
 /**
  * Implementation of {@link HelpMessageFactory} with default embeds.
  *
  * @author Kaktushose
- * @version 2.0.0
+ * @version 2.3.0
  * @see JsonHelpMessageFactory
  * @since 2.0.0
  */
@@ -32,10 +33,11 @@ public class DefaultHelpMessageFactory implements HelpMessageFactory {
      * The pattern that is used to insert prefixes. The default value is {@code {prefix}}.
      */
     protected String prefixPattern = "\\{prefix}";
+    private volatile Pattern compiledPrefixPattern;
 
     @Override
     public MessageCreateData getSpecificHelp(@NotNull CommandContext context) {
-        String prefix = Matcher.quoteReplacement(context.getContextualPrefix());
+        String prefix = context.getContextualPrefix();
         EmbedBuilder builder = new EmbedBuilder();
         CommandDefinition command = context.getCommand();
         CommandMetadata metadata = command.getMetadata();
@@ -52,12 +54,12 @@ public class DefaultHelpMessageFactory implements HelpMessageFactory {
         builder.setColor(Color.GREEN)
                 .setTitle("Specific Help")
                 .setDescription(String.format("Command Details for `%s%s`", prefix, command.getLabels().get(0)))
-                .addField("Name:", String.format("`%s`", metadata.getName().replaceAll(prefixPattern, prefix)), false)
-                .addField("Usage:", String.format("`%s`", metadata.getUsage().replaceAll(prefixPattern, prefix)), false)
+                .addField("Name:", String.format("`%s`", insertPrefix(metadata.getName(), prefix)), false)
+                .addField("Usage:", String.format("`%s`", insertPrefix(metadata.getUsage(), prefix)), false)
                 .addField("Aliases", String.format("`%s`", aliases), false)
-                .addField("Description:", String.format("`%s`", metadata.getDescription().replaceAll(prefixPattern, prefix)), false)
+                .addField("Description:", String.format("`%s`", insertPrefix(metadata.getDescription(), prefix)), false)
                 .addField("Permissions:", String.format("`%s`", permissions), false)
-                .addField("Category:", String.format("`%s`", metadata.getCategory().replaceAll(prefixPattern, prefix)), false);
+                .addField("Category:", String.format("`%s`", insertPrefix(metadata.getCategory(), prefix)), false);
 
         StringBuilder sbCommands = new StringBuilder();
         String name;
@@ -82,7 +84,7 @@ public class DefaultHelpMessageFactory implements HelpMessageFactory {
         EmbedBuilder builder = new EmbedBuilder();
         CommandList superCommands = new CommandList();
         controllers.forEach(definition -> superCommands.addAll(definition.getSuperCommands()));
-        String prefix = Matcher.quoteReplacement(context.getContextualPrefix());
+        String prefix = context.getContextualPrefix();
 
         builder.setColor(Color.GREEN)
                 .setTitle("General Help")
@@ -98,4 +100,21 @@ public class DefaultHelpMessageFactory implements HelpMessageFactory {
 
         return new MessageCreateBuilder().setEmbeds(builder.build()).build();
     }
+
+    /**
+     * Replaces each match of the {@link #prefixPattern} with the given prefix. The pattern is compiled once and only
+     * compiled again if the {@link #prefixPattern} has been changed.
+     *
+     * @param text   the text to insert the prefix into
+     * @param prefix the prefix to insert
+     * @return the text with the prefix inserted
+     */
+    protected String insertPrefix(@NotNull String text, @NotNull String prefix) {
+        Pattern pattern = compiledPrefixPattern;
+        if (pattern == null || !pattern.pattern().equals(prefixPattern)) {
+            pattern = Pattern.compile(prefixPattern);
+            compiledPrefixPattern = pattern;
+        }
+        return pattern.matcher(text).replaceAll(Matcher.quoteReplacement(prefix));
+    }
 }
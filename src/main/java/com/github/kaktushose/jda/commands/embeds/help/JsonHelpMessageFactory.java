@@ -13,16 +13,18 @@ import net.dv8tion.jda.api.utils.messages.MessageCreateBuilder;
 import net.dv8tion.jda.api.utils.messages.MessageCreateData;
 import org.jetbrains.annotations.NotNull;
 
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
-import java.util.regex.Matcher;
 import java.util.stream.Collectors;
 
 /**
- * Subtype of {@link DefaultHelpMessageFactory} that can load the embeds from an {@link EmbedCache}.
+ * Subtype of {@link DefaultHelpMessageFactory} that can load the embeds from an {@link EmbedCache}. The embeds are
+ * rendered from their precompiled {@link com.github.kaktushose.jda.commands.embeds.EmbedTemplate EmbedTemplates}.
  *
  * @author Kaktushose
- * @version 2.0.0
+ * @version 2.3.0
  * @see DefaultHelpMessageFactory
  * @see EmbedCache
  * @since 2.0.0
@@ -41,7 +43,7 @@ public class JsonHelpMessageFactory extends DefaultHelpMessageFactory {
             return super.getSpecificHelp(context);
         }
 
-        String prefix = Matcher.quoteReplacement(context.getContextualPrefix());
+        String prefix = context.getContextualPrefix();
         CommandDefinition command = context.getCommand();
         CommandMetadata metadata = command.getMetadata();
 
@@ -54,16 +56,16 @@ public class JsonHelpMessageFactory extends DefaultHelpMessageFactory {
         command.getPermissions().forEach(perm -> sbPermissions.append(perm).append(", "));
         String permissions = sbPermissions.toString().isEmpty() ? "N/A" : sbPermissions.substring(0, sbPermissions.length() - 2);
 
-        EmbedBuilder builder = embedCache.getEmbed("specificHelp")
-                .injectValue("prefix", prefix)
-                .injectValue("label", command.getLabels().get(0))
-                .injectValue("name", metadata.getName().replaceAll(prefixPattern, prefix))
-                .injectValue("usage", metadata.getUsage().replaceAll(prefixPattern, prefix))
-                .injectValue("aliases", aliases)
-                .injectValue("description", metadata.getDescription().replaceAll(prefixPattern, prefix))
-                .injectValue("permissions", permissions)
-                .injectValue("category", metadata.getCategory().replaceAll(prefixPattern, prefix))
-                .toEmbedBuilder();
+        Map<String, Object> values = new HashMap<>();
+        values.put("prefix", prefix);
+        values.put("label", command.getLabels().get(0));
+        values.put("name", insertPrefix(metadata.getName(), prefix));
+        values.put("usage", insertPrefix(metadata.getUsage(), prefix));
+        values.put("aliases", aliases);
+        values.put("description", insertPrefix(metadata.getDescription(), prefix));
+        values.put("permissions", permissions);
+        values.put("category", insertPrefix(metadata.getCategory(), prefix));
+        EmbedBuilder builder = embedCache.getTemplate("specificHelp").render(values).toEmbedBuilder();
 
         StringBuilder sbCommands = new StringBuilder();
         String name;
@@ -88,15 +90,14 @@ public class JsonHelpMessageFactory extends DefaultHelpMessageFactory {
             return super.getGenericHelp(controllers, context);
         }
 
-        String prefix = Matcher.quoteReplacement(context.getContextualPrefix());
         GuildSettings settings = context.getSettings();
         CommandList superCommands = new CommandList();
         controllers.forEach(definition -> superCommands.addAll(definition.getSuperCommands()));
 
-        EmbedBuilder builder = embedCache.getEmbed("genericHelp")
-                .injectValue("prefix", prefix)
-                .injectValue("helpLabel", settings.getHelpLabels().stream().findFirst().orElse("help"))
-                .toEmbedBuilder();
+        Map<String, Object> values = new HashMap<>();
+        values.put("prefix", context.getContextualPrefix());
+        values.put("helpLabel", settings.getHelpLabels().stream().findFirst().orElse("help"));
+        EmbedBuilder builder = embedCache.getTemplate("genericHelp").render(values).toEmbedBuilder();
 
         superCommands.getSortedByCategories().forEach((category, commands) -> {
             StringBuilder sb = new StringBuilder();
@@ -15,13 +15,15 @@ import org.slf4j.LoggerFactory;
 
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Map;
 import java.util.Optional;
 import java.util.stream.Collectors;
 
 /**
  * Class that sends the {@link SlashCommandData} to Discord. Uses a {@link CommandTree} to properly transpile all
  * {@link CommandDefinition CommandDefinitions} to {@link SlashCommandData}. Also registers the
- * {@link HelpAutoCompleteListener}.
+ * {@link HelpAutoCompleteListener} and keeps an index of the full command names of the registered commands, which
+ * is used to dispatch slash commands without routing them.
  *
  * @author Kaktushose
  * @version 2.3.0
@@ -36,6 +38,7 @@ public class SlashCommandUpdater {
     private final JDA jda;
     private final SlashConfiguration configuration;
     private final HelpAutoCompleteListener autoCompleteListener;
+    private volatile Map<String, CommandDefinition> commandMap;
 
     /**
      * Constructs a new SlashCommandUpdater.
@@ -47,6 +50,7 @@ public class SlashCommandUpdater {
         this.jdaContext = jdaContext;
         this.configuration = configuration;
         autoCompleteListener = new HelpAutoCompleteListener();
+        commandMap = Collections.emptyMap();
         jdaContext.performTask(jda -> jda.addEventListener(autoCompleteListener));
         jda = jdaContext.getJda();
     }
@@ -61,6 +65,7 @@ public class SlashCommandUpdater {
         log.debug("Updating slash commands with {} scope...", configuration.isGlobal() ? "global" : "guild");
         if (configuration.getPolicy() == CommandRegistrationPolicy.TEXT) {
             log.info("CommandRegistrationPolicy is set to TEXT. Unregistering all slash commands!");
+            commandMap = Collections.emptyMap();
             push(Collections.emptyList());
             log.debug("Done!");
             return;
@@ -70,6 +75,7 @@ public class SlashCommandUpdater {
         Collection<String> labels = tree.getNames();
         log.debug("Using commands: " + labels);
         Collection<SlashCommandData> commandData = tree.getCommands();
+        commandMap = tree.getCommandMap();
         if (configuration.isHelpEnabled() && !commandData.isEmpty()) {
             addHelpCommands(commandData, labels);
         }
@@ -101,6 +107,16 @@ public class SlashCommandUpdater {
         }
     }
 
+    /**
+     * Gets the {@link CommandDefinition} of a registered slash command.
+     *
+     * @param fullCommandName the full command name as sent by Discord, e.g. {@code moderation ban}
+     * @return an {@link Optional} holding the {@link CommandDefinition}
+     */
+    public Optional<CommandDefinition> getCommand(String fullCommandName) {
+        return Optional.ofNullable(commandMap.get(fullCommandName));
+    }
+
     /**
      * Shutdowns the {@link HelpAutoCompleteListener}. This will <b>not</b> unregister any slash commands.
      */
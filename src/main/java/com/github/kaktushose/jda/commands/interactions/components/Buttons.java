@@ -28,10 +28,36 @@ public class Buttons implements Component {
         return build(false, buttons);
     }
 
+    /**
+     * Adds an enabled button carrying a payload. The payload gets appended to the custom id of the button and can be
+     * retrieved via {@link com.github.kaktushose.jda.commands.dispatching.ButtonEvent#getPayload() ButtonEvent#getPayload()}
+     * once the button is clicked. This allows attaching state to a button without storing it.
+     *
+     * @param button  the id of the button
+     * @param payload the payload to attach
+     * @return a new Buttons instance
+     */
+    public static Buttons withPayload(String button, String payload) {
+        return withPayload(button, payload, true);
+    }
+
+    /**
+     * Adds a button carrying a payload.
+     *
+     * @param button  the id of the button
+     * @param payload the payload to attach
+     * @param enabled whether the button should be enabled
+     * @return a new Buttons instance
+     * @see #withPayload(String, String)
+     */
+    public static Buttons withPayload(String button, String payload, boolean enabled) {
+        return new Buttons(Collections.singletonList(new ButtonContainer(button, enabled, payload)));
+    }
+
     private static Buttons build(boolean enabled, String... buttons) {
         List<ButtonContainer> result = new ArrayList<>();
         for (String button : buttons) {
-            result.add(new ButtonContainer(button, enabled));
+            result.add(new ButtonContainer(button, enabled, null));
         }
         return new Buttons(result);
     }
@@ -46,10 +72,12 @@ public class Buttons implements Component {
     public static class ButtonContainer {
         private final String id;
         private final boolean enabled;
+        private final String payload;
 
-        private ButtonContainer(String name, boolean enabled) {
+        private ButtonContainer(String name, boolean enabled, String payload) {
             this.id = name;
             this.enabled = enabled;
+            this.payload = payload;
         }
 
         /**
@@ -69,5 +97,14 @@ public class Buttons implements Component {
         public boolean isEnabled() {
             return enabled;
         }
+
+        /**
+         * Gets the payload attached to the button.
+         *
+         * @return the payload or {@code null} if no payload is attached
+         */
+        public String getPayload() {
+            return payload;
+        }
     }
 }
@@ -0,0 +1,203 @@
+package com.github.kaktushose.jda.commands.metrics;
+
+import com.github.kaktushose.jda.commands.dispatching.CommandContext;
+import com.github.kaktushose.jda.commands.dispatching.filter.Filter;
+import com.github.kaktushose.jda.commands.dispatching.filter.FilterRegistry.FilterPosition;
+import com.github.kaktushose.jda.commands.reflect.CommandDefinition;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Implementation of {@link MetricsCollector} that keeps all metrics in memory using {@link LatencyHistogram
+ * LatencyHistograms}. Latencies are tracked per {@link MetricsCollector.Phase Phase}, per command and phase and per
+ * filter and position. Additionally, cancellations are counted per reason and errors per exception type.
+ *
+ * <p>Register it via {@link com.github.kaktushose.jda.commands.reflect.ImplementationRegistry#setMetricsCollector(MetricsCollector)
+ * ImplementationRegistry#setMetricsCollector(MetricsCollector)} and read it via
+ * {@link com.github.kaktushose.jda.commands.JDACommands#getMetricsCollector() JDACommands#getMetricsCollector()}.
+ *
+ * @author Kaktushose
+ * @version 2.3.0
+ * @see LatencyHistogram
+ * @since 2.3.0
+ */
+public class InMemoryMetricsCollector implements MetricsCollector {
+
+    private static final Phase[] PHASES = Phase.values();
+    private final LatencyHistogram[] phases;
+    private final Map<CommandDefinition, LatencyHistogram[]> commands;
+    private final Map<FilterPosition, Map<Filter, LatencyHistogram>> filters;
+    private final Map<String, LongAdder> cancellations;
+    private final Map<Class<?>, LongAdder> errors;
+    private volatile long startTime;
+
+    /**
+     * Constructs a new InMemoryMetricsCollector.
+     */
+    public InMemoryMetricsCollector() {
+        phases = new LatencyHistogram[PHASES.length];
+        for (int i = 0; i < phases.length; i++) {
+            phases[i] = new LatencyHistogram();
+        }
+        commands = new ConcurrentHashMap<>();
+        filters = new EnumMap<>(FilterPosition.class);
+        for (FilterPosition position : FilterPosition.values()) {
+            filters.put(position, new ConcurrentHashMap<>());
+        }
+        cancellations = new ConcurrentHashMap<>();
+        errors = new ConcurrentHashMap<>();
+        startTime = System.nanoTime();
+    }
+
+    @Override
+    public void recordPhase(@NotNull Phase phase, @Nullable CommandDefinition command, long nanos) {
+        phases[phase.ordinal()].record(nanos);
+        if (command == null) {
+            return;
+        }
+        LatencyHistogram[] histograms = commands.get(command);
+        if (histograms == null) {
+            histograms = commands.computeIfAbsent(command, key -> {
+                LatencyHistogram[] result = new LatencyHistogram[PHASES.length];
+                for (int i = 0; i < result.length; i++) {
+                    result[i] = new LatencyHistogram();
+                }
+                return result;
+            });
+        }
+        histograms[phase.ordinal()].record(nanos);
+    }
+
+    @Override
+    public void recordFilter(@NotNull Filter filter, @NotNull FilterPosition position, long nanos) {
+        Map<Filter, LatencyHistogram> histograms = filters.get(position);
+        LatencyHistogram histogram = histograms.get(filter);
+        if (histogram == null) {
+            histogram = histograms.computeIfAbsent(filter, key -> new LatencyHistogram());
+        }
+        histogram.record(nanos);
+    }
+
+    @Override
+    public void recordCancellation(@NotNull CommandContext context, @NotNull String reason) {
+        cancellations.computeIfAbsent(reason, key -> new LongAdder()).increment();
+    }
+
+    @Override
+    public void recordError(@Nullable CommandDefinition command, @NotNull Throwable throwable) {
+        errors.computeIfAbsent(throwable.getClass(), key -> new LongAdder()).increment();
+    }
+
+    /**
+     * Gets the {@link LatencyHistogram} of a {@link MetricsCollector.Phase Phase} across all commands.
+     *
+     * @param phase the {@link MetricsCollector.Phase Phase}
+     * @return the {@link LatencyHistogram}
+     */
+    @NotNull
+    public LatencyHistogram getPhaseLatency(@NotNull Phase phase) {
+        return phases[phase.ordinal()];
+    }
+
+    /**
+     * Gets the {@link LatencyHistogram} of a {@link MetricsCollector.Phase Phase} of a single command.
+     *
+     * @param command the {@link CommandDefinition}
+     * @param phase   the {@link MetricsCollector.Phase Phase}
+     * @return an {@link Optional} holding the {@link LatencyHistogram}
+     */
+    @NotNull
+    public Optional<LatencyHistogram> getCommandLatency(@NotNull CommandDefinition command, @NotNull Phase phase) {
+        LatencyHistogram[] histograms = commands.get(command);
+        return Optional.ofNullable(histograms == null ? null : histograms[phase.ordinal()]);
+    }
+
+    /**
+     * Gets the {@link LatencyHistogram LatencyHistograms} of all filters of a {@link FilterPosition}.
+     *
+     * @param position the {@link FilterPosition}
+     * @return an unmodifiable map of {@link Filter Filters} and their {@link LatencyHistogram LatencyHistograms}
+     */
+    @NotNull
+    public Map<Filter, LatencyHistogram> getFilterLatencies(@NotNull FilterPosition position) {
+        return Collections.unmodifiableMap(filters.get(position));
+    }
+
+    /**
+     * Gets the amount of cancellations per reason.
+     *
+     * @return a map of reasons and the amount of cancellations
+     */
+    @NotNull
+    public Map<String, Long> getCancellations() {
+        Map<String, Long> result = new HashMap<>();
+        cancellations.forEach((reason, count) -> result.put(reason, count.sum()));
+        return result;
+    }
+
+    /**
+     * Gets the amount of errors per exception type.
+     *
+     * @return a map of exception types and the amount of errors
+     */
+    @NotNull
+    public Map<Class<?>, Long> getErrors() {
+        Map<Class<?>, Long> result = new HashMap<>();
+        errors.forEach((type, count) -> result.put(type, count.sum()));
+        return result;
+    }
+
+    /**
+     * Gets the total amount of errors.
+     *
+     * @return the total amount of errors
+     */
+    public long getErrorCount() {
+        return errors.values().stream().mapToLong(LongAdder::sum).sum();
+    }
+
+    /**
+     * Gets the average amount of executed commands per second since this collector was created or last reset.
+     *
+     * @return the amount of executed commands per second
+     */
+    public double getThroughput() {
+        long elapsed = System.nanoTime() - startTime;
+        if (elapsed <= 0) {
+            return 0;
+        }
+        return getPhaseLatency(Phase.EXECUTION).getCount() / (elapsed / (double) TimeUnit.SECONDS.toNanos(1));
+    }
+
+    /**
+     * Resets all metrics.
+     */
+    public void reset() {
+        for (LatencyHistogram histogram : phases) {
+            histogram.reset();
+        }
+        commands.clear();
+        filters.values().forEach(Map::clear);
+        cancellations.clear();
+        errors.clear();
+        startTime = System.nanoTime();
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder builder = new StringBuilder("InMemoryMetricsCollector{");
+        for (Phase phase : PHASES) {
+            builder.append(phase).append('=').append(phases[phase.ordinal()]).append(", ");
+        }
+        return builder.append("cancellations=").append(getCancellations())
+                .append(", errors=").append(getErrorCount())
+                .append(", throughput=").append(String.format("%.2f/s", getThroughput()))
+                .append('}')
+                .toString();
+    }
+}
@@ -0,0 +1,85 @@
+package com.github.kaktushose.jda.commands.metrics;
+
+import com.github.kaktushose.jda.commands.dispatching.CommandContext;
+import com.github.kaktushose.jda.commands.dispatching.filter.Filter;
+import com.github.kaktushose.jda.commands.dispatching.filter.FilterRegistry.FilterPosition;
+import com.github.kaktushose.jda.commands.reflect.CommandDefinition;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Generic interface for collecting metrics of the dispatch pipeline. All durations are passed in nanoseconds.
+ * Implementations are called from the event threads and must therefore be thread-safe and fast.
+ *
+ * <p>The default implementation is {@link NoOpMetricsCollector}, use {@link InMemoryMetricsCollector} or a custom
+ * implementation annotated with {@link com.github.kaktushose.jda.commands.annotations.Component Component} to
+ * actually collect metrics.
+ *
+ * @author Kaktushose
+ * @version 2.3.0
+ * @see InMemoryMetricsCollector
+ * @since 2.3.0
+ */
+public interface MetricsCollector {
+
+    /**
+     * Records the duration of a {@link Phase}.
+     *
+     * @param phase   the {@link Phase} that was executed
+     * @param command the {@link CommandDefinition} or {@code null} if the command isn't known yet
+     * @param nanos   the duration in nanoseconds
+     */
+    void recordPhase(@NotNull Phase phase, @Nullable CommandDefinition command, long nanos);
+
+    /**
+     * Records the duration of a single {@link Filter}.
+     *
+     * @param filter   the {@link Filter} that was applied
+     * @param position the {@link FilterPosition} of the filter
+     * @param nanos    the duration in nanoseconds
+     */
+    void recordFilter(@NotNull Filter filter, @NotNull FilterPosition position, long nanos);
+
+    /**
+     * Records the cancellation of a {@link CommandContext}.
+     *
+     * @param context the cancelled {@link CommandContext}
+     * @param reason  the reason, either a {@link Phase} name or the simple class name of the cancelling {@link Filter}
+     */
+    void recordCancellation(@NotNull CommandContext context, @NotNull String reason);
+
+    /**
+     * Records an exception thrown while executing a command.
+     *
+     * @param command   the {@link CommandDefinition} or {@code null} if the command isn't known
+     * @param throwable the thrown exception
+     */
+    void recordError(@Nullable CommandDefinition command, @NotNull Throwable throwable);
+
+    /**
+     * Enum describing the phases of the dispatch pipeline.
+     */
+    enum Phase {
+        /**
+         * Parsing the event to a {@link CommandContext}.
+         */
+        PARSING,
+        /**
+         * Finding the command via the {@link com.github.kaktushose.jda.commands.dispatching.router.Router Router}.
+         */
+        ROUTING,
+        /**
+         * Applying all filters of one {@link FilterPosition}.
+         */
+        FILTERING,
+        /**
+         * Adapting the input via the
+         * {@link com.github.kaktushose.jda.commands.dispatching.adapter.TypeAdapterRegistry TypeAdapterRegistry}.
+         */
+        ADAPTING,
+        /**
+         * Invoking the command method.
+         */
+        EXECUTION
+    }
+}
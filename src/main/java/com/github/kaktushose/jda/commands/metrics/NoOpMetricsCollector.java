@@ -0,0 +1,35 @@
+package com.github.kaktushose.jda.commands.metrics;
+
+import com.github.kaktushose.jda.commands.dispatching.CommandContext;
+import com.github.kaktushose.jda.commands.dispatching.filter.Filter;
+import com.github.kaktushose.jda.commands.dispatching.filter.FilterRegistry.FilterPosition;
+import com.github.kaktushose.jda.commands.reflect.CommandDefinition;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Default implementation of {@link MetricsCollector} that discards all metrics.
+ *
+ * @author Kaktushose
+ * @version 2.3.0
+ * @see MetricsCollector
+ * @since 2.3.0
+ */
+public class NoOpMetricsCollector implements MetricsCollector {
+
+    @Override
+    public void recordPhase(@NotNull Phase phase, @Nullable CommandDefinition command, long nanos) {
+    }
+
+    @Override
+    public void recordFilter(@NotNull Filter filter, @NotNull FilterPosition position, long nanos) {
+    }
+
+    @Override
+    public void recordCancellation(@NotNull CommandContext context, @NotNull String reason) {
+    }
+
+    @Override
+    public void recordError(@Nullable CommandDefinition command, @NotNull Throwable throwable) {
+    }
+}
@@ -0,0 +1,4 @@
+/**
+ * Latency and throughput metrics of the dispatch pipeline.
+ */
+package com.github.kaktushose.jda.commands.metrics;
@@ -0,0 +1,333 @@
+package com.github.kaktushose.jda.commands.reflect;
+
+import com.github.kaktushose.jda.commands.dispatching.CommandContext;
+import com.github.kaktushose.jda.commands.dispatching.CommandEvent;
+import com.github.kaktushose.jda.commands.dispatching.adapter.AsyncTypeAdapter;
+import com.github.kaktushose.jda.commands.dispatching.adapter.BatchTypeAdapter;
+import com.github.kaktushose.jda.commands.dispatching.adapter.TypeAdapter;
+import com.github.kaktushose.jda.commands.dispatching.adapter.TypeAdapterRegistry;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Precompiled plan for binding the input of a command to the parameters of the command method. At build time the
+ * {@link TypeAdapter} of each parameter gets resolved, String array and concatenation parameters get flagged and
+ * default values of primitive and String parameters get adapted once by the default {@link TypeAdapter TypeAdapters}.
+ * Thus, binding the arguments of a command only loops over the prebuilt {@link Slot Slots}, and an invalid default
+ * value is detected when the command gets indexed instead of when it gets executed. Arguments of
+ * {@link AsyncTypeAdapter AsyncTypeAdapters} are resolved concurrently, and the arguments of all parameters sharing
+ * the same {@link BatchTypeAdapter} are passed to that adapter at once.
+ *
+ * <p>If a {@link TypeAdapter} gets registered or unregistered after the plan was built, the {@link Slot Slots} are
+ * resolved again on the next use. Parameters without a {@link TypeAdapter} fail with an
+ * {@link IllegalArgumentException} once they get bound.
+ *
+ * @author Kaktushose
+ * @version 2.3.0
+ * @see CommandDefinition
+ * @see TypeAdapterRegistry
+ * @since 2.3.0
+ */
+public final class BindingPlan {
+
+    private static final Set<Class<?>> CONTEXT_FREE_TYPES = new HashSet<>(Arrays.asList(
+            Byte.class, Short.class, Integer.class, Long.class, Float.class, Double.class, Character.class,
+            Boolean.class, String.class
+    ));
+    private final List<ParameterDefinition> parameters;
+    private final TypeAdapterRegistry registry;
+    private volatile Slot[] slots;
+    private volatile List<Slot> slotList;
+    private volatile int modificationCount;
+
+    private BindingPlan(List<ParameterDefinition> parameters, TypeAdapterRegistry registry) {
+        this.parameters = parameters;
+        this.registry = registry;
+    }
+
+    /**
+     * Builds a new BindingPlan.
+     *
+     * @param parameters the {@link ParameterDefinition ParameterDefinitions} excluding the {@link CommandEvent}
+     * @param registry   the {@link TypeAdapterRegistry} to resolve the {@link TypeAdapter TypeAdapters} from
+     * @return a new BindingPlan
+     * @throws IllegalArgumentException if a default value cannot be adapted
+     */
+    @NotNull
+    public static BindingPlan build(@NotNull List<ParameterDefinition> parameters,
+                                    @NotNull TypeAdapterRegistry registry) {
+        BindingPlan plan = new BindingPlan(new ArrayList<>(parameters), registry);
+        plan.resolve(true);
+        return plan;
+    }
+
+    private void resolve(boolean strict) {
+        int count = registry.getModificationCount();
+        Slot[] resolved = new Slot[parameters.size()];
+        for (int i = 0; i < resolved.length; i++) {
+            ParameterDefinition parameter = parameters.get(i);
+            Class<?> type = parameter.getType();
+            if (String[].class.isAssignableFrom(type)) {
+                resolved[i] = new Slot(parameter, Kind.ARRAY, null, null);
+                continue;
+            }
+            TypeAdapter<?> adapter = registry.get(type).orElse(null);
+            Kind kind = parameter.isConcat() && i == resolved.length - 1 ? Kind.CONCAT : Kind.ADAPTED;
+            Object defaultValue = null;
+            String raw = parameter.getDefaultValue();
+            // only the default adapters of these types are known not to use the context
+            if (raw != null && adapter != null && CONTEXT_FREE_TYPES.contains(type) && registry.isDefault(adapter)) {
+                defaultValue = adapter.parse(raw, null).orElse(null);
+                if (defaultValue == null && strict) {
+                    throw new IllegalArgumentException(
+                            String.format("Default value \"%s\" cannot be adapted to type %s!", raw, type.getName())
+                    );
+                }
+            }
+            resolved[i] = new Slot(parameter, kind, adapter, defaultValue);
+        }
+        slots = resolved;
+        slotList = Collections.unmodifiableList(Arrays.asList(resolved));
+        modificationCount = count;
+    }
+
+    private Slot[] slots() {
+        if (modificationCount != registry.getModificationCount()) {
+            resolve(false);
+        }
+        return slots;
+    }
+
+    /**
+     * Takes a {@link CommandContext} and binds the input to the parameters of the command. The {@link CommandEvent}
+     * gets added as first argument. Cancels the {@link CommandContext} if a required argument is missing or the type
+     * adapting fails. Waits for all {@link AsyncTypeAdapter AsyncTypeAdapters} to complete.
+     *
+     * @param context the {@link CommandContext} to bind
+     * @see #bindAsync(CommandContext)
+     */
+    public void bind(@NotNull CommandContext context) {
+        bindAsync(context).join();
+    }
+
+    /**
+     * Takes a {@link CommandContext} and binds the input to the parameters of the command. The {@link CommandEvent}
+     * gets added as first argument. Cancels the {@link CommandContext} if a required argument is missing or the type
+     * adapting fails.
+     *
+     * <p>Arguments of synchronous {@link TypeAdapter TypeAdapters} are parsed directly, while the arguments of all
+     * {@link AsyncTypeAdapter AsyncTypeAdapters} are parsed concurrently. If more than one argument uses the same
+     * {@link BatchTypeAdapter}, these arguments are parsed with a single call to
+     * {@link BatchTypeAdapter#parseAllAsync(java.util.Collection, CommandContext)}. If no argument needs to wait, the
+     * returned future is already completed.
+     *
+     * @param context the {@link CommandContext} to bind
+     * @return a {@link CompletableFuture} that completes once the arguments are set
+     */
+    @NotNull
+    public CompletableFuture<Void> bindAsync(@NotNull CommandContext context) {
+        Slot[] slots = slots();
+        String[] input = context.getInput();
+        Object[] values = new Object[slots.length];
+        CompletableFuture<?>[] futures = null;
+        Map<BatchTypeAdapter<?>, Map<Integer, String>> batches = null;
+        int bound = slots.length;
+        for (int i = 0; i < slots.length; i++) {
+            Slot slot = slots[i];
+            if (slot.kind == Kind.ARRAY) {
+                values[i] = input;
+                bound = i + 1;
+                break;
+            }
+
+            String raw;
+            if (i >= input.length) {
+                if (!slot.parameter.isOptional()) {
+                    return fail(context, values, i);
+                }
+                if (slot.parameter.getDefaultValue() == null || slot.defaultValue != null) {
+                    values[i] = slot.defaultValue;
+                    continue;
+                }
+                raw = slot.parameter.getDefaultValue();
+            } else if (slot.kind == Kind.CONCAT) {
+                values[i] = concat(input, i);
+                continue;
+            } else {
+                raw = input[i];
+            }
+
+            TypeAdapter<?> adapter = slot.adapter();
+            if (adapter instanceof AsyncTypeAdapter) {
+                if (futures == null) {
+                    futures = new CompletableFuture<?>[slots.length];
+                }
+                if (adapter instanceof BatchTypeAdapter) {
+                    if (batches == null) {
+                        batches = new IdentityHashMap<>();
+                    }
+                    batches.computeIfAbsent((BatchTypeAdapter<?>) adapter, key -> new LinkedHashMap<>()).put(i, raw);
+                    continue;
+                }
+                futures[i] = ((AsyncTypeAdapter<?>) adapter).parseAsync(raw, context);
+                continue;
+            }
+            Optional<?> parsed = adapter.parse(raw, context);
+            if (!parsed.isPresent()) {
+                return fail(context, values, i);
+            }
+            values[i] = parsed.get();
+        }
+
+        if (futures == null) {
+            return complete(context, values, bound);
+        }
+        if (batches != null) {
+            for (Map.Entry<BatchTypeAdapter<?>, Map<Integer, String>> batch : batches.entrySet()) {
+                parseBatch(batch.getKey(), batch.getValue(), context, futures);
+            }
+        }
+        CompletableFuture<?>[] pending = futures;
+        int count = bound;
+        CompletableFuture<?>[] async = Arrays.stream(pending)
+                .filter(Objects::nonNull)
+                .toArray(CompletableFuture[]::new);
+        return CompletableFuture.allOf(async).thenCompose(ignored -> {
+            for (int i = 0; i < count; i++) {
+                if (pending[i] == null) {
+                    continue;
+                }
+                Optional<?> parsed = (Optional<?>) pending[i].join();
+                if (!parsed.isPresent()) {
+                    return fail(context, values, i);
+                }
+                values[i] = parsed.get();
+            }
+            return complete(context, values, count);
+        });
+    }
+
+    private static <T> void parseBatch(BatchTypeAdapter<T> adapter, Map<Integer, String> raws, CommandContext context,
+                                       CompletableFuture<?>[] futures) {
+        if (raws.size() == 1) {
+            Map.Entry<Integer, String> single = raws.entrySet().iterator().next();
+            futures[single.getKey()] = adapter.parseAsync(single.getValue(), context);
+            return;
+        }
+        CompletableFuture<Map<String, Optional<T>>> batch = adapter.parseAllAsync(
+                new LinkedHashSet<>(raws.values()), context
+        );
+        raws.forEach((index, raw) -> futures[index] = batch.thenApply(parsed ->
+                parsed.getOrDefault(raw, Optional.empty())
+        ));
+    }
+
+    private static CompletableFuture<Void> complete(CommandContext context, Object[] values, int count) {
+        List<Object> arguments = new ArrayList<>(count + 1);
+        arguments.add(new CommandEvent(Objects.requireNonNull(context.getCommand()), context));
+        arguments.addAll(Arrays.asList(values).subList(0, count));
+        context.setArguments(arguments);
+        return CompletableFuture.completedFuture(null);
+    }
+
+    private static CompletableFuture<Void> fail(CommandContext context, Object[] values, int count) {
+        complete(context, values, count);
+        context.setCancelled(true);
+        context.setErrorMessage(context.getImplementationRegistry()
+                .getErrorMessageFactory()
+                .getSyntaxErrorMessage(context)
+        );
+        return CompletableFuture.completedFuture(null);
+    }
+
+    private static String concat(String[] input, int start) {
+        StringBuilder builder = new StringBuilder(input[start]);
+        for (int i = start + 1; i < input.length; i++) {
+            builder.append(' ').append(input[i]);
+        }
+        return builder.toString().trim();
+    }
+
+    /**
+     * Gets the {@link Slot Slots} of this plan, one for each parameter excluding the {@link CommandEvent}.
+     *
+     * @return the {@link Slot Slots}
+     */
+    public List<Slot> getSlots() {
+        slots();
+        return slotList;
+    }
+
+    private enum Kind {
+        ARRAY,
+        CONCAT,
+        ADAPTED
+    }
+
+    /**
+     * A single parameter of a {@link BindingPlan} with its resolved {@link TypeAdapter}.
+     */
+    public static final class Slot {
+
+        private final ParameterDefinition parameter;
+        private final Kind kind;
+        private final TypeAdapter<?> adapter;
+        private final Object defaultValue;
+
+        private Slot(ParameterDefinition parameter, Kind kind, TypeAdapter<?> adapter, Object defaultValue) {
+            this.parameter = parameter;
+            this.kind = kind;
+            this.adapter = adapter;
+            this.defaultValue = defaultValue;
+        }
+
+        /**
+         * Gets the {@link ParameterDefinition} of this slot.
+         *
+         * @return the {@link ParameterDefinition}
+         */
+        public ParameterDefinition getParameter() {
+            return parameter;
+        }
+
+        /**
+         * Parses a raw String to the type of the parameter. String array parameters get split at each space.
+         *
+         * @param raw     the String to parse
+         * @param context the {@link CommandContext}
+         * @return the parsed argument or an empty Optional if the parsing fails
+         */
+        public Optional<?> parse(@NotNull String raw, @NotNull CommandContext context) {
+            if (kind == Kind.ARRAY) {
+                return Optional.of(raw.split(" "));
+            }
+            return adapter().parse(raw, context);
+        }
+
+        /**
+         * Gets the default value of the parameter. Default values of primitive and String parameters are adapted at
+         * build time if they use a default {@link TypeAdapter}, all other default values get parsed on each call.
+         *
+         * @param context the {@link CommandContext}
+         * @return the default value or an empty Optional if the parameter has no default value or the parsing fails
+         */
+        public Optional<?> getDefaultValue(@NotNull CommandContext context) {
+            if (defaultValue != null) {
+                return Optional.of(defaultValue);
+            }
+            String raw = parameter.getDefaultValue();
+            return raw == null ? Optional.empty() : parse(raw, context);
+        }
+
+        private TypeAdapter<?> adapter() {
+            if (adapter == null) {
+                throw new IllegalArgumentException(
+                        String.format("No type adapter for type %s found!", parameter.getType().getName())
+                );
+            }
+            return adapter;
+        }
+    }
+}
@@ -23,6 +23,11 @@ import java.util.Optional;
  */
 public class ButtonDefinition {
 
+    /**
+     * The character separating the button id from an optional payload inside a custom id.
+     */
+    public static final char PAYLOAD_SEPARATOR = ':';
+    private static final int MAX_CUSTOM_ID_LENGTH = 100;
     private static final Logger log = LoggerFactory.getLogger(ButtonDefinition.class);
     private final String id;
     private final String label;
@@ -31,6 +36,7 @@ public class ButtonDefinition {
     private final ButtonStyle style;
     private final Method method;
     private final Object instance;
+    private final MethodInvoker invoker;
     private boolean isEphemeral;
     private ControllerDefinition controller;
 
@@ -41,7 +47,8 @@ public class ButtonDefinition {
                              ButtonStyle style,
                              boolean isEphemeral,
                              Method method,
-                             Object instance) {
+                             Object instance,
+                             MethodInvoker invoker) {
         this.id = id;
         this.label = label;
         this.emoji = emoji;
@@ -50,6 +57,7 @@ public class ButtonDefinition {
         this.isEphemeral = isEphemeral;
         this.method = method;
         this.instance = instance;
+        this.invoker = invoker;
     }
 
     /**
@@ -90,6 +98,17 @@ public class ButtonDefinition {
             emoji = Emoji.fromFormatted(emojiString);
         }
 
+        MethodInvoker invoker;
+        try {
+            invoker = MethodInvoker.build(method, instance);
+        } catch (IllegalAccessException | RuntimeException e) {
+            log.error("An error has occurred! Skipping Button {}.{}:",
+                    method.getDeclaringClass().getSimpleName(),
+                    method.getName(),
+                    new IllegalArgumentException(String.format("Unable to access method: %s", e.getMessage())));
+            return Optional.empty();
+        }
+
         String name = button.id().isEmpty() ? method.getName() : button.id();
         name = String.format("%s.%s", method.getDeclaringClass().getSimpleName(), name);
         return Optional.of(new ButtonDefinition(
@@ -100,7 +119,8 @@ public class ButtonDefinition {
                 button.style(),
                 button.ephemeral(),
                 method,
-                instance)
+                instance,
+                invoker)
         );
     }
 
@@ -110,8 +130,26 @@ public class ButtonDefinition {
      * @return the transformed {@link net.dv8tion.jda.api.interactions.components.buttons.Button Button}
      */
     public net.dv8tion.jda.api.interactions.components.buttons.Button toButton() {
+        return toButton(null);
+    }
+
+    /**
+     * Transforms this command definition to a {@link net.dv8tion.jda.api.interactions.components.buttons.Button Button}
+     * carrying the given payload. The custom id will be {@code id:payload}. Link buttons cannot carry a payload.
+     *
+     * @param payload the payload to attach or {@code null}
+     * @return the transformed {@link net.dv8tion.jda.api.interactions.components.buttons.Button Button}
+     * @throws IllegalArgumentException if the custom id exceeds 100 characters
+     */
+    public net.dv8tion.jda.api.interactions.components.buttons.Button toButton(@Nullable String payload) {
         String label = getLabel().orElse("");
-        String id = getLink().orElse(this.id);
+        String customId = payload == null ? this.id : this.id + PAYLOAD_SEPARATOR + payload;
+        if (customId.length() > MAX_CUSTOM_ID_LENGTH) {
+            throw new IllegalArgumentException(
+                    String.format("Custom id of button %s must not exceed %d characters!", this.id, MAX_CUSTOM_ID_LENGTH)
+            );
+        }
+        String id = getLink().orElse(customId);
         if (emoji == null) {
             return net.dv8tion.jda.api.interactions.components.buttons.Button.of(style, id, label);
         } else {
@@ -226,6 +264,15 @@ public class ButtonDefinition {
         return instance;
     }
 
+    /**
+     * Gets the precompiled {@link MethodInvoker} of the button method.
+     *
+     * @return the {@link MethodInvoker}
+     */
+    public MethodInvoker getInvoker() {
+        return invoker;
+    }
+
     @Override
     public String toString() {
         return "ButtonDefinition{" +
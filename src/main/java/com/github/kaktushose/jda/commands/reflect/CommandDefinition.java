@@ -25,7 +25,7 @@ import java.util.stream.Collectors;
  * Representation of a single command.
  *
  * @author Kaktushose
- * @version 2.0.0
+ * @version 2.3.0
  * @see Command
  * @since 2.0.0
  */
@@ -40,6 +40,8 @@ public class CommandDefinition implements Comparable<CommandDefinition> {
     private final boolean isDM;
     private final Method method;
     private final Object instance;
+    private final MethodInvoker invoker;
+    private final BindingPlan bindingPlan;
     private boolean isEphemeral;
     private boolean isSuper;
     private boolean isDefaultEnabled;
@@ -56,7 +58,9 @@ public class CommandDefinition implements Comparable<CommandDefinition> {
                               boolean isEphemeral,
                               boolean isDM,
                               Method method,
-                              Object instance) {
+                              Object instance,
+                              MethodInvoker invoker,
+                              BindingPlan bindingPlan) {
         this.labels = labels;
         this.metadata = metadata;
         this.parameters = parameters;
@@ -69,6 +73,8 @@ public class CommandDefinition implements Comparable<CommandDefinition> {
         this.isDM = isDM;
         this.method = method;
         this.instance = instance;
+        this.invoker = invoker;
+        this.bindingPlan = bindingPlan;
     }
 
     /**
@@ -200,6 +206,23 @@ public class CommandDefinition implements Comparable<CommandDefinition> {
             metadata.setUsage(usage.toString());
         }
 
+        MethodInvoker invoker;
+        try {
+            invoker = MethodInvoker.build(method, instance);
+        } catch (IllegalAccessException | RuntimeException e) {
+            logError(String.format("Unable to access method: %s", e.getMessage()), method);
+            return Optional.empty();
+        }
+
+        // adapts the default values of primitive and String parameters, thus an invalid default value skips the command
+        BindingPlan bindingPlan;
+        try {
+            bindingPlan = BindingPlan.build(parameters.subList(1, parameters.size()), adapterRegistry);
+        } catch (IllegalArgumentException e) {
+            logError(e.getMessage(), method);
+            return Optional.empty();
+        }
+
         return Optional.of(new CommandDefinition(
                 labels,
                 metadata,
@@ -212,7 +235,9 @@ public class CommandDefinition implements Comparable<CommandDefinition> {
                 command.ephemeral(),
                 command.isDM(),
                 method,
-                instance
+                instance,
+                invoker,
+                bindingPlan
         ));
     }
 
@@ -446,6 +471,24 @@ public class CommandDefinition implements Comparable<CommandDefinition> {
         return instance;
     }
 
+    /**
+     * Gets the precompiled {@link MethodInvoker} of the command method.
+     *
+     * @return the {@link MethodInvoker}
+     */
+    public MethodInvoker getInvoker() {
+        return invoker;
+    }
+
+    /**
+     * Gets the precompiled {@link BindingPlan} of the command parameters.
+     *
+     * @return the {@link BindingPlan}
+     */
+    public BindingPlan getBindingPlan() {
+        return bindingPlan;
+    }
+
     @Override
     public String toString() {
         return "{" +
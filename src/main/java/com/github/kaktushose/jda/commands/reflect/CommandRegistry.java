@@ -4,6 +4,8 @@ import com.github.kaktushose.jda.commands.annotations.CommandController;
 import com.github.kaktushose.jda.commands.dependency.DependencyInjector;
 import com.github.kaktushose.jda.commands.dispatching.adapter.TypeAdapterRegistry;
 import com.github.kaktushose.jda.commands.dispatching.interactions.ButtonInteractionDispatcher;
+import com.github.kaktushose.jda.commands.dispatching.router.CommandTrie;
+import com.github.kaktushose.jda.commands.dispatching.router.FuzzyLabelIndex;
 import com.github.kaktushose.jda.commands.dispatching.validation.ValidatorRegistry;
 import org.jetbrains.annotations.NotNull;
 import org.reflections.Reflections;
@@ -23,7 +25,7 @@ import java.util.Set;
  * Central registry for all {@link CommandDefinition CommandDefinitions}.
  *
  * @author Kaktushose
- * @version 2.0.0
+ * @version 2.3.0
  * @since 2.0.0
  */
 public class CommandRegistry {
@@ -35,6 +37,8 @@ public class CommandRegistry {
     private final ButtonInteractionDispatcher buttonListener;
     private final Set<ControllerDefinition> controllers;
     private final Set<CommandDefinition> commands;
+    private CommandTrie commandTrie;
+    private FuzzyLabelIndex fuzzyLabelIndex;
 
     /**
      * Constructs a new CommandRegistry.
@@ -53,6 +57,8 @@ public class CommandRegistry {
         this.buttonListener = buttonListener;
         controllers = new HashSet<>();
         commands = new HashSet<>();
+        commandTrie = CommandTrie.build(commands);
+        fuzzyLabelIndex = FuzzyLabelIndex.build(commands);
     }
 
     /**
@@ -100,6 +106,9 @@ public class CommandRegistry {
             log.debug("Registered controller {}", controller);
         }
 
+        commandTrie = CommandTrie.build(commands);
+        fuzzyLabelIndex = FuzzyLabelIndex.build(commands);
+
         log.debug("Successfully registered {} controller(s) with a total of {} command(s)!", controllers.size(), commands.size());
     }
 
@@ -120,4 +129,24 @@ public class CommandRegistry {
     public Set<CommandDefinition> getCommands() {
         return Collections.unmodifiableSet(commands);
     }
+
+    /**
+     * Gets the {@link CommandTrie} of all command labels. The trie gets rebuilt each time {@link #index(Class, String...)}
+     * is called.
+     *
+     * @return the {@link CommandTrie}
+     */
+    public CommandTrie getCommandTrie() {
+        return commandTrie;
+    }
+
+    /**
+     * Gets the {@link FuzzyLabelIndex} of all command labels. The index gets rebuilt each time
+     * {@link #index(Class, String...)} is called.
+     *
+     * @return the {@link FuzzyLabelIndex}
+     */
+    public FuzzyLabelIndex getFuzzyLabelIndex() {
+        return fuzzyLabelIndex;
+    }
 }
@@ -4,6 +4,7 @@ import com.github.kaktushose.jda.commands.annotations.CommandController;
 import com.github.kaktushose.jda.commands.annotations.Inject;
 import com.github.kaktushose.jda.commands.annotations.Permission;
 import com.github.kaktushose.jda.commands.dependency.DependencyInjector;
+import com.github.kaktushose.jda.commands.dispatching.DispatchExecutor.ExecutionMode;
 import com.github.kaktushose.jda.commands.dispatching.adapter.TypeAdapterRegistry;
 import com.github.kaktushose.jda.commands.dispatching.validation.ValidatorRegistry;
 import org.jetbrains.annotations.NotNull;
@@ -18,7 +19,7 @@ import java.util.*;
  * Representation of a command controller.
  *
  * @author Kaktushose
- * @version 2.0.0
+ * @version 2.3.0
  * @since 2.0.0
  */
 public class ControllerDefinition {
@@ -28,15 +29,18 @@ public class ControllerDefinition {
     private final List<CommandDefinition> subCommands;
     private final List<ButtonDefinition> buttons;
     private final boolean autoAcknowledge;
+    private final ExecutionMode executionMode;
 
     private ControllerDefinition(List<CommandDefinition> superCommands,
                                  List<CommandDefinition> subCommands,
                                  List<ButtonDefinition> buttons,
-                                 boolean autoAcknowledge) {
+                                 boolean autoAcknowledge,
+                                 ExecutionMode executionMode) {
         this.superCommands = superCommands;
         this.subCommands = subCommands;
         this.buttons = buttons;
         this.autoAcknowledge = autoAcknowledge;
+        this.executionMode = executionMode;
     }
 
     /**
@@ -141,7 +145,12 @@ public class ControllerDefinition {
             subCommands.clear();
         }
 
-        ControllerDefinition controller = new ControllerDefinition(superCommands, subCommands, buttons, commandController.acknowledge());
+        ControllerDefinition controller = new ControllerDefinition(superCommands,
+                subCommands,
+                buttons,
+                commandController.acknowledge(),
+                commandController.execution()
+        );
         controller.getSuperCommands().forEach(definition -> definition.setController(controller));
         controller.getSubCommands().forEach(definition -> definition.setController(controller));
         controller.getButtons().forEach(button -> button.setController(controller));
@@ -193,6 +202,15 @@ public class ControllerDefinition {
         return autoAcknowledge;
     }
 
+    /**
+     * Gets the {@link ExecutionMode} the commands of this controller should be executed with.
+     *
+     * @return the {@link ExecutionMode}
+     */
+    public ExecutionMode getExecutionMode() {
+        return executionMode;
+    }
+
     @Override
     public String toString() {
         return "ControllerDefinition{" +
@@ -10,7 +10,7 @@ import java.util.concurrent.TimeUnit;
  * Representation of a command cooldown.
  *
  * @author Kaktushose
- * @version 2.0.0
+ * @version 2.3.0
  * @see Cooldown
  * @since 2.0.0
  */
@@ -18,10 +18,12 @@ public class CooldownDefinition {
 
     private long delay;
     private TimeUnit timeUnit;
+    private Cooldown.Scope scope;
 
-    private CooldownDefinition(long delay, TimeUnit timeUnit) {
+    private CooldownDefinition(long delay, TimeUnit timeUnit, Cooldown.Scope scope) {
         this.delay = delay;
         this.timeUnit = timeUnit;
+        this.scope = scope;
     }
 
     /**
@@ -33,9 +35,9 @@ public class CooldownDefinition {
     @NotNull
     public static CooldownDefinition build(@Nullable Cooldown cooldown) {
         if (cooldown == null) {
-            return new CooldownDefinition(0, TimeUnit.MILLISECONDS);
+            return new CooldownDefinition(0, TimeUnit.MILLISECONDS, Cooldown.Scope.USER);
         }
-        return new CooldownDefinition(cooldown.value(), cooldown.timeUnit());
+        return new CooldownDefinition(cooldown.value(), cooldown.timeUnit(), cooldown.scope());
     }
 
     /**
@@ -50,6 +52,7 @@ public class CooldownDefinition {
         }
         delay = cooldown.delay;
         timeUnit = cooldown.timeUnit;
+        scope = cooldown.scope;
     }
 
     /**
@@ -88,11 +91,30 @@ public class CooldownDefinition {
         this.timeUnit = timeUnit;
     }
 
+    /**
+     * Gets the {@link Cooldown.Scope} of the cooldown.
+     *
+     * @return the {@link Cooldown.Scope} of the cooldown
+     */
+    public Cooldown.Scope getScope() {
+        return scope;
+    }
+
+    /**
+     * Sets the {@link Cooldown.Scope} of the cooldown.
+     *
+     * @param scope the new {@link Cooldown.Scope}
+     */
+    public void setScope(Cooldown.Scope scope) {
+        this.scope = scope;
+    }
+
     @Override
     public String toString() {
         return "{" +
                 "delay=" + delay +
                 ", timeUnit=" + timeUnit +
+                ", scope=" + scope +
                 '}';
     }
 }
@@ -18,6 +18,8 @@ import com.github.kaktushose.jda.commands.embeds.error.DefaultErrorMessageFactor
 import com.github.kaktushose.jda.commands.embeds.error.ErrorMessageFactory;
 import com.github.kaktushose.jda.commands.embeds.help.DefaultHelpMessageFactory;
 import com.github.kaktushose.jda.commands.embeds.help.HelpMessageFactory;
+import com.github.kaktushose.jda.commands.metrics.MetricsCollector;
+import com.github.kaktushose.jda.commands.metrics.NoOpMetricsCollector;
 import com.github.kaktushose.jda.commands.permissions.DefaultPermissionsProvider;
 import com.github.kaktushose.jda.commands.permissions.PermissionsProvider;
 import com.github.kaktushose.jda.commands.settings.DefaultSettingsProvider;
@@ -47,13 +49,14 @@ import java.util.*;
  *     <li>{@link ErrorMessageFactory}</li>
  *     <li>{@link Router}</li>
  *     <li>{@link MessageSender}</li>
+ *     <li>{@link MetricsCollector}</li>
  *     <li>{@link TypeAdapter}</li>
  *     <li>{@link com.github.kaktushose.jda.commands.dispatching.filter.Filter Filter}</li>
  *     <li>{@link com.github.kaktushose.jda.commands.dispatching.validation.Validator Validator}</li>
  * </ul>
  *
  * @author Kaktushose
- * @version 2.2.0
+ * @version 2.3.0
  * @see Component
  * @since 2.0.0
  */
@@ -71,6 +74,7 @@ public class ImplementationRegistry {
     private ErrorMessageFactory errorMessageFactory;
     private Router router;
     private MessageSender messageSender;
+    private MetricsCollector metricsCollector;
 
     /**
      * Constructs a new ImplementationRegistry.
@@ -90,6 +94,7 @@ public class ImplementationRegistry {
         errorMessageFactory = new DefaultErrorMessageFactory();
         router = new CommandRouter();
         messageSender = new DefaultMessageSender();
+        metricsCollector = new NoOpMetricsCollector();
 
         this.dependencyInjector = dependencyInjector;
         this.filterRegistry = filterRegistry;
@@ -123,6 +128,7 @@ public class ImplementationRegistry {
         findImplementation(ErrorMessageFactory.class).ifPresent(this::setErrorMessageFactory);
         findImplementation(Router.class).ifPresent(this::setRouter);
         findImplementation(MessageSender.class).ifPresent(this::setMessageSender);
+        findImplementation(MetricsCollector.class).ifPresent(this::setMetricsCollector);
 
         findFilters().forEach(filterRegistry::register);
         findAdapters().forEach(typeAdapterRegistry::register);
@@ -237,6 +243,24 @@ public class ImplementationRegistry {
         this.messageSender = sender;
     }
 
+    /**
+     * Gets the {@link MetricsCollector}.
+     *
+     * @return the {@link MetricsCollector}
+     */
+    public MetricsCollector getMetricsCollector() {
+        return metricsCollector;
+    }
+
+    /**
+     * Sets the {@link MetricsCollector}.
+     *
+     * @param metricsCollector the new {@link MetricsCollector}
+     */
+    public void setMetricsCollector(MetricsCollector metricsCollector) {
+        this.metricsCollector = metricsCollector;
+    }
+
     @SuppressWarnings("unchecked")
     private <T> Optional<T> findImplementation(Class<T> type) {
         T instance = null;
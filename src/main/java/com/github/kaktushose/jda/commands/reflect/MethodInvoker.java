@@ -0,0 +1,247 @@
+package com.github.kaktushose.jda.commands.reflect;
+
+import org.jetbrains.annotations.NotNull;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.lang.invoke.CallSite;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Precompiled invoker for command and button methods. At build time the {@link Method} gets unreflected to a
+ * {@link MethodHandle}. For public {@code void} methods of public classes with up to five parameters, the
+ * {@link LambdaMetafactory} generates a class that calls the method directly, which the JIT can inline like any other
+ * interface call. All other methods are invoked through the {@link MethodHandle}, which is bound to the instance of
+ * the defining class and adapted to the uniform type {@code (Object[])Object}. Both skip the access checks that
+ * {@link Method#invoke(Object, Object...)} performs on every single call.
+ *
+ * <p>Like {@link Method#invoke(Object, Object...)}, arguments that don't match the parameter types are reported as
+ * {@link IllegalArgumentException} and only exceptions thrown by the method itself get wrapped in an
+ * {@link InvocationTargetException}.
+ *
+ * @author Kaktushose
+ * @version 2.3.0
+ * @see CommandDefinition
+ * @see ButtonDefinition
+ * @since 2.3.0
+ */
+public final class MethodInvoker {
+
+    private static final Logger log = LoggerFactory.getLogger(MethodInvoker.class);
+    private static final MethodType INVOKER_TYPE = MethodType.methodType(Object.class, Object[].class);
+    private static final Class<?>[] FUNCTIONS = {
+            Function0.class, Function1.class, Function2.class, Function3.class, Function4.class, Function5.class
+    };
+    private final MethodHandle handle;
+    private final Object function;
+    private final Class<?>[] parameterTypes;
+    private final boolean[] primitives;
+
+    private MethodInvoker(MethodHandle handle, Object function, Class<?>[] parameterTypes, boolean[] primitives) {
+        this.handle = handle;
+        this.function = function;
+        this.parameterTypes = parameterTypes;
+        this.primitives = primitives;
+    }
+
+    /**
+     * Builds a new MethodInvoker.
+     *
+     * @param method   the {@link Method} to invoke
+     * @param instance an instance of the method defining class, ignored for static methods
+     * @return a new MethodInvoker
+     * @throws IllegalAccessException if the method cannot be accessed
+     */
+    @NotNull
+    public static MethodInvoker build(@NotNull Method method, Object instance) throws IllegalAccessException {
+        method.setAccessible(true);
+        MethodHandles.Lookup lookup = MethodHandles.lookup();
+        MethodHandle direct = lookup.unreflect(method);
+        MethodHandle handle = Modifier.isStatic(method.getModifiers()) ? direct : direct.bindTo(instance);
+        int parameterCount = method.getParameterCount();
+        handle = handle.asSpreader(Object[].class, parameterCount).asType(INVOKER_TYPE);
+
+        Class<?>[] parameterTypes = new Class<?>[parameterCount];
+        boolean[] primitives = new boolean[parameterCount];
+        for (int i = 0; i < parameterCount; i++) {
+            Class<?> type = method.getParameterTypes()[i];
+            primitives[i] = type.isPrimitive();
+            parameterTypes[i] = MethodType.methodType(type).wrap().returnType();
+        }
+        return new MethodInvoker(handle, generate(lookup, method, direct, instance), parameterTypes, primitives);
+    }
+
+    private static Object generate(MethodHandles.Lookup lookup, Method method, MethodHandle direct, Object instance) {
+        int parameterCount = method.getParameterCount();
+        if (parameterCount >= FUNCTIONS.length || method.getReturnType() != void.class || !isAccessible(method)) {
+            return null;
+        }
+        Class<?> function = FUNCTIONS[parameterCount];
+        boolean isStatic = Modifier.isStatic(method.getModifiers());
+        MethodType functionType = MethodType.genericMethodType(parameterCount).changeReturnType(void.class);
+        MethodType instantiatedType = MethodType.methodType(void.class, method.getParameterTypes()).wrap()
+                .changeReturnType(void.class);
+        MethodType factoryType = isStatic
+                ? MethodType.methodType(function)
+                : MethodType.methodType(function, method.getDeclaringClass());
+        try {
+            CallSite site = LambdaMetafactory.metafactory(
+                    lookup, "invoke", factoryType, functionType, direct, instantiatedType
+            );
+            return isStatic ? site.getTarget().invoke() : site.getTarget().invoke(instance);
+        } catch (Throwable t) {
+            log.debug("Unable to generate an invoker for method {}, using a method handle", method, t);
+            return null;
+        }
+    }
+
+    // the generated class can only call the method if it is public and can be resolved by the class loader of this class
+    private static boolean isAccessible(Method method) {
+        if (!Modifier.isPublic(method.getModifiers())) {
+            return false;
+        }
+        for (Class<?> type = method.getDeclaringClass(); type != null; type = type.getEnclosingClass()) {
+            if (!Modifier.isPublic(type.getModifiers()) || !isVisible(type)) {
+                return false;
+            }
+        }
+        for (Class<?> type : method.getParameterTypes()) {
+            if (!type.isPrimitive() && !isVisible(type)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isVisible(Class<?> type) {
+        try {
+            return Class.forName(type.getName(), false, MethodInvoker.class.getClassLoader()) == type;
+        } catch (ClassNotFoundException | LinkageError e) {
+            return false;
+        }
+    }
+
+    /**
+     * Invokes the underlying method.
+     *
+     * @param arguments the arguments to pass, must match the parameter count of the method
+     * @return the return value of the method or {@code null} if the return type is {@code void}
+     * @throws IllegalArgumentException  if the arguments don't match the parameters of the method
+     * @throws InvocationTargetException if the method throws an exception
+     */
+    public Object invoke(@NotNull Object[] arguments) throws InvocationTargetException {
+        return invoke(Arrays.asList(arguments));
+    }
+
+    /**
+     * Invokes the underlying method. Unlike {@link #invoke(Object[])}, this doesn't copy the arguments into an array
+     * if the method is invoked by a generated class.
+     *
+     * @param arguments the arguments to pass, must match the parameter count of the method
+     * @return the return value of the method or {@code null} if the return type is {@code void}
+     * @throws IllegalArgumentException  if the arguments don't match the parameters of the method
+     * @throws InvocationTargetException if the method throws an exception
+     */
+    public Object invoke(@NotNull List<?> arguments) throws InvocationTargetException {
+        checkArguments(arguments);
+        try {
+            if (function == null) {
+                return (Object) handle.invokeExact(arguments.toArray());
+            }
+            switch (parameterTypes.length) {
+                case 0:
+                    ((Function0) function).invoke();
+                    break;
+                case 1:
+                    ((Function1) function).invoke(arguments.get(0));
+                    break;
+                case 2:
+                    ((Function2) function).invoke(arguments.get(0), arguments.get(1));
+                    break;
+                case 3:
+                    ((Function3) function).invoke(arguments.get(0), arguments.get(1), arguments.get(2));
+                    break;
+                case 4:
+                    ((Function4) function).invoke(arguments.get(0), arguments.get(1), arguments.get(2),
+                            arguments.get(3));
+                    break;
+                default:
+                    ((Function5) function).invoke(arguments.get(0), arguments.get(1), arguments.get(2),
+                            arguments.get(3), arguments.get(4));
+                    break;
+            }
+            return null;
+        } catch (VirtualMachineError e) {
+            throw e;
+        } catch (Throwable t) {
+            // the arguments have been checked, thus the throwable was thrown by the method itself
+            throw new InvocationTargetException(t);
+        }
+    }
+
+    private void checkArguments(List<?> arguments) {
+        if (arguments.size() != parameterTypes.length) {
+            throw new IllegalArgumentException(String.format(
+                    "Wrong number of arguments! Expected %d but got %d", parameterTypes.length, arguments.size()
+            ));
+        }
+        for (int i = 0; i < parameterTypes.length; i++) {
+            Object argument = arguments.get(i);
+            if (argument == null ? primitives[i] : !parameterTypes[i].isInstance(argument)) {
+                throw new IllegalArgumentException(String.format(
+                        "Argument type mismatch! Parameter %d expects %s but got %s",
+                        i,
+                        parameterTypes[i].getName(),
+                        argument == null ? "null" : argument.getClass().getName()
+                ));
+            }
+        }
+    }
+
+    /**
+     * Gets the amount of parameters the underlying method expects.
+     *
+     * @return the amount of parameters
+     */
+    public int getParameterCount() {
+        return parameterTypes.length;
+    }
+
+    @FunctionalInterface
+    private interface Function0 {
+        void invoke();
+    }
+
+    @FunctionalInterface
+    private interface Function1 {
+        void invoke(Object first);
+    }
+
+    @FunctionalInterface
+    private interface Function2 {
+        void invoke(Object first, Object second);
+    }
+
+    @FunctionalInterface
+    private interface Function3 {
+        void invoke(Object first, Object second, Object third);
+    }
+
+    @FunctionalInterface
+    private interface Function4 {
+        void invoke(Object first, Object second, Object third, Object fourth);
+    }
+
+    @FunctionalInterface
+    private interface Function5 {
+        void invoke(Object first, Object second, Object third, Object fourth, Object fifth);
+    }
+}
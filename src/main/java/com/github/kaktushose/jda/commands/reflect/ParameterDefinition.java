@@ -105,6 +105,7 @@ public class ParameterDefinition {
     private final String defaultValue;
     private final boolean isPrimitive;
     private final String name;
+    private final String optionName;
     private final String description;
     private final List<Choice> choices;
     private final List<ConstraintDefinition> constraints;
@@ -124,6 +125,7 @@ public class ParameterDefinition {
         this.defaultValue = defaultValue;
         this.isPrimitive = isPrimitive;
         this.name = name;
+        optionName = name.replaceAll("([a-z])([A-Z]+)", "$1_$2").toLowerCase();
         this.description = description;
         this.choices = choices;
         this.constraints = constraints;
@@ -234,11 +236,9 @@ public class ParameterDefinition {
      * @return the transformed {@link OptionData}
      */
     public OptionData toOptionData() {
-        String name = getName();
-        name = name.replaceAll("([a-z])([A-Z]+)", "$1_$2").toLowerCase();
         OptionData optionData = new OptionData(
                 OPTION_TYPE_MAPPINGS.getOrDefault(type, OptionType.STRING),
-                name,
+                getOptionName(),
                 description,
                 !isOptional
         );
@@ -325,6 +325,16 @@ public class ParameterDefinition {
         return name;
     }
 
+    /**
+     * Gets the name of the slash command option of this parameter, which is the parameter name converted to snake
+     * case, e.g. {@code targetUser} becomes {@code target_user}.
+     *
+     * @return the option name
+     */
+    public String getOptionName() {
+        return optionName;
+    }
+
     /**
      * Gets the parameter description. Only used for slash commands.
      *
@@ -0,0 +1,347 @@
+package com.github.kaktushose.jda.commands.settings;
+
+import com.github.kaktushose.jda.commands.data.ConcurrentLongMap;
+import com.github.kaktushose.jda.commands.data.Repository;
+import net.dv8tion.jda.api.entities.Guild;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Implementation of {@link SettingsProvider} that caches {@link GuildSettings} per guild, so that looking up the
+ * settings of a message costs a map probe instead of I/O. Cache entries expire after a time to live and the least
+ * recently used entries get evicted once the maximum size is exceeded.
+ *
+ * <p>The settings are either loaded from another {@link SettingsProvider} or from a {@link Repository}. In the latter
+ * case {@link #save(GuildSettings)} and {@link #delete(long)} write through to the {@link Repository} and guilds that
+ * aren't stored yet get the settings of a default {@link SettingsProvider}. To use it as custom implementation,
+ * subclass it and annotate the subclass with {@link com.github.kaktushose.jda.commands.annotations.Component Component}:
+ * <pre>
+ * {@code
+ * @Component
+ * public class MySettingsProvider extends CachingSettingsProvider {
+ *     public MySettingsProvider() {
+ *         super(new GuildSettingsJsonRepository("settings.json"), new DefaultSettingsProvider());
+ *     }
+ * }
+ * }
+ * </pre>
+ *
+ * <p>Direct messages use the guild id {@code 0}.
+ *
+ * @author Kaktushose
+ * @version 2.3.0
+ * @see SettingsProvider
+ * @since 2.3.0
+ */
+public class CachingSettingsProvider implements SettingsProvider {
+
+    private static final Logger log = LoggerFactory.getLogger(CachingSettingsProvider.class);
+    private static final long DIRECT_MESSAGES = 0;
+    private final SettingsProvider delegate;
+    private final Repository<GuildSettings> repository;
+    private final ConcurrentLongMap<Entry> cache;
+    private final List<InvalidationListener> listeners;
+    private final LongAdder hits;
+    private final LongAdder misses;
+    private final LongAdder evictions;
+    private volatile long timeToLive;
+    private volatile int maxSize;
+
+    /**
+     * Constructs a new CachingSettingsProvider that caches the {@link GuildSettings} of another
+     * {@link SettingsProvider}.
+     *
+     * @param delegate the {@link SettingsProvider} to load the {@link GuildSettings} from
+     */
+    public CachingSettingsProvider(@NotNull SettingsProvider delegate) {
+        this(delegate, null);
+    }
+
+    /**
+     * Constructs a new CachingSettingsProvider that caches the {@link GuildSettings} stored in a {@link Repository}.
+     *
+     * @param repository the {@link Repository} to load the {@link GuildSettings} from and to write them to
+     * @param defaults   the {@link SettingsProvider} to get the settings of guilds from that aren't stored in the
+     *                   {@link Repository}
+     */
+    public CachingSettingsProvider(@NotNull Repository<GuildSettings> repository, @NotNull SettingsProvider defaults) {
+        this(defaults, repository);
+    }
+
+    private CachingSettingsProvider(SettingsProvider delegate, Repository<GuildSettings> repository) {
+        this.delegate = delegate;
+        this.repository = repository;
+        cache = new ConcurrentLongMap<>();
+        listeners = new CopyOnWriteArrayList<>();
+        hits = new LongAdder();
+        misses = new LongAdder();
+        evictions = new LongAdder();
+        timeToLive = TimeUnit.MINUTES.toMillis(10);
+        maxSize = 10_000;
+    }
+
+    @Override
+    public GuildSettings getSettings(@Nullable Guild guild) {
+        long guildId = guild == null ? DIRECT_MESSAGES : guild.getIdLong();
+        long now = System.currentTimeMillis();
+        Entry entry = cache.get(guildId);
+        if (entry != null && entry.expiresAt > now) {
+            entry.lastAccess = now;
+            hits.increment();
+            return entry.settings;
+        }
+        misses.increment();
+        GuildSettings settings = load(guild, guildId);
+        cache(guildId, settings, now);
+        return settings;
+    }
+
+    /**
+     * Saves the {@link GuildSettings} of a guild, the guild is determined by {@link GuildSettings#getGuildId()}. If
+     * this provider is backed by a {@link Repository}, the settings are written through to it.
+     *
+     * @param settings the {@link GuildSettings} to save
+     */
+    public void save(@NotNull GuildSettings settings) {
+        long guildId = settings.getGuildId();
+        if (repository != null) {
+            repository.save(guildId, settings);
+        }
+        cache(guildId, settings, System.currentTimeMillis());
+        notifyListeners(guildId);
+        log.debug("Saved settings of guild {}", guildId);
+    }
+
+    /**
+     * Deletes the {@link GuildSettings} of a guild. If this provider is backed by a {@link Repository}, the settings
+     * are deleted from it as well, else only the cache entry is removed.
+     *
+     * @param guildId the id of the guild
+     */
+    public void delete(long guildId) {
+        if (repository != null) {
+            repository.delete(guildId);
+        }
+        invalidate(guildId);
+    }
+
+    /**
+     * Removes the cache entry of a guild. Call this if the settings have been modified outside of this provider.
+     *
+     * @param guildId the id of the guild
+     */
+    public void invalidate(long guildId) {
+        cache.remove(guildId);
+        notifyListeners(guildId);
+    }
+
+    /**
+     * Removes all cache entries.
+     */
+    public void invalidateAll() {
+        cache.clear();
+        listeners.forEach(InvalidationListener::onInvalidateAll);
+    }
+
+    /**
+     * Adds an {@link InvalidationListener} that gets notified if the settings of a guild got saved or invalidated.
+     *
+     * @param listener the {@link InvalidationListener} to add
+     * @return this instance
+     */
+    public CachingSettingsProvider addInvalidationListener(@NotNull InvalidationListener listener) {
+        listeners.add(listener);
+        return this;
+    }
+
+    /**
+     * Removes an {@link InvalidationListener}.
+     *
+     * @param listener the {@link InvalidationListener} to remove
+     * @return this instance
+     */
+    public CachingSettingsProvider removeInvalidationListener(@NotNull InvalidationListener listener) {
+        listeners.remove(listener);
+        return this;
+    }
+
+    /**
+     * Sets the time after which cache entries expire. Default value is 10 minutes.
+     *
+     * @param duration the time to live
+     * @param unit     the {@link TimeUnit} of the duration
+     * @return this instance
+     */
+    public CachingSettingsProvider setTimeToLive(long duration, @NotNull TimeUnit unit) {
+        timeToLive = unit.toMillis(duration);
+        return this;
+    }
+
+    /**
+     * Sets the maximum amount of cache entries. Default value is 10,000.
+     *
+     * @param maxSize the maximum amount of cache entries
+     * @return this instance
+     */
+    public CachingSettingsProvider setMaxSize(int maxSize) {
+        if (maxSize < 1) {
+            throw new IllegalArgumentException("Max size must be at least 1!");
+        }
+        this.maxSize = maxSize;
+        return this;
+    }
+
+    /**
+     * Gets the {@link Repository} this provider writes through to.
+     *
+     * @return the {@link Repository} or an empty Optional if this provider isn't backed by a {@link Repository}
+     */
+    public Optional<Repository<GuildSettings>> getRepository() {
+        return Optional.ofNullable(repository);
+    }
+
+    /**
+     * Gets the amount of cache entries.
+     *
+     * @return the amount of cache entries
+     */
+    public int size() {
+        return cache.size();
+    }
+
+    /**
+     * Gets the amount of lookups that were answered by the cache.
+     *
+     * @return the amount of cache hits
+     */
+    public long getHitCount() {
+        return hits.sum();
+    }
+
+    /**
+     * Gets the amount of lookups that had to load the settings.
+     *
+     * @return the amount of cache misses
+     */
+    public long getMissCount() {
+        return misses.sum();
+    }
+
+    /**
+     * Gets the amount of entries that were evicted because the maximum size was exceeded.
+     *
+     * @return the amount of evictions
+     */
+    public long getEvictionCount() {
+        return evictions.sum();
+    }
+
+    /**
+     * Gets the ratio of cache hits to all lookups.
+     *
+     * @return the hit rate between {@code 0} and {@code 1}
+     */
+    public double getHitRate() {
+        long hits = getHitCount();
+        long total = hits + getMissCount();
+        return total == 0 ? 0 : (double) hits / total;
+    }
+
+    private GuildSettings load(Guild guild, long guildId) {
+        if (repository != null && guild != null) {
+            GuildSettings settings = repository.findById(guildId).orElse(null);
+            if (settings != null) {
+                return settings;
+            }
+        }
+        return delegate.getSettings(guild);
+    }
+
+    private void cache(long guildId, GuildSettings settings, long now) {
+        cache.put(guildId, new Entry(settings, now + timeToLive, now));
+        if (cache.size() > maxSize) {
+            evict(now);
+        }
+    }
+
+    private synchronized void evict(long now) {
+        int size = cache.size();
+        if (size <= maxSize) {
+            return;
+        }
+        // remove expired entries first, then the least recently used ones down to 90% of the maximum size
+        long[] ids = new long[size];
+        long[] accesses = new long[size];
+        int[] count = {0};
+        cache.forEach((id, entry) -> {
+            if (entry.expiresAt <= now) {
+                cache.remove(id);
+            } else if (count[0] < ids.length) {
+                ids[count[0]] = id;
+                accesses[count[0]] = entry.lastAccess;
+                count[0]++;
+            }
+        });
+        int excess = cache.size() - maxSize * 9 / 10;
+        if (excess <= 0) {
+            return;
+        }
+        long[] sorted = Arrays.copyOf(accesses, count[0]);
+        Arrays.sort(sorted);
+        long threshold = sorted[Math.min(excess, sorted.length) - 1];
+        for (int i = 0; i < count[0] && excess > 0; i++) {
+            if (accesses[i] <= threshold && cache.remove(ids[i]) != null) {
+                evictions.increment();
+                excess--;
+            }
+        }
+        log.debug("Evicted least recently used settings, {} entries left", cache.size());
+    }
+
+    private void notifyListeners(long guildId) {
+        for (InvalidationListener listener : listeners) {
+            listener.onInvalidate(guildId);
+        }
+    }
+
+    /**
+     * Listener that gets notified if cached {@link GuildSettings} are no longer valid.
+     */
+    public interface InvalidationListener {
+
+        /**
+         * Called if the settings of a guild got saved or invalidated.
+         *
+         * @param guildId the id of the guild or {@code 0} for direct messages
+         */
+        void onInvalidate(long guildId);
+
+        /**
+         * Called if all settings got invalidated.
+         */
+        default void onInvalidateAll() {
+        }
+    }
+
+    private static class Entry {
+        private final GuildSettings settings;
+        private final long expiresAt;
+        // not volatile on purpose, a slightly outdated access time only makes the eviction less precise
+        private long lastAccess;
+
+        private Entry(GuildSettings settings, long expiresAt, long lastAccess) {
+            this.settings = settings;
+            this.expiresAt = expiresAt;
+            this.lastAccess = lastAccess;
+        }
+    }
+}
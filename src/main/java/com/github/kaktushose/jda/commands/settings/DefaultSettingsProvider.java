@@ -14,7 +14,7 @@ import java.util.Properties;
  * folder.
  *
  * @author Kaktushose
- * @version 2.0.0
+ * @version 2.3.0
  * @see SettingsProvider
  * @since 2.0.0
  */
@@ -38,6 +38,7 @@ public class DefaultSettingsProvider implements SettingsProvider {
             settings.setIgnoreBots(Boolean.parseBoolean(properties.getProperty("ignoreBots", "true")));
             settings.setParseQuotes(Boolean.parseBoolean(properties.getProperty("parseQuotes", "true")));
             settings.setMaxDistance(Integer.parseInt(properties.getProperty("maxDistance", "3")));
+            settings.setMentionPrefix(Boolean.parseBoolean(properties.getProperty("mentionPrefix", "false")));
 
             String helpLabels = properties.getProperty("helpLabels", "help");
             String[] labels = helpLabels.split(", ");
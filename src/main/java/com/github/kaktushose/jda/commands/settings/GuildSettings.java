@@ -10,7 +10,7 @@ import java.util.Set;
  * Container for all command execution settings.
  *
  * @author Kaktushose
- * @version 2.0.0
+ * @version 2.3.0
  * @see GuildSettings
  * @since 2.0.0
  */
@@ -25,6 +25,7 @@ public class GuildSettings {
     private Set<Long> mutedChannels;
     private boolean isMutedGuild;
     private int maxDistance;
+    private boolean mentionPrefix;
 
     /**
      * Constructs a new GuildSettings object with the following default values.
@@ -37,6 +38,7 @@ public class GuildSettings {
      *     <li>mutedChannels: none</li>
      *     <li>isMutedGuild: false</li>
      *     <li>maxDistance: 3</li>
+     *     <li>mentionPrefix: false</li>
      * </ul>
      */
     public GuildSettings() {
@@ -77,6 +79,35 @@ public class GuildSettings {
                          @NotNull Set<Long> mutedChannels,
                          boolean isMutedGuild,
                          int maxDistance) {
+        this(guildId, prefix, ignoreCase, ignoreBots, parseQuotes, helpLabels, mutedChannels, isMutedGuild, maxDistance,
+                false);
+    }
+
+    /**
+     * Constructs a new GuildSettings object.
+     *
+     * @param guildId       the guild id
+     * @param prefix        the prefix to use
+     * @param ignoreCase    whether to ignore the case
+     * @param ignoreBots    whether to ignore the case
+     * @param parseQuotes   whether to concatenate quotes, e.g. {@code foo "quote string" bar} ->
+     *                      {@code ["foo", "quote string", "bar"]}
+     * @param helpLabels    a set of all help labels
+     * @param mutedChannels a set of muted channels
+     * @param isMutedGuild  whether this guild should be ignored completely
+     * @param maxDistance   the maximal Levenshtein distance to use when routing commands
+     * @param mentionPrefix whether mentioning the bot can be used instead of the prefix
+     */
+    public GuildSettings(long guildId,
+                         @NotNull String prefix,
+                         boolean ignoreCase,
+                         boolean ignoreBots,
+                         boolean parseQuotes,
+                         @NotNull Set<String> helpLabels,
+                         @NotNull Set<Long> mutedChannels,
+                         boolean isMutedGuild,
+                         int maxDistance,
+                         boolean mentionPrefix) {
         this.guildId = guildId;
         this.prefix = prefix;
         this.ignoreCase = ignoreCase;
@@ -86,6 +117,30 @@ public class GuildSettings {
         this.mutedChannels = mutedChannels;
         this.isMutedGuild = isMutedGuild;
         this.maxDistance = maxDistance;
+        this.mentionPrefix = mentionPrefix;
+    }
+
+    /**
+     * Creates a copy of this GuildSettings object. The help labels and the muted channels are copied as well, thus the
+     * copy can be modified without affecting this instance, e.g. inside of
+     * {@link com.github.kaktushose.jda.commands.data.JsonRepository#update(long, java.util.function.UnaryOperator)
+     * JsonRepository#update(long, UnaryOperator)}.
+     *
+     * @return a copy of this GuildSettings object
+     */
+    @NotNull
+    public GuildSettings copy() {
+        return new GuildSettings(guildId,
+                prefix,
+                ignoreCase,
+                ignoreBots,
+                parseQuotes,
+                new HashSet<>(helpLabels),
+                new HashSet<>(mutedChannels),
+                isMutedGuild,
+                maxDistance,
+                mentionPrefix
+        );
     }
 
     /**
@@ -182,6 +237,26 @@ public class GuildSettings {
         return this;
     }
 
+    /**
+     * Whether mentioning the bot can be used instead of the prefix, e.g. {@code @Bot help}.
+     *
+     * @return {@code true} if mentioning the bot can be used as prefix
+     */
+    public boolean isMentionPrefix() {
+        return mentionPrefix;
+    }
+
+    /**
+     * Whether mentioning the bot can be used instead of the prefix, e.g. {@code @Bot help}.
+     *
+     * @param mentionPrefix {@code true} if mentioning the bot can be used as prefix
+     * @return this instance
+     */
+    public GuildSettings setMentionPrefix(boolean mentionPrefix) {
+        this.mentionPrefix = mentionPrefix;
+        return this;
+    }
+
     /**
      * Gets a set of all help labels.
      *
@@ -274,6 +349,7 @@ public class GuildSettings {
                 ", mutedChannels=" + mutedChannels +
                 ", isMuted=" + isMutedGuild +
                 ", maxDistance=" + maxDistance +
+                ", mentionPrefix=" + mentionPrefix +
                 '}';
     }
 }
@@ -0,0 +1,193 @@
+package com.github.kaktushose.jda.commands.data;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.CountDownLatch;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ConcurrentLongMapTest {
+
+    private ConcurrentLongMap<String> map;
+
+    @BeforeEach
+    public void setup() {
+        map = new ConcurrentLongMap<>();
+    }
+
+    private void assertContainsExactly(Map<Long, String> expected) {
+        assertEquals(expected.size(), map.size());
+        for (Map.Entry<Long, String> entry : expected.entrySet()) {
+            assertEquals(entry.getValue(), map.get(entry.getKey()), "Lost key " + entry.getKey());
+        }
+        Map<Long, String> actual = new HashMap<>();
+        map.forEach(actual::put);
+        assertEquals(expected, actual);
+    }
+
+    @Test
+    public void put_WithExistingKey_ShouldReplaceValue() {
+        assertNull(map.put(1, "one"));
+        assertEquals("one", map.put(1, "uno"));
+
+        assertEquals("uno", map.get(1));
+        assertEquals(1, map.size());
+    }
+
+    @Test
+    public void remove_WithAbsentKey_ShouldReturnNull() {
+        map.put(1, "one");
+
+        assertNull(map.remove(2));
+        assertEquals(1, map.size());
+    }
+
+    @Test
+    public void remove_WithExpectedValue_ShouldOnlyRemoveSameInstance() {
+        String value = "one";
+        map.put(1, value);
+
+        assertFalse(map.remove(1, new String("one")));
+        assertTrue(map.remove(1, value));
+        assertFalse(map.containsKey(1));
+    }
+
+    @Test
+    public void replace_WithExpectedValue_ShouldOnlyReplaceSameInstance() {
+        String value = "one";
+        map.put(1, value);
+
+        assertFalse(map.replace(1, new String("one"), "uno"));
+        assertTrue(map.replace(1, value, "uno"));
+        assertEquals("uno", map.get(1));
+    }
+
+    @Test
+    public void computeIfAbsent_WithNullResult_ShouldNotInsert() {
+        assertNull(map.computeIfAbsent(1, key -> null));
+        assertFalse(map.containsKey(1));
+        assertEquals("1", map.computeIfAbsent(1, String::valueOf));
+        assertEquals("1", map.computeIfAbsent(1, key -> "other"));
+    }
+
+    @Test
+    public void remove_WithRandomOperations_ShouldKeepProbeSequencesIntact() {
+        // a small key space causes long probe sequences, deletions in their middle must not hide the keys behind
+        Random random = new Random(42);
+        Map<Long, String> expected = new HashMap<>();
+        for (int i = 0; i < 100_000; i++) {
+            long key = random.nextInt(2048);
+            if (random.nextInt(3) == 0) {
+                assertEquals(expected.remove(key), map.remove(key));
+            } else {
+                String value = String.valueOf(i);
+                assertEquals(expected.put(key, value), map.put(key, value));
+            }
+            if (i % 1000 == 0) {
+                assertContainsExactly(expected);
+            }
+        }
+        assertContainsExactly(expected);
+    }
+
+    @Test
+    public void remove_WithSequentialSnowflakes_ShouldKeepRemainingKeys() {
+        Map<Long, String> expected = new HashMap<>();
+        long base = 393843637437464588L;
+        for (int i = 0; i < 10_000; i++) {
+            long key = base + ((long) i << 22);
+            map.put(key, String.valueOf(i));
+            expected.put(key, String.valueOf(i));
+        }
+        for (int i = 0; i < 10_000; i += 2) {
+            long key = base + ((long) i << 22);
+            assertEquals(String.valueOf(i), map.remove(key));
+            expected.remove(key);
+        }
+
+        assertContainsExactly(expected);
+    }
+
+    @Test
+    public void clear_ShouldRemoveAllKeys() {
+        for (int i = 0; i < 1000; i++) {
+            map.put(i, String.valueOf(i));
+        }
+
+        map.clear();
+
+        assertTrue(map.isEmpty());
+        assertNull(map.get(1));
+        map.put(1, "one");
+        assertEquals("one", map.get(1));
+    }
+
+    @Test
+    public void asMap_ShouldWriteThrough() {
+        Map<Long, String> view = map.asMap();
+        view.put(1L, "one");
+        view.put(2L, "two");
+        map.put(3, "three");
+
+        assertEquals("three", view.get(3L));
+        assertEquals(3, view.size());
+
+        Iterator<Map.Entry<Long, String>> iterator = view.entrySet().iterator();
+        while (iterator.hasNext()) {
+            Map.Entry<Long, String> entry = iterator.next();
+            if (entry.getKey() == 1L) {
+                iterator.remove();
+            } else if (entry.getKey() == 2L) {
+                entry.setValue("zwei");
+            }
+        }
+
+        assertFalse(map.containsKey(1));
+        assertEquals("zwei", map.get(2));
+        assertNull(view.get("not a long"));
+    }
+
+    @Test
+    public void put_WithConcurrentWriters_ShouldKeepAllKeys() throws InterruptedException {
+        int threads = 4;
+        int keys = 20_000;
+        CountDownLatch start = new CountDownLatch(1);
+        List<Thread> writers = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            int offset = t;
+            Thread thread = new Thread(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    return;
+                }
+                for (int i = offset; i < keys; i += threads) {
+                    map.put(i, String.valueOf(i));
+                    // every writer removes half of its keys again to interleave shifts with lookups of others
+                    if (i % 2 == 0) {
+                        map.remove(i);
+                    }
+                }
+            });
+            thread.start();
+            writers.add(thread);
+        }
+        start.countDown();
+        for (Thread thread : writers) {
+            thread.join();
+        }
+
+        Map<Long, String> expected = new HashMap<>();
+        for (int i = 1; i < keys; i += 2) {
+            expected.put((long) i, String.valueOf(i));
+        }
+        assertContainsExactly(expected);
+    }
+}
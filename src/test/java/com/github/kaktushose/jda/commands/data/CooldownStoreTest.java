@@ -0,0 +1,115 @@
+package com.github.kaktushose.jda.commands.data;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class CooldownStoreTest {
+
+    private static final long HOUR = TimeUnit.HOURS.toMillis(1);
+    private CooldownStore store;
+
+    @BeforeEach
+    public void setup() {
+        store = new CooldownStore(10_000, 1, TimeUnit.HOURS);
+    }
+
+    @AfterEach
+    public void cleanup() {
+        store.close();
+    }
+
+    @Test
+    public void acquire_WithActiveCooldown_ShouldReturnRemainingTime() {
+        assertEquals(0, store.acquire(1, 1, HOUR));
+
+        long remaining = store.acquire(1, 1, HOUR);
+
+        assertTrue(remaining > 0 && remaining <= HOUR);
+    }
+
+    @Test
+    public void acquire_WithDifferentScopeOrCommand_ShouldBeIndependent() {
+        assertEquals(0, store.acquire(1, 1, HOUR));
+
+        assertEquals(0, store.acquire(2, 1, HOUR));
+        assertEquals(0, store.acquire(1, 2, HOUR));
+    }
+
+    @Test
+    public void acquire_WithExpiredCooldown_ShouldStartNewCooldown() throws InterruptedException {
+        assertEquals(0, store.acquire(1, 1, 10));
+
+        Thread.sleep(50);
+
+        assertEquals(0, store.acquire(1, 1, 10));
+    }
+
+    @Test
+    public void acquire_WithBurst_ShouldAllowBurstPermits() {
+        for (int i = 0; i < 3; i++) {
+            assertEquals(0, store.acquire(1, 1, HOUR, 3));
+        }
+
+        assertTrue(store.acquire(1, 1, HOUR, 3) > 0);
+    }
+
+    @Test
+    public void release_ShouldGiveBackPermit() {
+        assertEquals(0, store.acquire(1, 1, HOUR, 1));
+
+        store.release(1, 1, HOUR);
+
+        assertEquals(0, store.acquire(1, 1, HOUR, 1));
+        assertTrue(store.acquire(1, 1, HOUR, 1) > 0);
+    }
+
+    @Test
+    public void reset_ShouldRemoveCooldown() {
+        store.acquire(1, 1, HOUR);
+
+        store.reset(1, 1);
+
+        assertEquals(0, store.acquire(1, 1, HOUR));
+    }
+
+    @Test
+    public void sweep_WithMixedExpiries_ShouldOnlyRemoveExpiredEntries() throws InterruptedException {
+        for (int i = 0; i < 1000; i++) {
+            store.acquire(i, 1, i % 2 == 0 ? 1 : HOUR);
+        }
+        Thread.sleep(20);
+
+        store.sweep();
+
+        assertEquals(500, store.size());
+        for (int i = 1; i < 1000; i += 2) {
+            assertTrue(store.acquire(i, 1, HOUR) > 0, "Lost cooldown of scope " + i);
+        }
+    }
+
+    @Test
+    public void acquire_WithFullStore_ShouldEvictEarliestDeadline() {
+        CooldownStore bounded = new CooldownStore(64, 1, TimeUnit.HOURS);
+        try {
+            for (int i = 0; i < 200; i++) {
+                bounded.acquire(i, 1, HOUR + i);
+            }
+
+            assertTrue(bounded.size() <= bounded.getMaxEntries());
+            assertTrue(bounded.acquire(199, 1, HOUR) > 0);
+            assertEquals(0, bounded.acquire(0, 1, HOUR));
+        } finally {
+            bounded.close();
+        }
+    }
+
+    @Test
+    public void constructor_WithoutEntries_ShouldThrow() {
+        assertThrows(IllegalArgumentException.class, () -> new CooldownStore(0, 1, TimeUnit.HOURS));
+    }
+}
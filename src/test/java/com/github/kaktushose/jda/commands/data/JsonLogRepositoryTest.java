@@ -0,0 +1,207 @@
+package com.github.kaktushose.jda.commands.data;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class JsonLogRepositoryTest {
+
+    @TempDir
+    Path directory;
+    private File file;
+    private JsonLogRepository<String> repository;
+
+    @BeforeEach
+    public void setup() {
+        file = directory.resolve("log.json").toFile();
+        repository = open();
+    }
+
+    @AfterEach
+    public void cleanup() {
+        repository.close();
+    }
+
+    private JsonLogRepository<String> open() {
+        return new JsonLogRepository<String>(file, String.class).setSyncInterval(0, TimeUnit.SECONDS);
+    }
+
+    private JsonLogRepository<String> reopen() {
+        repository.close();
+        repository = open();
+        return repository;
+    }
+
+    private List<String> lines() throws IOException {
+        return Files.readAllLines(file.toPath(), StandardCharsets.UTF_8);
+    }
+
+    @Test
+    public void save_WithReopen_ShouldRestoreEntities() {
+        repository.save(1, "one");
+        repository.save(2, "two");
+        repository.save(1, "uno");
+
+        reopen();
+
+        assertEquals(2, repository.count());
+        assertEquals(Optional.of("uno"), repository.findById(1));
+        assertEquals(Optional.of("two"), repository.findById(2));
+    }
+
+    @Test
+    public void delete_WithReopen_ShouldStayDeleted() {
+        repository.save(1, "one");
+        repository.save(2, "two");
+        repository.delete(1);
+        repository.save(3, null);
+
+        reopen();
+
+        assertEquals(1, repository.count());
+        assertFalse(repository.existsById(1));
+        assertFalse(repository.existsById(3));
+        assertTrue(repository.existsById(2));
+    }
+
+    @Test
+    public void saveAll_WithReopen_ShouldRestoreEntities() {
+        Map<Long, String> entities = new HashMap<>();
+        entities.put(1L, "one");
+        entities.put(2L, "two");
+        repository.saveAll(entities);
+        repository.deleteAll(Arrays.asList(2L, 3L));
+
+        reopen();
+
+        assertEquals(1, repository.count());
+        assertEquals(Optional.of("one"), repository.findById(1));
+    }
+
+    @Test
+    public void recover_WithTornTail_ShouldDiscardIncompleteLine() throws IOException {
+        repository.save(1, "one");
+        repository.save(2, "two");
+        repository.close();
+        long valid = file.length();
+        Files.write(file.toPath(), "{\"id\":3,\"val".getBytes(StandardCharsets.UTF_8), StandardOpenOption.APPEND);
+
+        repository = open();
+
+        assertEquals(2, repository.count());
+        assertFalse(repository.existsById(3));
+        assertEquals(valid, file.length());
+    }
+
+    @Test
+    public void recover_WithTornTail_ShouldAppendAfterValidLines() throws IOException {
+        repository.save(1, "one");
+        repository.close();
+        Files.write(file.toPath(), "{\"id\":2".getBytes(StandardCharsets.UTF_8), StandardOpenOption.APPEND);
+        repository = open();
+
+        repository.save(2, "two");
+        reopen();
+
+        assertEquals(Optional.of("one"), repository.findById(1));
+        assertEquals(Optional.of("two"), repository.findById(2));
+        assertEquals(2, lines().size());
+    }
+
+    @Test
+    public void recover_WithMalformedLineInTheMiddle_ShouldSkipOnlyThatLine() throws IOException {
+        repository.close();
+        String content = "{\"id\":1,\"value\":\"one\"}\nnot json\n{\"id\":2,\"value\":\"two\"}\n";
+        Files.write(file.toPath(), content.getBytes(StandardCharsets.UTF_8));
+
+        repository = open();
+
+        assertEquals(2, repository.count());
+        assertEquals(content.length(), file.length());
+    }
+
+    @Test
+    public void recover_WithJsonRepositoryFile_ShouldLoadEntities() throws IOException {
+        repository.close();
+        Files.write(file.toPath(), "{\"1\":\"one\",\"2\":\"two\"}".getBytes(StandardCharsets.UTF_8));
+        repository = open();
+
+        repository.save(3, "three");
+        reopen();
+
+        assertEquals(3, repository.count());
+        assertEquals(Optional.of("one"), repository.findById(1));
+        assertEquals(Optional.of("three"), repository.findById(3));
+    }
+
+    @Test
+    public void compact_WithOverwrittenEntities_ShouldKeepOnlyCurrentState() throws IOException {
+        repository.setMinCompactionSize(10);
+        for (int i = 0; i < 100; i++) {
+            repository.save(i % 3, "value" + i);
+        }
+
+        assertTrue(lines().size() <= 10);
+
+        reopen();
+
+        assertEquals(3, repository.count());
+        assertEquals(Optional.of("value99"), repository.findById(0));
+        assertEquals(Optional.of("value97"), repository.findById(1));
+        assertEquals(Optional.of("value98"), repository.findById(2));
+    }
+
+    @Test
+    public void compact_AfterFailure_ShouldBackOffUntilLogDoubled() throws IOException {
+        repository.setMinCompactionSize(10);
+        // a non-empty directory in place of the temporary file lets the compaction fail
+        Path temp = directory.resolve("log.json.tmp");
+        Files.createDirectory(temp);
+        Files.createFile(temp.resolve("blocker"));
+        for (int i = 0; i < 11; i++) {
+            repository.save(1, "value" + i);
+        }
+        assertEquals(11, lines().size());
+
+        Files.delete(temp.resolve("blocker"));
+        Files.delete(temp);
+        for (int i = 11; i < 22; i++) {
+            repository.save(1, "value" + i);
+        }
+        assertEquals(22, lines().size());
+
+        repository.save(1, "value22");
+        assertEquals(1, lines().size());
+
+        reopen();
+
+        assertEquals(Optional.of("value22"), repository.findById(1));
+    }
+
+    @Test
+    public void close_WhenSavingAfterwards_ShouldThrow() {
+        repository.save(1, "one");
+
+        repository.close();
+
+        assertThrows(UncheckedIOException.class, () -> repository.save(2, "two"));
+        assertEquals(Optional.of("one"), reopen().findById(1));
+    }
+}
@@ -0,0 +1,127 @@
+package com.github.kaktushose.jda.commands.data;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TimingWheelTest {
+
+    private TimingWheel wheel;
+
+    @BeforeEach
+    public void setup() {
+        // 8 buckets of 10 ms, thus every delay above 80 ms needs more than one round
+        wheel = new TimingWheel(10, TimeUnit.MILLISECONDS, 8);
+    }
+
+    @AfterEach
+    public void cleanup() {
+        wheel.stop();
+    }
+
+    @Test
+    public void schedule_WithDelay_ShouldNotExecuteBeforeDeadline() throws InterruptedException {
+        CountDownLatch latch = new CountDownLatch(1);
+        long[] executedAt = new long[1];
+        long start = System.nanoTime();
+
+        wheel.schedule(() -> {
+            executedAt[0] = System.nanoTime();
+            latch.countDown();
+        }, 150, TimeUnit.MILLISECONDS);
+
+        assertTrue(latch.await(5, TimeUnit.SECONDS));
+        assertTrue(executedAt[0] - start >= TimeUnit.MILLISECONDS.toNanos(150));
+    }
+
+    @Test
+    public void schedule_WithoutDelay_ShouldExecute() throws InterruptedException {
+        CountDownLatch latch = new CountDownLatch(1);
+
+        wheel.schedule(latch::countDown, 0, TimeUnit.MILLISECONDS);
+
+        assertTrue(latch.await(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void schedule_WithRandomDelays_ShouldExecuteEachTaskOnceAfterItsDeadline() throws InterruptedException {
+        int count = 500;
+        CountDownLatch latch = new CountDownLatch(count);
+        AtomicInteger early = new AtomicInteger();
+        AtomicInteger executions = new AtomicInteger();
+        Random random = new Random(42);
+        for (int i = 0; i < count; i++) {
+            long delay = random.nextInt(300);
+            long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(delay);
+            wheel.schedule(() -> {
+                if (System.nanoTime() < deadline) {
+                    early.incrementAndGet();
+                }
+                executions.incrementAndGet();
+                latch.countDown();
+            }, delay, TimeUnit.MILLISECONDS);
+        }
+
+        assertTrue(latch.await(5, TimeUnit.SECONDS));
+        assertEquals(0, early.get());
+        Thread.sleep(50);
+        assertEquals(count, executions.get());
+    }
+
+    @Test
+    public void cancel_ShouldPreventExecution() throws InterruptedException {
+        AtomicBoolean executed = new AtomicBoolean();
+        CountDownLatch latch = new CountDownLatch(1);
+
+        TimingWheel.Timeout timeout = wheel.schedule(() -> executed.set(true), 20, TimeUnit.MILLISECONDS);
+        timeout.cancel();
+        wheel.schedule(latch::countDown, 100, TimeUnit.MILLISECONDS);
+
+        assertTrue(latch.await(5, TimeUnit.SECONDS));
+        assertTrue(timeout.isCancelled());
+        assertFalse(executed.get());
+    }
+
+    @Test
+    public void schedule_WithFailingTask_ShouldKeepExecutingOtherTasks() throws InterruptedException {
+        CountDownLatch latch = new CountDownLatch(1);
+
+        wheel.schedule(() -> {
+            throw new IllegalStateException("expected");
+        }, 10, TimeUnit.MILLISECONDS);
+        wheel.schedule(latch::countDown, 50, TimeUnit.MILLISECONDS);
+
+        assertTrue(latch.await(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void constructor_WithInvalidArguments_ShouldThrow() {
+        assertThrows(IllegalArgumentException.class, () -> new TimingWheel(0, TimeUnit.MILLISECONDS, 8));
+        assertThrows(IllegalArgumentException.class, () -> new TimingWheel(10, TimeUnit.MILLISECONDS, 0));
+    }
+
+    @Test
+    public void stop_WithPendingTimeout_ShouldNotExecute() throws InterruptedException {
+        AtomicBoolean executed = new AtomicBoolean();
+        wheel.schedule(() -> executed.set(true), 50, TimeUnit.MILLISECONDS);
+
+        wheel.stop();
+        Thread.sleep(150);
+
+        assertFalse(executed.get());
+        assertThrows(IllegalStateException.class, () -> wheel.schedule(() -> {}, 0, TimeUnit.MILLISECONDS));
+    }
+
+    @Test
+    public void stop_WithSharedWheel_ShouldThrow() {
+        assertThrows(IllegalStateException.class, () -> TimingWheel.getShared().stop());
+    }
+}
@@ -0,0 +1,186 @@
+package com.github.kaktushose.jda.commands.data.impl;
+
+import com.github.kaktushose.jda.commands.data.StateStore.Partition;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class FileStateStoreTest {
+
+    @TempDir
+    Path directory;
+    private File file;
+    private FileStateStore store;
+
+    @BeforeEach
+    public void setup() {
+        file = directory.resolve("state.bin").toFile();
+        store = open();
+    }
+
+    @AfterEach
+    public void cleanup() {
+        store.close();
+    }
+
+    private FileStateStore open() {
+        return new FileStateStore(file).setSyncInterval(0, TimeUnit.SECONDS);
+    }
+
+    private FileStateStore reopen() {
+        store.close();
+        store = open();
+        return store;
+    }
+
+    @Test
+    public void put_WithReopen_ShouldRestoreValues() {
+        store.partition("").put("counter", 42);
+        store.partition("1234/menu").put("page", "settings");
+        store.partition("1234/menu").put("page", "help");
+
+        reopen();
+
+        assertEquals(42, store.partition("").get("counter"));
+        assertEquals("help", store.partition("1234/menu").get("page"));
+    }
+
+    @Test
+    public void remove_WithReopen_ShouldStayRemoved() {
+        Partition partition = store.partition("");
+        partition.put("first", 1);
+        partition.put("second", 2);
+        partition.remove("first");
+
+        reopen();
+
+        assertNull(store.partition("").get("first"));
+        assertEquals(new HashSet<>(Arrays.asList("second")), new HashSet<>(store.partition("").keys()));
+    }
+
+    @Test
+    public void drop_WithReopen_ShouldRemovePartition() {
+        store.partition("1234").put("key", "value");
+        store.partition("5678").put("key", "value");
+        store.drop("1234");
+
+        reopen();
+
+        assertTrue(store.partition("1234").keys().isEmpty());
+        assertEquals("value", store.partition("5678").get("key"));
+    }
+
+    @Test
+    public void put_ShouldCopyValues() {
+        StringBuilder value = new StringBuilder("before");
+        store.partition("").put("key", value);
+        value.append(" after");
+
+        assertEquals("before", store.partition("").get("key").toString());
+    }
+
+    @Test
+    public void recover_WithTornTail_ShouldDiscardIncompleteRecord() throws IOException {
+        store.partition("").put("first", "one");
+        store.partition("").put("second", "two");
+        store.close();
+        long length = file.length();
+        try (RandomAccessFile raf = new RandomAccessFile(file, "rw")) {
+            // cut the last record in half, as if the process died while appending it
+            raf.setLength(length - 3);
+        }
+
+        store = open();
+
+        assertEquals("one", store.partition("").get("first"));
+        assertNull(store.partition("").get("second"));
+        assertTrue(file.length() < length - 3);
+    }
+
+    @Test
+    public void recover_WithTornTail_ShouldAppendAfterValidRecords() throws IOException {
+        store.partition("").put("first", "one");
+        store.partition("").put("second", "two");
+        store.close();
+        try (RandomAccessFile raf = new RandomAccessFile(file, "rw")) {
+            raf.setLength(file.length() - 3);
+        }
+        store = open();
+
+        store.partition("").put("third", "three");
+        reopen();
+
+        assertEquals("one", store.partition("").get("first"));
+        assertNull(store.partition("").get("second"));
+        assertEquals("three", store.partition("").get("third"));
+    }
+
+    @Test
+    public void recover_WithGarbageTail_ShouldDiscardIt() throws IOException {
+        store.partition("").put("first", "one");
+        store.close();
+        long length = file.length();
+        try (RandomAccessFile raf = new RandomAccessFile(file, "rw")) {
+            raf.seek(length);
+            raf.write(new byte[]{42, 0});
+        }
+
+        store = open();
+
+        assertEquals("one", store.partition("").get("first"));
+        assertEquals(length, file.length());
+    }
+
+    @Test
+    public void compact_WithOverwrittenValues_ShouldKeepCurrentValues() {
+        Partition partition = store.partition("");
+        for (int i = 0; i < 100; i++) {
+            partition.put("key" + i % 3, i);
+        }
+        long length = file.length();
+
+        store.compact();
+
+        assertTrue(file.length() < length);
+        reopen();
+        assertEquals(99, store.partition("").get("key0"));
+        assertEquals(97, store.partition("").get("key1"));
+        assertEquals(98, store.partition("").get("key2"));
+    }
+
+    @Test
+    public void compact_WithConcurrentWrites_ShouldKeepAllValues() throws InterruptedException {
+        Partition partition = store.partition("");
+        for (int i = 0; i < 1000; i++) {
+            partition.put("old" + i, i);
+        }
+        Thread writer = new Thread(() -> {
+            for (int i = 0; i < 1000; i++) {
+                partition.put("new" + i, i);
+                partition.remove("old" + i);
+            }
+        });
+
+        writer.start();
+        for (int i = 0; i < 10; i++) {
+            store.compact();
+        }
+        writer.join();
+        reopen();
+
+        assertEquals(1000, store.partition("").keys().size());
+        assertEquals(999, store.partition("").get("new999"));
+        assertNull(store.partition("").get("old0"));
+    }
+}
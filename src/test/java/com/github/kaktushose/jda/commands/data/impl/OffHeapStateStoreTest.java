@@ -0,0 +1,79 @@
+package com.github.kaktushose.jda.commands.data.impl;
+
+import com.github.kaktushose.jda.commands.data.StateStore.Partition;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class OffHeapStateStoreTest {
+
+    private OffHeapStateStore store;
+
+    @BeforeEach
+    public void setup() {
+        store = new OffHeapStateStore();
+    }
+
+    @AfterEach
+    public void cleanup() {
+        store.close();
+    }
+
+    @Test
+    public void put_WithDifferentSizes_ShouldReturnEqualValues() {
+        Partition partition = store.partition("");
+        partition.put("small", "value");
+        partition.put("medium", new byte[5000]);
+        partition.put("large", new byte[2 << 20]);
+
+        assertEquals("value", partition.get("small"));
+        assertEquals(5000, ((byte[]) partition.get("medium")).length);
+        assertEquals(2 << 20, ((byte[]) partition.get("large")).length);
+    }
+
+    @Test
+    public void remove_ShouldFreeBlocks() {
+        Partition partition = store.partition("");
+        partition.put("key", new byte[1000]);
+        assertTrue(store.getUsedBytes() > 0);
+
+        partition.remove("key");
+
+        assertNull(partition.get("key"));
+        assertEquals(0, store.getUsedBytes());
+    }
+
+    @Test
+    public void drop_ShouldFreeAllBlocksOfPartition() {
+        store.partition("1234").put("first", 1);
+        store.partition("1234").put("second", 2);
+        store.partition("5678").put("first", 1);
+        long used = store.getUsedBytes();
+
+        store.drop("1234");
+
+        assertTrue(store.getUsedBytes() < used);
+        assertTrue(store.partition("1234").keys().isEmpty());
+        assertEquals(1, store.partition("5678").get("first"));
+    }
+
+    @Test
+    public void free_WithBuddyBlocks_ShouldMergeThemForLargerValues() {
+        Partition partition = store.partition("");
+        for (int i = 0; i < 1000; i++) {
+            partition.put("key" + i, new byte[100]);
+        }
+        assertEquals(1 << 20, store.getAllocatedBytes());
+        for (int i = 0; i < 1000; i++) {
+            partition.remove("key" + i);
+        }
+
+        // only fits if all small blocks have been merged back into the whole chunk
+        partition.put("large", new byte[600_000]);
+
+        assertEquals(1 << 20, store.getAllocatedBytes());
+        assertEquals(600_000, ((byte[]) partition.get("large")).length);
+    }
+}
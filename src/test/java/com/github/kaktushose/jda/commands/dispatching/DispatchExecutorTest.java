@@ -0,0 +1,77 @@
+package com.github.kaktushose.jda.commands.dispatching;
+
+import com.github.kaktushose.jda.commands.dispatching.DispatchExecutor.ExecutionMode;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class DispatchExecutorTest {
+
+    private DispatchExecutor executor;
+
+    @BeforeEach
+    public void setup() {
+        executor = new DispatchExecutor();
+    }
+
+    @AfterEach
+    public void cleanup() {
+        executor.shutdown(5, TimeUnit.SECONDS);
+    }
+
+    @Test
+    public void execute_WithInlineMode_ShouldRunOnCallingThread() {
+        AtomicReference<Thread> thread = new AtomicReference<>();
+
+        assertTrue(executor.execute(ExecutionMode.INLINE, () -> thread.set(Thread.currentThread())));
+
+        assertSame(Thread.currentThread(), thread.get());
+    }
+
+    @Test
+    public void resume_WithFutureCompletedOnForeignThread_ShouldNotRunOnCompletingThread() throws Exception {
+        CompletableFuture<Void> adapting = new CompletableFuture<>();
+        AtomicReference<Thread> thread = new AtomicReference<>();
+        CountDownLatch latch = new CountDownLatch(1);
+        Thread gateway = new Thread(() -> adapting.complete(null), "gateway");
+
+        adapting.whenComplete((ignored, throwable) -> executor.resume(ExecutionMode.INLINE, () -> {
+            thread.set(Thread.currentThread());
+            latch.countDown();
+        }));
+        gateway.start();
+        gateway.join();
+
+        assertTrue(latch.await(5, TimeUnit.SECONDS));
+        assertNotSame(gateway, thread.get());
+        assertTrue(thread.get().getName().startsWith("jda-commands-dispatch-"));
+    }
+
+    @Test
+    public void resume_WithDefaultModeInline_ShouldRunOnPool() throws InterruptedException {
+        AtomicReference<Thread> thread = new AtomicReference<>();
+        CountDownLatch latch = new CountDownLatch(1);
+
+        assertTrue(executor.resume(ExecutionMode.DEFAULT, () -> {
+            thread.set(Thread.currentThread());
+            latch.countDown();
+        }));
+
+        assertTrue(latch.await(5, TimeUnit.SECONDS));
+        assertNotSame(Thread.currentThread(), thread.get());
+    }
+
+    @Test
+    public void resume_AfterShutdown_ShouldReject() {
+        executor.shutdown(1, TimeUnit.SECONDS);
+
+        assertFalse(executor.resume(ExecutionMode.INLINE, () -> fail("must not run")));
+    }
+}
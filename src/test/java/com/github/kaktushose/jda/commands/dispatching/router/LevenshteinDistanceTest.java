@@ -0,0 +1,83 @@
+package com.github.kaktushose.jda.commands.dispatching.router;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class LevenshteinDistanceTest {
+
+    @Test
+    public void distance_WithEqualStrings_ShouldReturnZero() {
+        assertEquals(0, LevenshteinDistance.distance("help", "help", 2, false));
+        assertEquals(0, LevenshteinDistance.distance("", "", 0, false));
+    }
+
+    @Test
+    public void distance_WithinBound_ShouldReturnDistance() {
+        assertEquals(1, LevenshteinDistance.distance("help", "hlp", 2, false));
+        assertEquals(1, LevenshteinDistance.distance("help", "helo", 2, false));
+        assertEquals(2, LevenshteinDistance.distance("help", "hepl", 2, false));
+        assertEquals(3, LevenshteinDistance.distance("kitten", "sitting", 3, false));
+        assertEquals(2, LevenshteinDistance.distance("", "ab", 2, false));
+    }
+
+    @Test
+    public void distance_ExceedingBound_ShouldReturnMaxPlusOne() {
+        assertEquals(3, LevenshteinDistance.distance("kitten", "sitting", 2, false));
+        assertEquals(2, LevenshteinDistance.distance("help", "ping", 1, false));
+        assertEquals(3, LevenshteinDistance.distance("a", "abcdef", 2, false));
+    }
+
+    @Test
+    public void distance_WithNegativeBound_ShouldReturnMaxPlusOne() {
+        assertEquals(0, LevenshteinDistance.distance("help", "help", -1, false));
+        assertEquals(-4, LevenshteinDistance.distance("help", "ping", -5, false));
+    }
+
+    @Test
+    public void distance_WithIgnoreCase_ShouldCompareCaseInsensitive() {
+        assertEquals(0, LevenshteinDistance.distance("HeLp", "help", 2, true));
+        assertEquals(2, LevenshteinDistance.distance("HeLp", "help", 2, false));
+    }
+
+    @Test
+    public void distance_WithRandomStrings_ShouldMatchFullMatrix() {
+        Random random = new Random(42);
+        for (int i = 0; i < 10_000; i++) {
+            String first = randomString(random);
+            String second = randomString(random);
+            int max = random.nextInt(5);
+            int expected = Math.min(fullDistance(first, second), max + 1);
+            assertEquals(expected, LevenshteinDistance.distance(first, second, max, false),
+                    first + " / " + second + " / " + max);
+        }
+    }
+
+    private static String randomString(Random random) {
+        char[] chars = new char[random.nextInt(8)];
+        for (int i = 0; i < chars.length; i++) {
+            chars[i] = (char) ('a' + random.nextInt(3));
+        }
+        return new String(chars);
+    }
+
+    private static int fullDistance(String first, String second) {
+        int[][] matrix = new int[first.length() + 1][second.length() + 1];
+        for (int i = 0; i <= first.length(); i++) {
+            matrix[i][0] = i;
+        }
+        for (int j = 0; j <= second.length(); j++) {
+            matrix[0][j] = j;
+        }
+        for (int i = 1; i <= first.length(); i++) {
+            for (int j = 1; j <= second.length(); j++) {
+                int cost = first.charAt(i - 1) == second.charAt(j - 1) ? 0 : 1;
+                matrix[i][j] = Math.min(Math.min(matrix[i - 1][j] + 1, matrix[i][j - 1] + 1),
+                        matrix[i - 1][j - 1] + cost);
+            }
+        }
+        return matrix[first.length()][second.length()];
+    }
+}
@@ -0,0 +1,101 @@
+package com.github.kaktushose.jda.commands.embeds;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class EmbedTemplateTest {
+
+    private static EmbedDTO embed() {
+        return new EmbedDTO(
+                "Hello {user}",
+                "You have {count} new {item}s, {user}!",
+                "https://example.com/{user}",
+                "#{color}",
+                null,
+                new EmbedDTO.Footer("https://example.com/{icon}.png", "Requested by {user}"),
+                new EmbedDTO.Thumbnail("https://example.com/thumbnail.png"),
+                null,
+                new EmbedDTO.Author("{user}", null, "https://example.com/{icon}.png"),
+                new EmbedDTO.Field[]{
+                        new EmbedDTO.Field("{item}", "{count}", true),
+                        new EmbedDTO.Field("Plain", "text", false)
+                }
+        );
+    }
+
+    private static Map<String, Object> values() {
+        Map<String, Object> values = new HashMap<>();
+        values.put("user", "Kaktushose");
+        values.put("count", 3);
+        values.put("item", "message");
+        values.put("color", "ff0000");
+        values.put("icon", "avatar");
+        return values;
+    }
+
+    @Test
+    public void render_WithAllValues_ShouldMatchInjectValues() {
+        EmbedTemplate template = new EmbedTemplate(embed());
+
+        assertEquals(embed().injectValues(values()).toString(), template.render(values()).toString());
+    }
+
+    @Test
+    public void render_WithoutValues_ShouldKeepPlaceholders() {
+        EmbedTemplate template = new EmbedTemplate(embed());
+
+        assertEquals(embed().toString(), template.render().toString());
+    }
+
+    @Test
+    public void render_WithMissingValue_ShouldKeepItsPlaceholder() {
+        EmbedDTO rendered = new EmbedTemplate(embed()).render(Collections.singletonMap("user", "Kaktushose"));
+
+        assertEquals("You have {count} new {item}s, Kaktushose!", rendered.getDescription());
+    }
+
+    @Test
+    public void render_WithNullSections_ShouldKeepThemNull() {
+        EmbedDTO rendered = new EmbedTemplate(new EmbedDTO()).render(values());
+
+        assertNull(rendered.getTitle());
+        assertNull(rendered.getFooter());
+        assertNull(rendered.getFields());
+    }
+
+    @Test
+    public void render_WithValueContainingPlaceholder_ShouldInsertLiterally() {
+        EmbedDTO embed = new EmbedDTO();
+        embed.setTitle("{first} {second}");
+        Map<String, Object> values = new HashMap<>();
+        values.put("first", "{second}");
+        values.put("second", "value");
+
+        assertEquals("{second} value", new EmbedTemplate(embed).render(values).getTitle());
+    }
+
+    @Test
+    public void render_WithUnbalancedBraces_ShouldOnlyReplaceInnermostPlaceholder() {
+        EmbedDTO embed = new EmbedDTO();
+        embed.setTitle("{{user} } {user");
+
+        assertEquals("{Kaktushose } {user", new EmbedTemplate(embed).render(values()).getTitle());
+    }
+
+    @Test
+    public void render_Twice_ShouldNotModifyTemplate() {
+        EmbedTemplate template = new EmbedTemplate(embed());
+        template.render(values());
+
+        EmbedDTO rendered = template.render(Collections.singletonMap("user", "someone"));
+
+        assertEquals("Hello someone", rendered.getTitle());
+        assertEquals("{item}", rendered.getFields()[0].getName());
+        assertTrue(rendered.getFields()[0].isInline());
+    }
+}
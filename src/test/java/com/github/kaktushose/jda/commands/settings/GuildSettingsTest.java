@@ -0,0 +1,72 @@
+package com.github.kaktushose.jda.commands.settings;
+
+import com.github.kaktushose.jda.commands.data.impl.GuildSettingsJsonRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class GuildSettingsTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    public void copy_ShouldCopyAllFields() {
+        GuildSettings settings = new GuildSettings().setGuildId(1).setPrefix("?").setMentionPrefix(true).setMaxDistance(1);
+
+        GuildSettings copy = settings.copy();
+
+        assertNotSame(settings, copy);
+        assertEquals(settings.toString(), copy.toString());
+        assertTrue(copy.isMentionPrefix());
+    }
+
+    @Test
+    public void copy_WhenModified_ShouldNotAffectOriginal() {
+        GuildSettings settings = new GuildSettings();
+
+        GuildSettings copy = settings.copy();
+        copy.getHelpLabels().add("commands");
+        copy.getMutedChannels().add(1L);
+        copy.setPrefix("?");
+
+        assertFalse(settings.getHelpLabels().contains("commands"));
+        assertTrue(settings.getMutedChannels().isEmpty());
+        assertEquals("!", settings.getPrefix());
+    }
+
+    @Test
+    public void update_WithConcurrentCopies_ShouldNotLoseWrites() throws InterruptedException {
+        GuildSettingsJsonRepository repository = new GuildSettingsJsonRepository(directory.resolve("settings.json").toFile());
+        repository.save(1, new GuildSettings().setGuildId(1));
+        int threads = 4;
+        int updates = 250;
+
+        List<Thread> workers = new ArrayList<>();
+        for (int i = 0; i < threads; i++) {
+            long offset = i * updates;
+            Thread worker = new Thread(() -> {
+                for (long channel = offset; channel < offset + updates; channel++) {
+                    long id = channel;
+                    repository.update(1, settings -> {
+                        GuildSettings copy = settings.copy();
+                        copy.getMutedChannels().add(id);
+                        return copy;
+                    });
+                }
+            });
+            workers.add(worker);
+            worker.start();
+        }
+        for (Thread worker : workers) {
+            worker.join();
+        }
+
+        assertEquals(threads * updates, repository.findById(1).get().getMutedChannels().size());
+    }
+}